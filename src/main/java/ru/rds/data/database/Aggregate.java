@@ -0,0 +1,86 @@
+package ru.rds.data.database;
+
+/**
+ * Описание агрегата, вычисляемого на стороне БД (см. {@link Table#aggregate(java.util.List, java.util.List, java.util.List, ru.rds.data.storage.SelectionType)})
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class Aggregate {
+
+	// Агрегатная функция
+	private AggregateFunction function;
+	// Название Колонки, к значениям которой применяется функция (для COUNT может быть NULL - тогда будет COUNT(*))
+	private String            columnName;
+	// Название, под которым значение агрегата будет доступно в Строке результата
+	private String            alias;
+
+	public Aggregate() {
+	}
+
+	public Aggregate(AggregateFunction function, String columnName, String alias) {
+		this.function = function;
+		this.columnName = columnName;
+		this.alias = alias;
+	}
+
+	public static Aggregate count(String alias) {
+		return new Aggregate(AggregateFunction.COUNT, null, alias);
+	}
+
+	public static Aggregate count(String columnName, String alias) {
+		return new Aggregate(AggregateFunction.COUNT, columnName, alias);
+	}
+
+	public static Aggregate sum(String columnName, String alias) {
+		return new Aggregate(AggregateFunction.SUM, columnName, alias);
+	}
+
+	public static Aggregate min(String columnName, String alias) {
+		return new Aggregate(AggregateFunction.MIN, columnName, alias);
+	}
+
+	public static Aggregate max(String columnName, String alias) {
+		return new Aggregate(AggregateFunction.MAX, columnName, alias);
+	}
+
+	public static Aggregate avg(String columnName, String alias) {
+		return new Aggregate(AggregateFunction.AVG, columnName, alias);
+	}
+
+	public AggregateFunction getFunction() {
+		return function;
+	}
+
+	public void setFunction(AggregateFunction function) {
+		this.function = function;
+	}
+
+	public String getColumnName() {
+		return columnName;
+	}
+
+	public void setColumnName(String columnName) {
+		this.columnName = columnName;
+	}
+
+	/**
+	 * Получение названия, под которым значение агрегата будет доступно в Строке результата.
+	 * Если название не задано, то оно формируется из названия функции и Колонки (например, <code>sum_price</code>)
+	 *
+	 * @return
+	 */
+	public String getAlias() {
+		if (alias == null || alias.isEmpty()) {
+			String functionName = function.name().toLowerCase();
+			return columnName != null ? functionName + "_" + columnName : functionName;
+		}
+		return alias;
+	}
+
+	public void setAlias(String alias) {
+		this.alias = alias;
+	}
+
+}
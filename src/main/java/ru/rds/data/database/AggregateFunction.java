@@ -0,0 +1,23 @@
+package ru.rds.data.database;
+
+/**
+ * Агрегатная функция SQL
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public enum AggregateFunction {
+
+	// Количество
+	COUNT,
+	// Сумма
+	SUM,
+	// Минимальное значение
+	MIN,
+	// Максимальное значение
+	MAX,
+	// Среднее значение
+	AVG
+
+}
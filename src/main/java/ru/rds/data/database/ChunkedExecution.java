@@ -0,0 +1,112 @@
+package ru.rds.data.database;
+
+import java.util.List;
+import java.util.function.Consumer;
+import ru.rds.data.database.common.AssertChecker;
+import ru.rds.data.database.common.ProgressListener;
+
+/**
+ * Настройки порционного выполнения массовых изменений (см. {@link Table#updateElements(Row, ru.rds.data.database.conditions.Condition, ChunkedExecution)}
+ * и {@link Table#deleteElements(ru.rds.data.database.conditions.Condition, ChunkedExecution)}).
+ * <p>
+ * Строки обходятся по возрастанию первичного ключа диапазонами по {@link #getChunkSize()} строк, каждый диапазон фиксируется отдельной транзакцией.
+ * После фиксации очередного диапазона его последний ключ сохраняется в {@link #getLastKey()}, поэтому после сбоя достаточно повторить вызов
+ * с тем же объектом настроек - обработка продолжится со следующего диапазона
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class ChunkedExecution {
+
+	// Количество строк в одном диапазоне
+	private int                    chunkSize = 1000;
+	// Пауза между диапазонами (в миллисекундах)
+	private long                   pauseMillis;
+	// Последний обработанный ключ (значения Колонок первичного ключа в порядке Table#getIdColumns)
+	private List<Object>           lastKey;
+	// Получатель сведений о количестве обработанных строк
+	private ProgressListener       progressListener;
+	// Получатель последнего обработанного ключа после фиксации каждого диапазона
+	private Consumer<List<Object>> checkpointListener;
+
+	public ChunkedExecution() {
+	}
+
+	public ChunkedExecution(int chunkSize, long pauseMillis) {
+		setChunkSize(chunkSize);
+		this.pauseMillis = pauseMillis;
+	}
+
+	public int getChunkSize() {
+		return chunkSize;
+	}
+
+	/**
+	 * Установление количества строк в одном диапазоне
+	 *
+	 * @param chunkSize должно быть больше 0
+	 */
+	public void setChunkSize(int chunkSize) {
+		AssertChecker.isTrue(chunkSize > 0, "Количество строк в диапазоне должно быть больше 0");
+		this.chunkSize = chunkSize;
+	}
+
+	/**
+	 * Получение паузы между диапазонами (в миллисекундах), позволяющей ограничить нагрузку на БД и реплики
+	 *
+	 * @return
+	 */
+	public long getPauseMillis() {
+		return pauseMillis;
+	}
+
+	public void setPauseMillis(long pauseMillis) {
+		this.pauseMillis = pauseMillis;
+	}
+
+	/**
+	 * Получение последнего обработанного ключа. Если значение равно NULL - обработка начинается с начала Таблицы
+	 *
+	 * @return
+	 */
+	public List<Object> getLastKey() {
+		return lastKey;
+	}
+
+	/**
+	 * Установление ключа, после которого нужно начать обработку (например, сохраненного ранее через {@link #setCheckpointListener(Consumer)})
+	 *
+	 * @param lastKey
+	 */
+	public void setLastKey(List<Object> lastKey) {
+		this.lastKey = lastKey;
+	}
+
+	public ProgressListener getProgressListener() {
+		return progressListener;
+	}
+
+	/**
+	 * Установление получателя сведений о ходе выполнения: количество обработанных строк (общее количество неизвестно и передается как -1)
+	 *
+	 * @param progressListener
+	 */
+	public void setProgressListener(ProgressListener progressListener) {
+		this.progressListener = progressListener;
+	}
+
+	public Consumer<List<Object>> getCheckpointListener() {
+		return checkpointListener;
+	}
+
+	/**
+	 * Установление получателя последнего обработанного ключа (вызывается после фиксации каждого диапазона), например, для сохранения во внешнем хранилище
+	 *
+	 * @param checkpointListener
+	 */
+	public void setCheckpointListener(Consumer<List<Object>> checkpointListener) {
+		this.checkpointListener = checkpointListener;
+	}
+
+}
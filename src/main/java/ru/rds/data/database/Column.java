@@ -21,6 +21,8 @@ public class Column implements SpaceProperty<ColumnType> {
 	private String     className;
 	// Размер
 	private int        size;
+	// Масштаб (количество знаков после запятой)
+	private int        scale;
 	// Является ли автоинкрементным
 	private boolean    autoincrement;
 	// Является ли валютой
@@ -47,6 +49,8 @@ public class Column implements SpaceProperty<ColumnType> {
 	private String     comments;
 	// Порядковая позиция
 	private int        ordinalPosition;
+	// Значение по-умолчанию (используется для заполнения существующих строк при добавлении Колонки)
+	private Object     defaultValue;
 
 	/**
 	 * Получение названия
@@ -141,6 +145,24 @@ public class Column implements SpaceProperty<ColumnType> {
 		this.size = size;
 	}
 
+	/**
+	 * Получение масштаба - количества знаков после запятой (для типов, обладающих масштабом, см. {@link ColumnType#isScalable()})
+	 *
+	 * @return
+	 */
+	public int getScale() {
+		return scale;
+	}
+
+	/**
+	 * Установление масштаба - количества знаков после запятой
+	 *
+	 * @param scale
+	 */
+	public void setScale(int scale) {
+		this.scale = scale;
+	}
+
 	/**
 	 * Является ли автоинкрементным
 	 *
@@ -389,4 +411,22 @@ public class Column implements SpaceProperty<ColumnType> {
 		return ordinalPosition;
 	}
 
+	/**
+	 * Получение значения по-умолчанию
+	 *
+	 * @return
+	 */
+	public Object getDefaultValue() {
+		return defaultValue;
+	}
+
+	/**
+	 * Установление значения по-умолчанию (используется для заполнения существующих строк при добавлении Колонки, которая не может быть NULL)
+	 *
+	 * @param defaultValue
+	 */
+	public void setDefaultValue(Object defaultValue) {
+		this.defaultValue = defaultValue;
+	}
+
 }
@@ -1,7 +1,11 @@
 package ru.rds.data.database;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
 import java.sql.Types;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.rds.data.database.types.*;
@@ -37,43 +41,48 @@ public class ColumnType implements SpacePropertyType {
 	public static final ColumnType BOOL              = new BoolColumnType();
 	public static final ColumnType BYTEA             = new ByteaColumnType();
 	public static final ColumnType JSONB             = new JsonbColumnType();
+	public static final ColumnType UUID              = new UuidColumnType();
+	public static final ColumnType NUMERIC           = new NumericColumnType();
+	public static final ColumnType DATE              = new DateColumnType();
+	public static final ColumnType INT8_ARRAY        = new Int8ArrayColumnType();
+	public static final ColumnType TEXT_ARRAY        = new TextArrayColumnType();
+	public static final ColumnType UUID_ARRAY        = new UuidArrayColumnType();
 	// ================================================================================ //
 
-	// Перечень всех поддерживаемых типов в виде списка
-	private static final List<ColumnType>        VALUES     = new ArrayList<>();
-	// То же самое, только в виде Map, где в качестве key выступает название типа
-	private static final Map<String, ColumnType> VALUES_MAP = new HashMap<>();
+	// Зарегистрированные типы, где в качестве key выступает код типа и название типа в нижнем регистре
+	private static final Map<String, ColumnType> VALUES     = new ConcurrentHashMap<>();
+	// Зарегистрированные типы, где в качестве key выступает название типа в верхнем регистре
+	private static final Map<String, ColumnType> VALUES_MAP = new ConcurrentHashMap<>();
 
 	static {
-		VALUES.add(SMALLINT);
-		VALUES.add(INTEGER);
-		VALUES.add(BIGINT);
-		VALUES.add(INT4);
-		VALUES.add(INT8);
-		VALUES.add(FLOAT);
-		VALUES.add(VARCHAR);
-		VALUES.add(CHARACTER_VARYING);
-		VALUES.add(TEXT);
-		VALUES.add(TIMESTAMP);
-		VALUES.add(BOOLEAN);
-		VALUES.add(BOOL);
-		VALUES.add(BYTEA);
-		VALUES.add(JSONB);
-
-		VALUES_MAP.put("SMALLINT", SMALLINT);
-		VALUES_MAP.put("INTEGER", INTEGER);
-		VALUES_MAP.put("BIGINT", BIGINT);
-		VALUES_MAP.put("INT4", INT4);
-		VALUES_MAP.put("INT8", INT8);
-		VALUES_MAP.put("FLOAT", FLOAT);
-		VALUES_MAP.put("VARCHAR", VARCHAR);
-		VALUES_MAP.put("CHARACTER VARYING", CHARACTER_VARYING);
-		VALUES_MAP.put("TEXT", TEXT);
-		VALUES_MAP.put("TIMESTAMP", TIMESTAMP);
-		VALUES_MAP.put("BOOLEAN", BOOLEAN);
-		VALUES_MAP.put("BOOL", BOOL);
-		VALUES_MAP.put("BYTEA", BYTEA);
-		VALUES_MAP.put("JSONB", JSONB);
+		register(SMALLINT);
+		register(INTEGER);
+		register(BIGINT);
+		register(INT4);
+		register(INT8);
+		register(FLOAT);
+		register(VARCHAR);
+		register(CHARACTER_VARYING);
+		register(TEXT);
+		register(TIMESTAMP);
+		register(BOOLEAN);
+		register(BOOL);
+		register(BYTEA);
+		register(JSONB);
+		register(UUID);
+		register(NUMERIC);
+		register(DATE);
+		register(INT8_ARRAY);
+		register(TEXT_ARRAY);
+		register(UUID_ARRAY);
+
+		// Названия типов массивов, которые сообщают драйверы PostgreSQL (_int8) и H2 (BIGINT ARRAY)
+		register(Types.ARRAY, "_int8", INT8_ARRAY);
+		register(Types.ARRAY, "bigint array", INT8_ARRAY);
+		register(Types.ARRAY, "_text", TEXT_ARRAY);
+		register(Types.ARRAY, "character varying array", TEXT_ARRAY);
+		register(Types.ARRAY, "_uuid", UUID_ARRAY);
+		register(Types.ARRAY, "uuid array", UUID_ARRAY);
 	}
 
 	// Числовое значение SQL-типа (java.sql.Types)
@@ -94,6 +103,12 @@ public class ColumnType implements SpacePropertyType {
 	private boolean sizeable;
 	// Значение размера по-умолчанию
 	private int     defaultSize;
+	// Обладает ли масштабом (количеством знаков после запятой)
+	private boolean scalable;
+	// Являются ли значения объемными (могут загружаться отложенно)
+	private boolean large;
+	// Способ передачи значений в БД и получения их из БД
+	private ColumnCodec codec = ColumnCodecs.OBJECT;
 
 	public ColumnType() {
 	}
@@ -268,9 +283,124 @@ public class ColumnType implements SpacePropertyType {
 		this.defaultSize = defaultSize;
 	}
 
+	/**
+	 * Обладает ли масштабом - количеством знаков после запятой (например, <code>NUMERIC(12, 2)</code>). Для таких типов размер Колонки
+	 * означает общее количество знаков (точность), а масштаб задается через {@link Column#setScale(int)}
+	 *
+	 * @return
+	 */
+	public boolean isScalable() {
+		return scalable;
+	}
+
+	/**
+	 * Обладает ли масштабом
+	 *
+	 * @param scalable
+	 */
+	public void setScalable(boolean scalable) {
+		this.scalable = scalable;
+	}
+
+	/**
+	 * Являются ли значения объемными. Значения таких типов могут загружаться отложенно (см. {@link Table#setLazyLargeColumns(boolean)})
+	 *
+	 * @return
+	 */
+	public boolean isLarge() {
+		return large;
+	}
+
+	/**
+	 * Являются ли значения объемными
+	 *
+	 * @param large
+	 */
+	public void setLarge(boolean large) {
+		this.large = large;
+	}
+
+	/**
+	 * Получение способа передачи значений в БД и получения их из БД
+	 *
+	 * @return
+	 */
+	public ColumnCodec getCodec() {
+		return codec;
+	}
+
+	/**
+	 * Установление способа передачи значений в БД и получения их из БД
+	 *
+	 * @param codec
+	 */
+	public void setCodec(ColumnCodec codec) {
+		this.codec = codec != null ? codec : ColumnCodecs.OBJECT;
+	}
+
+	/**
+	 * Установление значения параметра запроса с помощью {@link #getCodec()}
+	 *
+	 * @param preparedStatement запрос
+	 * @param index             номер параметра (начиная с 1)
+	 * @param value             значение (может быть NULL)
+	 * @throws SQLException
+	 */
+	public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+		codec.bind(preparedStatement, index, value);
+	}
+
+	/**
+	 * Получение значения из текущей Строки результата запроса с помощью {@link #getCodec()}
+	 * и его преобразование через {@link #convertFromDatabase(Object)}
+	 *
+	 * @param resultSet результат запроса
+	 * @param index     номер Колонки в результате запроса (начиная с 1)
+	 * @return значение или NULL
+	 * @throws SQLException
+	 */
+	public Object read(ResultSet resultSet, int index) throws SQLException {
+		return convertFromDatabase(codec.read(resultSet, index));
+	}
+
+	/**
+	 * Регистрация типа. После регистрации тип можно получить через {@link #of(Integer, String)} (по коду и названию типа)
+	 * и {@link #of(String)} (по названию типа). Ранее зарегистрированный тип с тем же кодом и названием заменяется
+	 *
+	 * @param type тип (должны быть заполнены код и название)
+	 */
+	public static void register(ColumnType type) {
+		register(type.getTypeName(), type);
+	}
+
+	/**
+	 * Регистрация типа под дополнительным названием (например, синонимом, под которым тип сообщает драйвер БД)
+	 *
+	 * @param name название, по которому тип можно получить через {@link #of(String)}
+	 * @param type тип (должны быть заполнены код и название)
+	 */
+	public static void register(String name, ColumnType type) {
+		Objects.requireNonNull(type.getTypeCode(), "Не указан код типа");
+		Objects.requireNonNull(type.getTypeName(), "Не указано название типа");
+		VALUES.put(registryKey(type.getTypeCode(), type.getTypeName()), type);
+		VALUES_MAP.put(name.toUpperCase(Locale.ROOT), type);
+	}
+
+	/**
+	 * Регистрация типа под дополнительными кодом и названием, под которыми тип сообщает драйвер БД.
+	 * Тип можно будет получить через {@link #of(Integer, String)} по этим коду и названию
+	 *
+	 * @param typeCode значение из {@link Types}
+	 * @param typeName название типа, которое сообщает драйвер БД
+	 * @param type     тип
+	 */
+	public static void register(Integer typeCode, String typeName, ColumnType type) {
+		VALUES.put(registryKey(typeCode, typeName), type);
+	}
+
 	/**
 	 * Позволяет получить {@link ColumnType} по его коду {@link Types} и имени
-	 * <p>Поддерживаются только следующие типы, перечисленные в данном классе
+	 * <p>Поддерживаются типы, перечисленные в данном классе, и типы, зарегистрированные через {@link #register(ColumnType)}
 	 *
 	 * @param typeCode значение из {@link Types}
 	 * @param typeName строковое значение
@@ -279,26 +409,54 @@ public class ColumnType implements SpacePropertyType {
 	public static Optional<ColumnType> of(Integer typeCode, String typeName) {
 		if (typeCode != null && typeName != null) {
 			typeName = handleDatabaseInnerType(typeCode, typeName);
-			for (ColumnType type : VALUES) {
-				if (Objects.equals(type.getTypeCode(), typeCode)) {
-					if (Objects.equals(type.getTypeName().toLowerCase(), typeName.toLowerCase())) {
-						return Optional.ofNullable(type);
-					}
-				}
+			typeCode = handleDatabaseInnerTypeCode(typeCode, typeName);
+			ColumnType type = VALUES.get(registryKey(typeCode, typeName));
+			if (type != null) {
+				return Optional.of(type);
 			}
 		}
 		logger.error(String.format("Не удалось найти поддерживаемый тип столбца для значений <%s>:<%s>", typeCode, typeName));
 		return Optional.empty();
 	}
 
+	private static String registryKey(Integer typeCode, String typeName) {
+		return typeCode + ":" + typeName.toLowerCase(Locale.ROOT);
+	}
+
 	// Небольшая обработка внутренних типов в БД
 	private static String handleDatabaseInnerType(Integer typeCode, String typeName) {
 		if (typeCode == 5 && typeName.equalsIgnoreCase("int2")) {
 			typeName = "smallint";
 		}
+		// SQLite хранит UUID как BLOB(16)
+		if (typeName.equalsIgnoreCase("blob(16)")) {
+			typeName = "uuid";
+		}
+		// H2 сообщает тип массива вместе с размером элементов (например, CHARACTER VARYING(255) ARRAY)
+		if (typeCode == Types.ARRAY) {
+			typeName = typeName.replaceAll("\\(\\d+\\)", "");
+		}
 		return typeName;
 	}
 
+	// Разные драйверы сообщают для UUID разные коды (H2 - BINARY, PostgreSQL - OTHER, SQLite - BLOB)
+	private static Integer handleDatabaseInnerTypeCode(Integer typeCode, String typeName) {
+		if (typeName.equalsIgnoreCase("uuid")) {
+			return Types.OTHER;
+		}
+		return typeCode;
+	}
+
+	/**
+	 * Преобразование значения, полученного из БД, в Java-представление данного типа (по-умолчанию значение не изменяется)
+	 *
+	 * @param value значение, полученное через {@link java.sql.ResultSet#getObject(int)}
+	 * @return
+	 */
+	public Object convertFromDatabase(Object value) {
+		return value;
+	}
+
 	/**
 	 * Позволяет получить {@link ColumnType} по его названию {@link ColumnType}
 	 *
@@ -307,7 +465,7 @@ public class ColumnType implements SpacePropertyType {
 	 */
 	public static Optional<ColumnType> of(String name) {
 		if (name != null && !name.isEmpty()) {
-			return Optional.ofNullable(VALUES_MAP.get(name.toUpperCase()));
+			return Optional.ofNullable(VALUES_MAP.get(name.toUpperCase(Locale.ROOT)));
 		}
 		return Optional.empty();
 	}
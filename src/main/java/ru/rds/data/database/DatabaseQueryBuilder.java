@@ -1,6 +1,10 @@
 package ru.rds.data.database;
 
 import java.util.List;
+import ru.rds.data.database.common.Pair;
+import ru.rds.data.database.conditions.Condition;
+import ru.rds.data.database.conditions.InListStrategy;
+import ru.rds.data.database.conditions.InTableCondition;
 import ru.rds.data.storage.ElementsSelectionCondition;
 import ru.rds.data.storage.ElementsSort;
 import ru.rds.data.storage.SelectionType;
@@ -17,28 +21,346 @@ import ru.rds.data.storage.SelectionType;
  */
 public interface DatabaseQueryBuilder {
 
+	/**
+	 * Формирование запросов, которые выполняются при создании {@link DatabaseStorage} (например, регистрация функций,
+	 * через которые вычисляются условия). Запросы должны допускать повторное выполнение
+	 *
+	 * @return перечень запросов или пустой перечень, если подготовка БД не требуется
+	 */
+	List<String> queryForInitializeStorage();
+
 	String queryForGetColumns(String tableName);
 
 	String queryForCreateSpace(String tableName, String tableComments, List<Column> tableColumns);
 
 	String queryForCreateSpaceIndex(String spaceName, List<String> propertyNames, String indexName, boolean unique);
 
+	/**
+	 * Формирование запроса для создания Индекса с учетом порядка и направления сортировки колонок, условия частичного индекса и включаемых колонок.
+	 * Если СУБД не поддерживает часть возможностей, то они либо эмулируются, либо пропускаются (с предупреждением).
+	 * Частичный уникальный Индекс без поддержки частичных индексов не создается: это приводит к исключению
+	 *
+	 * @param tableName название Таблицы
+	 * @param index     описание Индекса
+	 * @return запрос или NULL, если создать Индекс невозможно
+	 * @throws ru.rds.data.database.exceptions.CreateTableException если СУБД не поддерживает частичный уникальный Индекс
+	 */
+	String queryForCreateSpaceIndex(String tableName, Index index);
+
+	/**
+	 * Формирование запроса для удаления Индекса
+	 *
+	 * @param tableName название Таблицы
+	 * @param indexName название Индекса
+	 * @return
+	 */
+	String queryForDeleteSpaceIndex(String tableName, String indexName);
+
+	/**
+	 * Преобразование запроса создания Индекса в неблокирующий вариант, не препятствующий записи в Таблицу во время построения
+	 * (например, <code>CREATE INDEX CONCURRENTLY</code> в PostgreSQL). Такие запросы нельзя выполнять внутри транзакции
+	 *
+	 * @param indexQuery запрос создания Индекса
+	 * @return неблокирующий запрос или NULL, если СУБД не поддерживает неблокирующее создание Индексов
+	 */
+	String queryForCreateSpaceIndexConcurrently(String indexQuery);
+
+	/**
+	 * Преобразование запроса удаления Индекса в неблокирующий вариант (например, <code>DROP INDEX CONCURRENTLY</code> в PostgreSQL).
+	 * Такие запросы нельзя выполнять внутри транзакции
+	 *
+	 * @param dropQuery запрос удаления Индекса
+	 * @return неблокирующий запрос или NULL, если СУБД не поддерживает неблокирующее удаление Индексов
+	 */
+	String queryForDeleteSpaceIndexConcurrently(String dropQuery);
+
 	String queryForCreateSpaceJsonIndex(String spaceName, String propertyName, String indexName, boolean unique);
 
+	/**
+	 * Формирование запросов для создания полнотекстового Индекса (запросы выполняются последовательно)
+	 *
+	 * @param tableName   название Таблицы
+	 * @param columnNames названия Колонок, значения которых индексируются
+	 * @param indexName   название Индекса
+	 * @return перечень запросов или пустой перечень, если создать Индекс невозможно
+	 */
+	List<String> queryForCreateSpaceFullTextIndex(String tableName, List<String> columnNames, String indexName);
+
+	/**
+	 * Формирование запросов для удаления полнотекстового Индекса (запросы выполняются последовательно)
+	 *
+	 * @param tableName название Таблицы
+	 * @param indexName название Индекса
+	 * @return перечень запросов или пустой перечень, если удалить Индекс невозможно
+	 */
+	List<String> queryForDeleteSpaceFullTextIndex(String tableName, String indexName);
+
+	/**
+	 * Формирование запроса для получения Колонок существующего полнотекстового Индекса Таблицы - для СУБД, в которых у Таблицы
+	 * может быть только один полнотекстовый Индекс. Запрос должен возвращать перечень названий Колонок Индекса через запятую
+	 *
+	 * @param tableName название Таблицы
+	 * @return текст запроса или NULL, если СУБД допускает несколько полнотекстовых Индексов у одной Таблицы
+	 */
+	String queryForSelectFullTextIndexColumns(String tableName);
+
+	/**
+	 * Формирование запроса для добавления Колонки в существующую Таблицу. Колонка всегда добавляется как допускающая NULL
+	 * (без проверки значений существующих строк), ограничение NOT NULL устанавливается отдельно после заполнения
+	 *
+	 * @param tableName название Таблицы
+	 * @param column    описание Колонки
+	 * @return
+	 */
+	String queryForAddSpaceProperty(String tableName, Column column);
+
+	/**
+	 * Формирование запроса для изменения типа (размера) Колонки
+	 *
+	 * @param tableName название Таблицы
+	 * @param column    описание Колонки с новым типом
+	 * @return запрос или NULL, если СУБД не поддерживает изменение типа Колонки
+	 */
+	String queryForAlterSpacePropertyType(String tableName, Column column);
+
+	/**
+	 * Формирование запроса для установления (снятия) ограничения NOT NULL Колонки
+	 *
+	 * @param tableName  название Таблицы
+	 * @param columnName название Колонки
+	 * @param notNull    устанавливать (true) или снимать (false) ограничение
+	 * @return запрос или NULL, если СУБД не поддерживает изменение ограничения
+	 */
+	String queryForAlterSpacePropertyNotNull(String tableName, String columnName, boolean notNull);
+
+	/**
+	 * Формирование запросов для установления ограничения NOT NULL уже заполненной Колонки. Запросы выполняются последовательно,
+	 * каждый - отдельной транзакцией, чтобы не удерживать исключительную блокировку Таблицы на время проверки существующих строк
+	 *
+	 * @param tableName  название Таблицы
+	 * @param columnName название Колонки
+	 * @return перечень запросов или пустой перечень, если СУБД не поддерживает изменение ограничения
+	 */
+	List<String> queryForSetSpacePropertyNotNull(String tableName, String columnName);
+
+	/**
+	 * Формирование запроса для создания временной Таблицы, в которую загружается перечень значений условия IN (см. {@link InTableCondition}).
+	 * Временная Таблица содержит одну Колонку {@link InTableCondition#VALUE_COLUMN_NAME} того же типа, что и Колонка основной Таблицы
+	 *
+	 * @param valuesTableName название временной Таблицы
+	 * @param tableName       название основной Таблицы
+	 * @param columnName      название Колонки основной Таблицы
+	 * @return
+	 */
+	String queryForCreateValuesSpace(String valuesTableName, String tableName, String columnName);
+
+	/**
+	 * Выбор способа передачи в БД перечня значений условия IN в зависимости от количества значений
+	 *
+	 * @param valueCount количество значений
+	 * @return
+	 */
+	InListStrategy planInList(int valueCount);
+
+	/**
+	 * Получение максимального количества параметров одного запроса для данной СУБД
+	 *
+	 * @return
+	 */
+	int getMaxParameterCount();
+
+	/**
+	 * Формирование запроса для создания временной промежуточной Таблицы с той же структурой, что и основная Таблица (без ограничений и Индексов).
+	 * Временная Таблица видна только в рамках текущего соединения
+	 *
+	 * @param stagingTableName название промежуточной Таблицы
+	 * @param tableName        название основной Таблицы
+	 * @return
+	 */
+	String queryForCreateStagingSpace(String stagingTableName, String tableName);
+
+	/**
+	 * Формирование запросов для применения данных промежуточной Таблицы к основной: обновление Строк с совпадающим первичным ключом
+	 * (только если значения действительно отличаются) и вставка Строк, ключей которых в основной Таблице нет. Запросы выполняются последовательно
+	 *
+	 * @param tableName        название основной Таблицы
+	 * @param stagingTableName название промежуточной Таблицы
+	 * @param columnNames      названия переносимых Колонок (включая Колонки первичного ключа)
+	 * @param keyColumnNames   названия Колонок первичного ключа
+	 * @return
+	 */
+	List<String> queryForMergeFromStagingSpace(String tableName, String stagingTableName, List<String> columnNames, List<String> keyColumnNames);
+
+	/**
+	 * Формирование запроса для удаления из основной Таблицы Строк, ключей которых нет в промежуточной Таблице
+	 *
+	 * @param tableName        название основной Таблицы
+	 * @param stagingTableName название промежуточной Таблицы
+	 * @param keyColumnNames   названия Колонок первичного ключа
+	 * @return
+	 */
+	String queryForDeleteMissingFromStagingSpace(String tableName, String stagingTableName, List<String> keyColumnNames);
+
+	/**
+	 * Формирование запроса для создания последовательности (если ее нет)
+	 *
+	 * @param sequenceName название последовательности
+	 * @return запрос или NULL, если СУБД не поддерживает последовательности
+	 * @throws IllegalArgumentException если название последовательности не является обычным идентификатором (возможно, с указанием схемы)
+	 */
+	String queryForCreateSequence(String sequenceName);
+
+	/**
+	 * Формирование запроса для получения следующего значения последовательности (результат - одна Строка с одним значением)
+	 *
+	 * @param sequenceName название последовательности
+	 * @return запрос или NULL, если СУБД не поддерживает последовательности
+	 * @throws IllegalArgumentException если название последовательности не является обычным идентификатором (возможно, с указанием схемы)
+	 */
+	String queryForNextSequenceValue(String sequenceName);
+
+	/**
+	 * Получение названия типа Колонки для данной СУБД (используется при создании и изменении Таблиц)
+	 *
+	 * @param columnType тип Колонки
+	 * @return
+	 */
+	String getSqlTypeName(ColumnType columnType);
+
+	/**
+	 * Преобразование значения параметра запроса в представление, которое поддерживает драйвер данной СУБД
+	 * (например, {@link java.util.UUID} в 16 байт для SQLite)
+	 *
+	 * @param value значение параметра
+	 * @return
+	 */
+	Object convertParameterValue(Object value);
+
 	String queryForDeleteSpace(String spaceName);
 
 	default String queryForSelectRows(String tableName, List<Column> tableColumns) {
 		return queryForSelectRows(tableName, tableColumns, null, null, null, 0, 0);
 	}
 
+	/**
+	 * Формирование запроса для получения Строк
+	 *
+	 * @param tableName    название Таблицы
+	 * @param tableColumns перечень Колонок, значения которых нужно получить (проекция); если перечень пуст или равен NULL - будут получены все Колонки
+	 */
 	String queryForSelectRows(String tableName, List<Column> tableColumns, List<ElementsSort> sorts, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType, int offset, int limit);
 
+	/**
+	 * Формирование запроса для получения Строк, отобранных по дереву условий. Все значения условий передаются в виде параметров запроса.
+	 * Значения, которые сравниваются со значениями Колонок, передаются как {@link ru.rds.data.database.conditions.ColumnParameter}
+	 * (так же во всех запросах с деревом условий и значениями первичного ключа), чтобы они устанавливались кодеком типа Колонки
+	 *
+	 * @param tableName    название Таблицы
+	 * @param tableColumns перечень Колонок, значения которых нужно получить (проекция); если перечень пуст или равен NULL - будут получены все Колонки
+	 * @param sorts        перечень сортировок
+	 * @param condition    условие отбора Строк (если равно NULL - будут получены все Строки)
+	 * @param offset       количество Строк, которые нужно пропустить
+	 * @param limit        максимальное количество Строк (если значение <= 0 - ограничения limit и offset игнорируются)
+	 * @return пара из текста запроса и списка значений для его параметров (в порядке их следования)
+	 */
+	Pair<String, List<Object>> queryForSelectRows(String tableName, List<Column> tableColumns, List<ElementsSort> sorts, Condition condition, int offset, int limit);
+
+	/**
+	 * Формирование запроса для получения значений первичного ключа Строки, замыкающей очередной диапазон: среди Строк, удовлетворяющих условию,
+	 * упорядоченных по первичному ключу, выбирается Строка с номером <code>chunkSize</code>
+	 *
+	 * @param tableName      название Таблицы
+	 * @param keyColumnNames названия Колонок первичного ключа
+	 * @param condition      условие отбора Строк (включая нижнюю границу диапазона)
+	 * @param chunkSize      количество Строк в диапазоне (должно быть больше 0)
+	 * @return пара из текста запроса и списка значений для его параметров (в порядке их следования)
+	 */
+	Pair<String, List<Object>> queryForSelectChunkBoundary(String tableName, List<String> keyColumnNames, Condition condition, int chunkSize);
+
+	/**
+	 * Формирование запроса для получения Строк по значениям их первичного ключа
+	 *
+	 * @param tableName      название Таблицы
+	 * @param tableColumns   перечень Колонок, значения которых нужно получить
+	 * @param keyColumnNames названия Колонок первичного ключа
+	 * @param keys           значения первичного ключа (порядок значений в каждом элементе соответствует keyColumnNames)
+	 * @return пара из текста запроса и списка значений для его параметров (в порядке их следования)
+	 */
+	Pair<String, List<Object>> queryForSelectRowsByKeys(String tableName, List<Column> tableColumns, List<String> keyColumnNames, List<List<Object>> keys);
+
 	String queryForCountRows(String tableName, List<Column> tableColumns, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType);
 
+	/**
+	 * Формирование запроса для подсчета количества Строк, отобранных по дереву условий
+	 *
+	 * @return пара из текста запроса и списка значений для его параметров (в порядке их следования)
+	 */
+	Pair<String, List<Object>> queryForCountRows(String tableName, List<Column> tableColumns, Condition condition);
+
+	/**
+	 * Формирование запроса для проверки наличия хотя бы одной Строки, удовлетворяющей условиям.
+	 * Запрос должен возвращать не более одной записи, первое значение которой может быть прочитано как boolean
+	 *
+	 * @return пара из текста запроса и списка значений для его параметров (в порядке их следования)
+	 */
+	Pair<String, List<Object>> queryForExistsRows(String tableName, Condition condition);
+
+	/**
+	 * Формирование запроса для вычисления агрегатов на стороне БД
+	 * <p>
+	 * Запрос должен возвращать сначала значения Колонок группировки (в порядке их перечисления), а затем значения агрегатов (в порядке их перечисления)
+	 *
+	 * @param tableName           название Таблицы
+	 * @param groupByColumnNames  названия Колонок, по которым выполняется группировка (если перечень пуст или равен NULL - агрегаты вычисляются по всем Строкам)
+	 * @param aggregates          перечень вычисляемых агрегатов
+	 * @param condition           условие отбора Строк (если равно NULL - агрегаты вычисляются по всем Строкам)
+	 * @return пара из текста запроса и списка значений для его параметров (в порядке их следования)
+	 */
+	Pair<String, List<Object>> queryForAggregateRows(String tableName, List<String> groupByColumnNames, List<Aggregate> aggregates, Condition condition);
+
 	String queryForCreateRow(String tableName, List<String> columnNames);
 
+	/**
+	 * Преобразование запроса на вставку или обновление одной Строки в запрос, возвращающий значения Колонок после изменения
+	 * (в том числе сформированные БД: автоинкрементные значения, значения по-умолчанию и значения, установленные триггерами)
+	 *
+	 * @param modifyQuery          запрос на вставку или обновление
+	 * @param returningColumnNames названия Колонок, значения которых нужно вернуть
+	 * @return запрос, выполняемый через {@link java.sql.PreparedStatement#executeQuery()}, или NULL, если СУБД не поддерживает такие запросы
+	 * (в этом случае используется {@link java.sql.Statement#getGeneratedKeys()})
+	 */
+	String queryForReturning(String modifyQuery, List<String> returningColumnNames);
+
 	String queryForUpdateRow(String tableName, List<String> columnNames, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType);
 
+	/**
+	 * Формирование запроса для обновления значений Строк, отобранных по дереву условий.
+	 * Значения Колонок передаются первыми параметрами запроса (в порядке перечисления Колонок)
+	 *
+	 * @return пара из текста запроса и списка значений параметров условия (следуют после значений Колонок)
+	 */
+	Pair<String, List<Object>> queryForUpdateRow(String tableName, List<String> columnNames, Condition condition);
+
+	/**
+	 * Формирование запроса для обновления одной Строки по первичному ключу (для пакетного выполнения).
+	 * Параметры запроса: значения Колонок, затем значения первичного ключа, затем (если задана Колонка версии) ожидаемая версия.
+	 * Колонка версии при обновлении увеличивается на 1
+	 *
+	 * @param tableName         название Таблицы
+	 * @param columnNames       названия обновляемых Колонок
+	 * @param keyColumnNames    названия Колонок первичного ключа
+	 * @param versionColumnName название Колонки версии (если NULL - версия не проверяется)
+	 * @return
+	 */
+	String queryForUpdateRowByKey(String tableName, List<String> columnNames, List<String> keyColumnNames, String versionColumnName);
+
 	String queryForDeleteRow(String tableName, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType);
 
+	/**
+	 * Формирование запроса для удаления Строк, отобранных по дереву условий
+	 *
+	 * @return пара из текста запроса и списка значений для его параметров (в порядке их следования)
+	 */
+	Pair<String, List<Object>> queryForDeleteRow(String tableName, Condition condition);
+
 }
@@ -2,14 +2,22 @@ package ru.rds.data.database;
 
 import java.sql.*;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import ru.rds.data.database.common.AssertChecker;
 import ru.rds.data.database.common.Pair;
+import ru.rds.data.database.common.ProgressListener;
+import ru.rds.data.database.conditions.Condition;
 import ru.rds.data.database.exceptions.CreateTableException;
 import ru.rds.data.database.exceptions.DeleteTableException;
+import ru.rds.data.database.exceptions.MigrateTableException;
 import ru.rds.data.storage.Storage;
 
 /**
@@ -38,7 +46,28 @@ public class DatabaseStorage implements Storage<Table, Column> {
 		this.dataSource = dataSource;
 		this.queryBuilder = queryBuilder;
 		AssertChecker.notNull(this.dataSource, "<DataSource> не должен быть равен <NULL>");
-		AssertChecker.notNull(this.dataSource, "<DatabaseQueryBuilder> не должен быть равен <NULL>");
+		AssertChecker.notNull(this.queryBuilder, "<DatabaseQueryBuilder> не должен быть равен <NULL>");
+		initializeStorage();
+	}
+
+	/*
+	Подготовка БД (например, регистрация функций для JSON-условий в H2). Ошибка не препятствует работе с БД:
+	условия, которым нужна подготовка, приведут к ошибке при выполнении запроса
+	 */
+	private void initializeStorage() {
+		List<String> queries = getQueryBuilder().queryForInitializeStorage();
+		if (queries == null || queries.isEmpty()) {
+			return;
+		}
+		try (Connection connection = getDataSource().getConnection();
+		     Statement statement = connection.createStatement()) {
+			for (String query : queries) {
+				logger.trace("SQL-запрос: " + query);
+				statement.execute(query);
+			}
+		} catch (SQLException e) {
+			logger.warn(String.format("Не удалось подготовить БД: %s", e.getMessage()), e);
+		}
 	}
 
 	public DataSource getDataSource() {
@@ -50,7 +79,7 @@ public class DatabaseStorage implements Storage<Table, Column> {
 	}
 
 	/**
-	 * Получение перечня всех Таблиц
+	 * Получение перечня всех Таблиц (перечни Индексов содержат как уникальные, так и неуникальные Индексы)
 	 *
 	 * @return
 	 */
@@ -76,7 +105,8 @@ public class DatabaseStorage implements Storage<Table, Column> {
 	}
 
 	/**
-	 * Получение Таблицы по её имени
+	 * Получение Таблицы по её имени. Перечень Индексов Таблицы ({@link Table#getIndexes()}) содержит как уникальные,
+	 * так и неуникальные Индексы (см. {@link Index#isUnique()})
 	 *
 	 * @param name имя Таблицы ({@link Table})
 	 * @return
@@ -186,8 +216,8 @@ public class DatabaseStorage implements Storage<Table, Column> {
 				}
 			}
 			resultSet.close();
-			// Поиск индексов
-			resultSet = databaseMetaData.getIndexInfo(null, null, tableName, true, true);
+			// Поиск индексов (уникальных и неуникальных - последние нужны для сравнения структуры Таблицы в planMigration)
+			resultSet = databaseMetaData.getIndexInfo(null, null, tableName, false, true);
 			while (resultSet.next()) {
 				String indexName = resultSet.getString("INDEX_NAME");
 				if (indexName != null) {
@@ -196,16 +226,21 @@ public class DatabaseStorage implements Storage<Table, Column> {
 						// Ищем такой столбец среди наших (а он должен быть там)
 						Column column = columns.get(columnName);
 						if (column != null) {
-							// Заодно проставляем признак уникальности для него
-							column.setUnique(true);
+							boolean unique = !resultSet.getBoolean("NON_UNIQUE");
+							if (unique) {
+								// Заодно проставляем признак уникальности для него
+								column.setUnique(true);
+							}
 							// Собираем индекс (при этом помним, что индекс с таким именем уже может быть)
 							Index index = indexes.get(indexName);
 							if (index == null) {
 								index = new Index();
 								index.setName(indexName);
-								index.setUnique(true);
+								index.setUnique(unique);
+								index.setPredicate(resultSet.getString("FILTER_CONDITION"));
+								indexes.put(indexName, index);
 							}
-							index.addColumn(column);
+							index.addColumn(column, "D".equals(resultSet.getString("ASC_OR_DESC")));
 						}
 					}
 				}
@@ -245,6 +280,11 @@ public class DatabaseStorage implements Storage<Table, Column> {
 					column.setReadOnly(metaData.isReadOnly(index));
 					column.setSigned(metaData.isSigned(index));
 					column.setWritable(metaData.isWritable(index));
+					// Для типов с масштабом размер - это точность (отображаемый размер включает знак и разделитель)
+					if (column.getType().isScalable()) {
+						column.setSize(metaData.getPrecision(index));
+						column.setScale(metaData.getScale(index));
+					}
 
 					columns.add(column);
 				}
@@ -359,9 +399,204 @@ public class DatabaseStorage implements Storage<Table, Column> {
 		createTable(table.getName(), table.getDescription(), table.getColumns(), table.getIndexes());
 	}
 
+	/**
+	 * Создание новой Таблицы ({@link Table}) в режиме, не блокирующем запись: если СУБД поддерживает неблокирующее создание Индексов,
+	 * то они строятся параллельно через отдельные соединения (не более <code>parallelism</code> одновременно), иначе -
+	 * Таблица и все Индексы создаются последовательно через одно соединение. Запросы выполняются в одной транзакции,
+	 * однако СУБД, неявно фиксирующие каждый DDL-запрос (например, H2), при ошибке не откатывают уже выполненные запросы
+	 *
+	 * @param table            объект, описывающий Таблицу
+	 * @param parallelism      максимальное количество одновременно создаваемых Индексов
+	 * @param progressListener получатель сведений о количестве созданных Индексов (может быть NULL)
+	 * @throws CreateTableException возникает в случае, если по каким-то причинам создать Таблицу или какой-либо из Индексов не удалось
+	 */
+	public void createSpace(Table table, int parallelism, ProgressListener progressListener) throws CreateTableException {
+		AssertChecker.notNull(table, "Экземпляр <Table> не должен быть <NULL>");
+		String tableName = table.getName();
+		AssertChecker.notNull(tableName, "Название Таблицы не должно быть <NULL>");
+
+		String query = getQueryBuilder().queryForCreateSpace(tableName, table.getDescription(), table.getColumns());
+		if (query == null) {
+			CreateTableException exception = new CreateTableException(String.format("Не удалось создать Таблицу <%s>: SQL-запрос равен <NULL> или пустой", tableName));
+			logger.error(exception.getMessage(), exception);
+			throw exception;
+		}
+		List<Index> indexes = table.getIndexes() != null ? table.getIndexes() : Collections.emptyList();
+		checkFullTextIndexes(tableName, indexes);
+		Map<Index, List<String>> indexQueries = buildConcurrentIndexQueries(tableName, indexes);
+		if (indexQueries != null) {
+			executeDdl(tableName, Collections.singletonList(query));
+			createIndexesConcurrently(tableName, indexQueries, parallelism, progressListener);
+		} else {
+			// Неблокирующее создание не поддерживается - весь DDL выполняется последовательно через одно соединение
+			List<String> queries = new ArrayList<>();
+			queries.add(query);
+			indexes.forEach(index -> queries.addAll(buildIndexQueries(tableName, index)));
+			executeDdl(tableName, queries);
+			if (progressListener != null) {
+				progressListener.onProgress(indexes.size(), indexes.size());
+			}
+		}
+	}
+
+	/**
+	 * Создание Индексов для существующей (в том числе заполненной) Таблицы в режиме, не блокирующем запись.
+	 * Если СУБД не поддерживает неблокирующее создание Индексов, то все Индексы создаются последовательно через одно соединение
+	 * (в СУБД, неявно фиксирующих каждый DDL-запрос, созданные до ошибки Индексы сохраняются)
+	 *
+	 * @param tableName        имя Таблицы ({@link Table})
+	 * @param indexes          описания Индексов
+	 * @param parallelism      максимальное количество одновременно создаваемых Индексов
+	 * @param progressListener получатель сведений о количестве созданных Индексов (может быть NULL)
+	 * @throws CreateTableException возникает в случае, если по каким-то причинам создать какой-либо из Индексов не удалось
+	 */
+	public void createIndexes(String tableName, List<Index> indexes, int parallelism, ProgressListener progressListener) throws CreateTableException {
+		AssertChecker.notNull(tableName, "Название Таблицы не должно быть <NULL>");
+		AssertChecker.notNull(indexes, "Перечень Индексов не должен быть <NULL>");
+		checkFullTextIndexes(tableName, indexes);
+		Map<Index, List<String>> indexQueries = buildConcurrentIndexQueries(tableName, indexes);
+		if (indexQueries != null) {
+			createIndexesConcurrently(tableName, indexQueries, parallelism, progressListener);
+		} else {
+			List<String> queries = new ArrayList<>();
+			indexes.forEach(index -> queries.addAll(buildIndexQueries(tableName, index)));
+			executeDdl(tableName, queries);
+			if (progressListener != null) {
+				progressListener.onProgress(indexes.size(), indexes.size());
+			}
+		}
+	}
+
+	/*
+	Формирование неблокирующих запросов для каждого Индекса. Возвращает NULL, если хотя бы один запрос нельзя выполнить неблокирующим образом
+	 */
+	private Map<Index, List<String>> buildConcurrentIndexQueries(String tableName, List<Index> indexes) {
+		Map<Index, List<String>> indexQueries = new LinkedHashMap<>();
+		for (Index index : indexes) {
+			List<String> queries = new ArrayList<>();
+			for (String indexQuery : buildIndexQueries(tableName, index)) {
+				String concurrentQuery = getQueryBuilder().queryForCreateSpaceIndexConcurrently(indexQuery);
+				if (concurrentQuery == null) {
+					return null;
+				}
+				queries.add(concurrentQuery);
+			}
+			indexQueries.put(index, queries);
+		}
+		return indexQueries;
+	}
+
+	/*
+	Каждый Индекс строится через свое соединение в режиме автофиксации (неблокирующие запросы нельзя выполнять в транзакции).
+	Если построение прервалось, то недостроенный Индекс удаляется, чтобы повторный вызов с IF NOT EXISTS не пропустил его
+	 */
+	private void createIndexesConcurrently(String tableName, Map<Index, List<String>> indexQueries, int parallelism, ProgressListener progressListener) throws CreateTableException {
+		if (indexQueries.isEmpty()) {
+			return;
+		}
+		int total = indexQueries.size();
+		AtomicInteger done = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, total)));
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (Map.Entry<Index, List<String>> entry : indexQueries.entrySet()) {
+				futures.add(executor.submit(() -> {
+					Index index = entry.getKey();
+					try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement();) {
+						connection.setAutoCommit(true);
+						try {
+							for (String indexQuery : entry.getValue()) {
+								logger.trace("SQL-запрос: " + indexQuery);
+								statement.execute(indexQuery);
+							}
+						} catch (SQLException e) {
+							dropInvalidIndex(statement, tableName, index);
+							throw e;
+						}
+					}
+					if (progressListener != null) {
+						progressListener.onProgress(done.incrementAndGet(), total);
+					}
+					return null;
+				}));
+			}
+			CreateTableException exception = null;
+			for (Future<?> future : futures) {
+				try {
+					future.get();
+				} catch (ExecutionException e) {
+					if (exception == null) {
+						exception = new CreateTableException(String.format("Не удалось создать индексы Таблицы <%s>", tableName), e.getCause());
+					} else {
+						exception.addSuppressed(e.getCause());
+					}
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					exception = new CreateTableException(String.format("Создание индексов Таблицы <%s> прервано", tableName), e);
+					break;
+				}
+			}
+			if (exception != null) {
+				logger.error(exception.getMessage(), exception);
+				throw exception;
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	/*
+	Недостроенный индекс удаляется также неблокирующим запросом, если СУБД его поддерживает
+	 */
+	private void dropInvalidIndex(Statement statement, String tableName, Index index) {
+		String query = getQueryBuilder().queryForDeleteSpaceIndex(tableName, index.getName());
+		if (query != null) {
+			String concurrentQuery = getQueryBuilder().queryForDeleteSpaceIndexConcurrently(query);
+			if (concurrentQuery != null) {
+				query = concurrentQuery;
+			}
+			try {
+				logger.trace("SQL-запрос: " + query);
+				statement.execute(query);
+			} catch (SQLException e) {
+				logger.warn(String.format("Не удалось удалить недостроенный индекс <%s> Таблицы <%s>", index.getName(), tableName), e);
+			}
+		}
+	}
+
+	/*
+	Выполнение DDL-запросов одной транзакцией через одно соединение. Откат при ошибке возможен только в СУБД с транзакционным DDL
+	(PostgreSQL, SQLite) - H2 неявно фиксирует каждый DDL-запрос
+	 */
+	private void executeDdl(String tableName, List<String> queries) throws CreateTableException {
+		try (Connection connection = getDataSource().getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try (Statement statement = connection.createStatement()) {
+				for (String query : queries) {
+					logger.trace("SQL-запрос: " + query);
+					statement.execute(query);
+				}
+				connection.commit();
+			} catch (Exception e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (Exception e) {
+			CreateTableException exception = new CreateTableException(String.format("Не удалось создать Таблицу <%s>", tableName), e);
+			logger.error(exception.getMessage(), exception);
+			throw exception;
+		}
+	}
+
 	/* Создание новой Таблицы */
 	protected void createTable(String tableName, String comments, List<Column> columns, List<Index> indexes) throws CreateTableException {
 		AssertChecker.notNull(tableName, "Название Таблицы не должно быть <NULL>");
+		if (indexes != null) {
+			checkFullTextIndexes(tableName, indexes);
+		}
 
 		String query = getQueryBuilder().queryForCreateSpace(tableName, comments, columns);
 		logger.trace("SQL-запрос: " + query);
@@ -377,35 +612,7 @@ public class DatabaseStorage implements Storage<Table, Column> {
 			// Далее - создаем индексы для Таблицы
 			if (indexes != null && !indexes.isEmpty()) {
 				for (Index index : indexes) {
-					String indexQuery = null;
-					if (index.isOnJson()) {
-						// Индексы для JSON
-						Optional<Column> indexColumn = index.getColumns()
-						                                    .stream()
-						                                    .findFirst();
-						if (indexColumn.isPresent()) {
-							indexQuery = getQueryBuilder().queryForCreateSpaceJsonIndex(tableName, indexColumn.get().getName(), index.getName(), index.isUnique());
-						}
-					} else {
-						// Обычные индексы
-						List<String> columnNames = index.getColumns()
-						                                .stream()
-						                                .map(Column::getName)
-						                                .collect(Collectors.toList());
-						indexQuery = getQueryBuilder().queryForCreateSpaceIndex(tableName, columnNames, index.getName(), index.isUnique());
-					}
-					logger.trace("SQL-запрос: " + indexQuery);
-					if (indexQuery != null) {
-						try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement();) {
-							statement.execute(indexQuery);
-						} catch (Exception e) {
-							CreateTableException exception = new CreateTableException(String.format("Не удалось создать индекс Таблицы <%s>", tableName), e);
-							logger.error(exception.getMessage(), exception);
-							throw exception;
-						}
-					} else {
-						logger.warn(String.format("Создание индексов для Таблицы <%s> пропущено, т.к. SQL-запрос равен <NULL>", tableName));
-					}
+					createIndex(tableName, index);
 				}
 			} else {
 				logger.warn(String.format("Индексы для Таблицы <%s> отсутствуют", tableName));
@@ -417,6 +624,393 @@ public class DatabaseStorage implements Storage<Table, Column> {
 		}
 	}
 
+	/**
+	 * Создание Индекса для существующей Таблицы
+	 *
+	 * @param tableName имя Таблицы ({@link Table})
+	 * @param index     описание Индекса
+	 * @throws CreateTableException возникает в случае, если по каким-то причинам создать Индекс не удалось
+	 */
+	public void createIndex(String tableName, Index index) throws CreateTableException {
+		AssertChecker.notNull(tableName, "Название Таблицы не должно быть <NULL>");
+		AssertChecker.notNull(index, "Экземпляр <Index> не должен быть <NULL>");
+		checkFullTextIndexes(tableName, Collections.singletonList(index));
+		List<String> indexQueries = buildIndexQueries(tableName, index);
+		if (indexQueries.isEmpty()) {
+			logger.warn(String.format("Создание индекса <%s> для Таблицы <%s> пропущено, т.к. SQL-запрос равен <NULL>", index.getName(), tableName));
+			return;
+		}
+		try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement();) {
+			for (String indexQuery : indexQueries) {
+				logger.trace("SQL-запрос: " + indexQuery);
+				statement.execute(indexQuery);
+			}
+		} catch (Exception e) {
+			CreateTableException exception = new CreateTableException(String.format("Не удалось создать индекс <%s> Таблицы <%s>", index.getName(), tableName), e);
+			logger.error(exception.getMessage(), exception);
+			throw exception;
+		}
+	}
+
+	/**
+	 * Удаление Индекса Таблицы
+	 *
+	 * @param tableName имя Таблицы ({@link Table})
+	 * @param index     описание Индекса (используются название и признак полнотекстового Индекса)
+	 * @throws DeleteTableException возникает в случае, если по каким-то причинам удалить Индекс не удалось
+	 */
+	public void dropIndex(String tableName, Index index) throws DeleteTableException {
+		AssertChecker.notNull(tableName, "Название Таблицы не должно быть <NULL>");
+		AssertChecker.notNull(index, "Экземпляр <Index> не должен быть <NULL>");
+		List<String> queries;
+		if (index.isFullText()) {
+			queries = getQueryBuilder().queryForDeleteSpaceFullTextIndex(tableName, index.getName());
+		} else {
+			String query = getQueryBuilder().queryForDeleteSpaceIndex(tableName, index.getName());
+			queries = query != null ? Collections.singletonList(query) : Collections.emptyList();
+		}
+		if (queries.isEmpty()) {
+			DeleteTableException exception = new DeleteTableException(String.format("Не удалось удалить индекс <%s> Таблицы <%s>: SQL-запрос равен <NULL>", index.getName(), tableName));
+			logger.error(exception.getMessage(), exception);
+			throw exception;
+		}
+		try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement();) {
+			for (String query : queries) {
+				logger.trace("SQL-запрос: " + query);
+				statement.execute(query);
+			}
+		} catch (Exception e) {
+			DeleteTableException exception = new DeleteTableException(String.format("Не удалось удалить индекс <%s> Таблицы <%s>", index.getName(), tableName), e);
+			logger.error(exception.getMessage(), exception);
+			throw exception;
+		}
+	}
+
+	/*
+	Проверка полнотекстовых Индексов для СУБД, в которых у Таблицы может быть только один такой Индекс (например, H2):
+	создание Индекса с другими Колонками заменило бы существующий, поэтому отклоняется
+	 */
+	private void checkFullTextIndexes(String tableName, List<Index> indexes) throws CreateTableException {
+		String query = getQueryBuilder().queryForSelectFullTextIndexColumns(tableName);
+		List<Index> fullTextIndexes = indexes.stream()
+		                                     .filter(Index::isFullText)
+		                                     .collect(Collectors.toList());
+		if (query == null || fullTextIndexes.isEmpty()) {
+			return;
+		}
+		if (fullTextIndexes.size() > 1) {
+			CreateTableException exception = new CreateTableException(String.format("Для Таблицы <%s> можно создать только один полнотекстовый индекс", tableName));
+			logger.error(exception.getMessage(), exception);
+			throw exception;
+		}
+		String columnNames = fullTextIndexes.get(0).getColumns().stream()
+		                                    .map(Column::getName)
+		                                    .collect(Collectors.joining(","));
+		String existingColumnNames = null;
+		logger.trace("SQL-запрос: " + query);
+		try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery(query)) {
+			if (resultSet.next()) {
+				existingColumnNames = resultSet.getString(1);
+			}
+		} catch (SQLException e) {
+			// Служебные таблицы полнотекстового поиска еще не созданы - Индексов нет
+			logger.debug(e.getMessage());
+		}
+		if (existingColumnNames != null && !existingColumnNames.replaceAll("\\s", "").equalsIgnoreCase(columnNames)) {
+			CreateTableException exception = new CreateTableException(String.format("Для Таблицы <%s> уже создан полнотекстовый индекс по Колонкам <%s>: " +
+			                                                                         "второй полнотекстовый индекс заменил бы его", tableName, existingColumnNames));
+			logger.error(exception.getMessage(), exception);
+			throw exception;
+		}
+	}
+
+	/*
+	Формирование запросов для создания Индекса в зависимости от его вида:
+	полнотекстовый (может потребовать нескольких запросов), для JSON или обычный
+	 */
+	protected List<String> buildIndexQueries(String tableName, Index index) {
+		if (index.isFullText()) {
+			List<String> columnNames = index.getColumns()
+			                                .stream()
+			                                .map(Column::getName)
+			                                .collect(Collectors.toList());
+			return getQueryBuilder().queryForCreateSpaceFullTextIndex(tableName, columnNames, index.getName());
+		}
+		String indexQuery = null;
+		if (index.isOnJson()) {
+			// Индексы для JSON
+			Optional<Column> indexColumn = index.getColumns()
+			                                    .stream()
+			                                    .findFirst();
+			if (indexColumn.isPresent()) {
+				indexQuery = getQueryBuilder().queryForCreateSpaceJsonIndex(tableName, indexColumn.get().getName(), index.getName(), index.isUnique());
+			}
+		} else {
+			// Обычные индексы (в том числе составные, частичные и покрывающие)
+			indexQuery = getQueryBuilder().queryForCreateSpaceIndex(tableName, index);
+		}
+		return indexQuery != null ? Collections.singletonList(indexQuery) : Collections.emptyList();
+	}
+
+	/**
+	 * Формирование плана изменения структуры Таблицы: требуемое описание Таблицы сравнивается с текущим состоянием БД.
+	 * Выбираются только изменения, не приводящие к потере данных: добавление Колонок (всегда допускающих NULL, с последующим заполнением
+	 * и установлением NOT NULL), расширение типов, снятие NOT NULL и создание недостающих Индексов. Удаление Колонок и Индексов, сужение типов,
+	 * а также NOT NULL для Колонок без значения по-умолчанию не выполняются - такие расхождения попадают в {@link MigrationPlan#getWarnings()}.
+	 * <p>
+	 * Увеличение размера строковых типов изменяет только метаданные, однако расширение целочисленного типа (например, INTEGER на BIGINT)
+	 * в PostgreSQL перезаписывает Таблицу под исключительной блокировкой - о таких изменениях также сообщается в предупреждениях
+	 *
+	 * @param table требуемое описание Таблицы
+	 * @return никогда не возвращает NULL
+	 */
+	public MigrationPlan planMigration(Table table) {
+		AssertChecker.notNull(table, "Экземпляр <Table> не должен быть <NULL>");
+		String tableName = table.getName();
+		AssertChecker.notNull(tableName, "Название Таблицы не должно быть <NULL>");
+
+		Pair<List<Column>, List<Index>> liveSchema = findColumnsAndIndexes(tableName, null);
+		if (liveSchema.getFirst().isEmpty()) {
+			return new MigrationPlan(table, true);
+		}
+		MigrationPlan plan = new MigrationPlan(table, false);
+		// Имена в метаданных могут отличаться регистром (например, H2 хранит их в верхнем регистре)
+		Map<String, Column> liveColumns = new HashMap<>();
+		liveSchema.getFirst().forEach(column -> liveColumns.put(column.getName().toUpperCase(), column));
+		Set<String> liveIndexNames = liveSchema.getSecond().stream()
+		                                       .map(index -> index.getName().toUpperCase())
+		                                       .collect(Collectors.toSet());
+		for (Column column : table.getColumns()) {
+			Column liveColumn = liveColumns.remove(column.getName().toUpperCase());
+			if (liveColumn == null) {
+				planAddColumn(plan, tableName, column);
+			} else {
+				planAlterColumn(plan, tableName, column, liveColumn);
+			}
+		}
+		liveColumns.values().forEach(liveColumn -> plan.getWarnings().add(String.format("Колонка <%s> отсутствует в описании Таблицы и не будет удалена", liveColumn.getName())));
+
+		if (table.getIndexes() != null) {
+			table.getIndexes().stream()
+			     .filter(index -> !liveIndexNames.contains(index.getName().toUpperCase()))
+			     .forEach(index -> plan.getIndexes().add(index));
+		}
+		return plan;
+	}
+
+	/**
+	 * Выполнение плана изменения структуры Таблицы. Изменения метаданных выполняются через одно соединение (одной транзакцией,
+	 * если СУБД поддерживает транзакционный DDL), заполнение Колонок - диапазонами первичного ключа по <code>chunkSize</code> строк
+	 * (каждый диапазон фиксируется отдельно, см. {@link ChunkedExecution}) с паузой между диапазонами, каждый запрос установления NOT NULL -
+	 * отдельной транзакцией. Индексы создаются без блокировки записи (см. {@link #createIndexes(String, List, int, ProgressListener)})
+	 *
+	 * @param plan             план, полученный с помощью {@link #planMigration(Table)}
+	 * @param chunkSize        количество строк, заполняемых за одну транзакцию
+	 * @param pauseMillis      пауза между порциями (в миллисекундах), чтобы не мешать остальной нагрузке
+	 * @param parallelism      максимальное количество одновременно создаваемых Индексов
+	 * @param progressListener получатель сведений о количестве выполненных шагов плана (может быть NULL)
+	 * @throws MigrateTableException возникает в случае, если по каким-то причинам выполнить план не удалось
+	 */
+	public void migrate(MigrationPlan plan, int chunkSize, long pauseMillis, int parallelism, ProgressListener progressListener) throws MigrateTableException {
+		AssertChecker.notNull(plan, "Экземпляр <MigrationPlan> не должен быть <NULL>");
+		Table table = plan.getTable();
+		String tableName = table.getName();
+		plan.getWarnings().forEach(warning -> logger.warn(String.format("Таблица <%s>: %s", tableName, warning)));
+		int total = plan.getStepCount();
+		int done = 0;
+		try {
+			if (plan.isCreateTable()) {
+				createSpace(table, parallelism, null);
+				reportProgress(progressListener, total, total);
+				return;
+			}
+			if (!plan.getAlterQueries().isEmpty()) {
+				executeDdl(tableName, plan.getAlterQueries());
+				done += plan.getAlterQueries().size();
+				reportProgress(progressListener, done, total);
+			}
+			if (!plan.getBackfillColumns().isEmpty()) {
+				Table liveTable = getSpace(tableName).orElseThrow(() -> new MigrateTableException(String.format("Таблица <%s> не найдена", tableName)));
+				for (Column column : plan.getBackfillColumns()) {
+					backfillColumn(liveTable, column, chunkSize, pauseMillis);
+					reportProgress(progressListener, ++done, total);
+				}
+			}
+			for (String query : plan.getNotNullQueries()) {
+				executeDdl(tableName, Collections.singletonList(query));
+				reportProgress(progressListener, ++done, total);
+			}
+			int indexesOffset = done;
+			createIndexes(tableName, plan.getIndexes(), parallelism,
+			              progressListener != null ? (indexesDone, indexesTotal) -> progressListener.onProgress(indexesOffset + indexesDone, total) : null);
+		} catch (MigrateTableException e) {
+			throw e;
+		} catch (Exception e) {
+			MigrateTableException exception = new MigrateTableException(String.format("Не удалось изменить структуру Таблицы <%s>", tableName), e);
+			logger.error(exception.getMessage(), exception);
+			throw exception;
+		}
+	}
+
+	private void planAddColumn(MigrationPlan plan, String tableName, Column column) {
+		String query = getQueryBuilder().queryForAddSpaceProperty(tableName, column);
+		if (query == null) {
+			plan.getWarnings().add(String.format("Колонку <%s> добавить невозможно", column.getName()));
+			return;
+		}
+		plan.getAlterQueries().add(query);
+		if (!column.isNullable()) {
+			planNotNull(plan, tableName, column);
+		}
+	}
+
+	private void planAlterColumn(MigrationPlan plan, String tableName, Column column, Column liveColumn) {
+		if (column.getType() != null && liveColumn.getType() != null) {
+			int comparison = compareColumnTypes(column, liveColumn);
+			if (comparison > 0) {
+				String query = getQueryBuilder().queryForAlterSpacePropertyType(tableName, column);
+				if (query != null) {
+					plan.getAlterQueries().add(query);
+					if (typeRank(column.getType()) != typeRank(liveColumn.getType()) && "INTEGER".equals(typeFamily(column.getType()))) {
+						plan.getWarnings().add(String.format("Изменение типа Колонки <%s> (<%s> на <%s>) может потребовать перезаписи Таблицы под исключительной блокировкой",
+						                                     column.getName(), liveColumn.getType().getTypeName(), column.getType().getTypeName()));
+					}
+				} else {
+					plan.getWarnings().add(String.format("Изменение типа Колонки <%s> не поддерживается СУБД", column.getName()));
+				}
+			} else if (comparison == Integer.MIN_VALUE) {
+				plan.getWarnings().add(String.format("Тип Колонки <%s> отличается (<%s> вместо <%s>) и не может быть изменен без перезаписи данных",
+				                                     column.getName(), liveColumn.getType().getTypeName(), column.getType().getTypeName()));
+			} else if (comparison < 0) {
+				plan.getWarnings().add(String.format("Тип Колонки <%s> шире требуемого (<%s> вместо <%s>) - сужение типа не выполняется",
+				                                     column.getName(), describeColumnType(liveColumn), describeColumnType(column)));
+			}
+		}
+		if (column.isNullable() && !liveColumn.isNullable() && !liveColumn.isPrimaryKey()) {
+			String query = getQueryBuilder().queryForAlterSpacePropertyNotNull(tableName, column.getName(), false);
+			if (query != null) {
+				plan.getAlterQueries().add(query);
+			} else {
+				plan.getWarnings().add(String.format("Снятие ограничения NOT NULL Колонки <%s> не поддерживается СУБД", column.getName()));
+			}
+		} else if (!column.isNullable() && liveColumn.isNullable()) {
+			planNotNull(plan, tableName, column);
+		}
+	}
+
+	/*
+	Заполнение значением по-умолчанию и установление ограничения NOT NULL. Без значения по-умолчанию существующие строки со значением NULL
+	не позволили бы установить ограничение и выполнение плана прервалось бы на середине, поэтому такой шаг не планируется
+	 */
+	private void planNotNull(MigrationPlan plan, String tableName, Column column) {
+		if (column.getDefaultValue() == null) {
+			plan.getWarnings().add(String.format("Для Колонки <%s> не задано значение по-умолчанию - ограничение NOT NULL не будет установлено", column.getName()));
+			return;
+		}
+		List<String> queries = getQueryBuilder().queryForSetSpacePropertyNotNull(tableName, column.getName());
+		if (queries.isEmpty()) {
+			plan.getWarnings().add(String.format("Установление ограничения NOT NULL Колонки <%s> не поддерживается СУБД", column.getName()));
+			return;
+		}
+		plan.getBackfillColumns().add(column);
+		plan.getNotNullQueries().addAll(queries);
+	}
+
+	/* Описание типа Колонки вида <VARCHAR(255)> для предупреждений */
+	private static String describeColumnType(Column column) {
+		String typeName = column.getType().getTypeName();
+		if (column.getType().isScalable() && column.getSize() > 0 && column.getScale() > 0) {
+			return typeName + "(" + column.getSize() + ", " + column.getScale() + ")";
+		}
+		return column.getType().isSizeable() && column.getSize() > 0 ? typeName + "(" + column.getSize() + ")" : typeName;
+	}
+
+	/*
+	Сравнение типов Колонок: положительное значение - требуемый тип шире текущего (изменение возможно без потери данных), 0 - типы совпадают,
+	Integer.MIN_VALUE - типы несовместимы, отрицательное значение - требуемый тип уже текущего (сужение не выполняется)
+	 */
+	private int compareColumnTypes(Column column, Column liveColumn) {
+		int rank = typeRank(column.getType());
+		int liveRank = typeRank(liveColumn.getType());
+		String typeFamily = typeFamily(column.getType());
+		if (typeFamily == null || !typeFamily.equals(typeFamily(liveColumn.getType()))) {
+			return Integer.MIN_VALUE;
+		}
+		if (rank != liveRank) {
+			return rank - liveRank;
+		}
+		if (column.getType().isSizeable() && column.getSize() > 0 && liveColumn.getSize() > 0) {
+			if (column.getType().isScalable()) {
+				// Тип расширяется, только если не уменьшается ни количество знаков до запятой, ни количество знаков после нее
+				int integerDigits = Integer.compare(column.getSize() - column.getScale(), liveColumn.getSize() - liveColumn.getScale());
+				int fractionDigits = Integer.compare(column.getScale(), liveColumn.getScale());
+				return integerDigits < 0 || fractionDigits < 0 ? -1 : integerDigits + fractionDigits;
+			}
+			return Integer.compare(column.getSize(), liveColumn.getSize());
+		}
+		return 0;
+	}
+
+	private static String typeFamily(ColumnType columnType) {
+		String typeName = columnType.getTypeName().toUpperCase();
+		switch (typeName) {
+			case "SMALLINT":
+			case "INTEGER":
+			case "INT4":
+			case "BIGINT":
+			case "INT8":
+				return "INTEGER";
+			case "VARCHAR":
+			case "CHARACTER VARYING":
+			case "TEXT":
+				return "CHARACTER";
+			default:
+				return typeName;
+		}
+	}
+
+	private static int typeRank(ColumnType columnType) {
+		switch (columnType.getTypeName().toUpperCase()) {
+			case "INTEGER":
+			case "INT4":
+				return 1;
+			case "BIGINT":
+			case "INT8":
+			case "TEXT":
+				return 2;
+			default:
+				return 0;
+		}
+	}
+
+	/*
+	Заполнение Колонки диапазонами первичного ключа (см. Table#updateElements(Row, Condition, ChunkedExecution)): каждый диапазон фиксируется
+	отдельно, а следующий начинается после последнего обработанного ключа, поэтому уже заполненные строки повторно не просматриваются.
+	Без первичного ключа разбить Таблицу на диапазоны невозможно - заполнение выполняется одним запросом
+	 */
+	private void backfillColumn(Table table, Column column, int chunkSize, long pauseMillis) {
+		// Имена в метаданных могут отличаться регистром
+		Column liveColumn = table.getColumns().stream()
+		                         .filter(tableColumn -> tableColumn.getName().equalsIgnoreCase(column.getName()))
+		                         .findFirst()
+		                         .orElseThrow(() -> new MigrateTableException(String.format("Колонка <%s> не найдена в Таблице <%s>", column.getName(), table.getName())));
+		Row row = new Row(table.getProperties());
+		row.setValue(liveColumn.getName(), column.getDefaultValue());
+		Condition condition = Condition.isNull(liveColumn.getName());
+		if (table.getIdColumns().isEmpty()) {
+			logger.warn(String.format("У Таблицы <%s> отсутствует первичный ключ - Колонка <%s> заполняется одним запросом", table.getName(), liveColumn.getName()));
+			table.updateElements(row, condition);
+		} else {
+			table.updateElements(row, condition, new ChunkedExecution(chunkSize, pauseMillis));
+		}
+	}
+
+	private static void reportProgress(ProgressListener progressListener, long done, long total) {
+		if (progressListener != null) {
+			progressListener.onProgress(done, total);
+		}
+	}
+
 	/**
 	 * Удаление Таблицы
 	 *
@@ -1,11 +1,17 @@
 package ru.rds.data.database;
 
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.rds.data.database.common.AssertChecker;
+import ru.rds.data.database.common.JsonWriter;
+import ru.rds.data.database.common.Pair;
+import ru.rds.data.database.conditions.*;
 import ru.rds.data.database.exceptions.CreateTableException;
+import ru.rds.data.database.types.ArrayColumnType;
+import ru.rds.data.database.types.SqlArray;
 import ru.rds.data.storage.ElementsSelectionCondition;
 import ru.rds.data.storage.ElementsSort;
 import ru.rds.data.storage.SelectionType;
@@ -21,6 +27,15 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 
 	private static final Logger logger = LoggerFactory.getLogger(DefaultDatabaseQueryBuilder.class);
 
+	// Количество значений IN, начиная с которого перечень передается параметром-массивом (если СУБД поддерживает такие параметры)
+	private static final int ARRAY_IN_LIST_SIZE  = 32;
+	// Максимальное количество частей, на которые разбивается перечень значений IN (для большего перечня используется временная Таблица)
+	private static final int MAX_IN_LIST_CHUNKS  = 10;
+	// Максимальное количество параметров одного запроса (ограничение протокола PostgreSQL)
+	private static final int MAX_PARAMETER_COUNT = 32767;
+	// Допустимое название последовательности (возможно, с указанием схемы) - название подставляется в текст запроса
+	private static final Pattern SEQUENCE_NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
 	// Формирование строки вида <SELECT column1, column2, ... FROM tableName>
 	private String buildSelectQueryPart(String tableName, List<Column> tableColumns) {
 		if (tableName != null) {
@@ -147,6 +162,275 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 		return null;
 	}
 
+	/*
+	Формирование строки условий <WHERE ...> на основе дерева условий, в которой значения заменены на "?".
+	Сами значения в порядке их следования добавляются в список parameters.
+	Если условие отсутствует, то будет возвращен <NULL>. Условие, которое невозможно преобразовать в SQL, не отбрасывается,
+	а приводит к исключению, чтобы отбор (и особенно удаление или обновление) не распространялся на лишние Строки
+	 */
+	protected String buildConditionQueryPart(String tableName, Condition condition, List<Object> parameters) {
+		if (condition == null) {
+			return null;
+		}
+		return "WHERE " + buildConditionExpression(tableName, condition, parameters);
+	}
+
+	/*
+	Формирование выражения для условия (или группы условий).
+	Пустая группа OR не совпадает ни с одной Строкой (<1 = 0>), пустая группа AND и отрицание пустой группы считаются ошибкой
+	 */
+	protected String buildConditionExpression(String tableName, Condition condition, List<Object> parameters) {
+		String expression = null;
+		if (condition instanceof ConditionGroup) {
+			ConditionGroup group = (ConditionGroup) condition;
+			if (group.getConditions() == null || group.getConditions().isEmpty()) {
+				if (group.getSelectionType() == SelectionType.OR) {
+					return "1 = 0";
+				}
+				throw new IllegalArgumentException(String.format("Группа условий <%s> не содержит ни одного условия", group.getSelectionType()));
+			}
+			List<String> expressions = new ArrayList<>();
+			for (Condition groupCondition : group.getConditions()) {
+				String groupExpression = buildConditionExpression(tableName, groupCondition, parameters);
+				expressions.add(groupCondition instanceof ConditionGroup ? "(" + groupExpression + ")" : groupExpression);
+			}
+			expression = String.join(" " + group.getSelectionType().name() + " ", expressions);
+		} else if (condition instanceof NotCondition) {
+			Condition negatedCondition = ((NotCondition) condition).getCondition();
+			if (negatedCondition instanceof ConditionGroup && (((ConditionGroup) negatedCondition).getConditions() == null ||
+			                                                   ((ConditionGroup) negatedCondition).getConditions().isEmpty())) {
+				throw new IllegalArgumentException("Отрицание пустой группы условий не поддерживается");
+			}
+			expression = "NOT (" + buildConditionExpression(tableName, negatedCondition, parameters) + ")";
+		} else if (condition instanceof ColumnCondition) {
+			expression = buildColumnConditionExpression((ColumnCondition) condition, parameters);
+		} else if (condition instanceof FullTextCondition) {
+			expression = buildFullTextConditionExpression(tableName, (FullTextCondition) condition, parameters);
+		} else if (condition instanceof InTableCondition) {
+			InTableCondition inTableCondition = (InTableCondition) condition;
+			expression = inTableCondition.getColumnName() + (inTableCondition.isNegative() ? " NOT IN" : " IN") +
+			             " (SELECT " + InTableCondition.VALUE_COLUMN_NAME + " FROM " + inTableCondition.getValuesTableName() + ")";
+		} else if (condition != null) {
+			throw new IllegalArgumentException(String.format("Неподдерживаемый тип условия <%s>", condition.getClass().getName()));
+		} else {
+			throw new IllegalArgumentException("Условие не должно быть равно <NULL>");
+		}
+		if (expression == null) {
+			throw new IllegalArgumentException(String.format("Условие <%s> не может быть преобразовано в SQL", condition.getClass().getSimpleName()));
+		}
+		return expression;
+	}
+
+	/*
+	Формирование выражения для условия на значение одной Колонки.
+	Значения для сравнения передаются как ColumnParameter, чтобы они устанавливались кодеком типа Колонки
+	 */
+	protected String buildColumnConditionExpression(ColumnCondition condition, List<Object> parameters) {
+		if (condition instanceof JsonCondition) {
+			return buildJsonConditionExpression((JsonCondition) condition, parameters);
+		}
+		String columnName = condition.getColumnName();
+		Object value = condition.getValue();
+		switch (condition.getOperator()) {
+			case EQUAL:
+				if (value == null) {
+					return columnName + " IS NULL";
+				}
+				parameters.add(new ColumnParameter(columnName, value));
+				return columnName + " = ?";
+			case NOT_EQUAL:
+				if (value == null) {
+					return columnName + " IS NOT NULL";
+				}
+				parameters.add(new ColumnParameter(columnName, value));
+				return columnName + " != ?";
+			case GREATER_THAN:
+				parameters.add(new ColumnParameter(columnName, value));
+				return columnName + " > ?";
+			case GREATER_THAN_OR_EQUAL:
+				parameters.add(new ColumnParameter(columnName, value));
+				return columnName + " >= ?";
+			case LESS_THAN:
+				parameters.add(new ColumnParameter(columnName, value));
+				return columnName + " < ?";
+			case LESS_THAN_OR_EQUAL:
+				parameters.add(new ColumnParameter(columnName, value));
+				return columnName + " <= ?";
+			case IN:
+			case NOT_IN:
+				return buildInConditionExpression(columnName, condition.getOperator() == ConditionOperator.NOT_IN, condition.getValues(), parameters);
+			case ANY:
+				return buildArrayInConditionExpression(columnName, false, condition.getValues(), parameters);
+			case IS_NULL:
+				return columnName + " IS NULL";
+			case IS_NOT_NULL:
+				return columnName + " IS NOT NULL";
+			case BETWEEN:
+				if (condition.getValues() == null || condition.getValues().size() != 2) {
+					throw new IllegalArgumentException(String.format("Условие BETWEEN для Колонки <%s> должно содержать ровно 2 значения", columnName));
+				}
+				parameters.add(new ColumnParameter(columnName, condition.getValues().get(0)));
+				parameters.add(new ColumnParameter(columnName, condition.getValues().get(1)));
+				return columnName + " BETWEEN ? AND ?";
+			case CONTAINS:
+				parameters.add("%" + escapeLikePattern(String.valueOf(value)) + "%");
+				return columnName + " LIKE ? ESCAPE '\\'";
+			case NOT_CONTAINS:
+				parameters.add("%" + escapeLikePattern(String.valueOf(value)) + "%");
+				return columnName + " NOT LIKE ? ESCAPE '\\'";
+			case STARTS_WITH:
+				parameters.add(escapeLikePattern(String.valueOf(value)) + "%");
+				return columnName + " LIKE ? ESCAPE '\\'";
+			default:
+				throw new IllegalArgumentException(String.format("Неподдерживаемый оператор условия <%s>", condition.getOperator()));
+		}
+	}
+
+	/*
+	Формирование выражения для условия на JSON-значение.
+	Общая реализация не умеет вычислять JSON-пути и сравнивать JSON-значения независимо от их текстового представления,
+	поэтому JSON-условия не поддерживаются: поиск по тексту JSON давал бы неверный результат
+	 */
+	protected String buildJsonConditionExpression(JsonCondition condition, List<Object> parameters) {
+		throw new IllegalArgumentException(String.format("JSON-условие <%s> для Колонки <%s> не поддерживается данной СУБД",
+		                                                 condition.getOperator(), condition.getColumnName()));
+	}
+
+	// Формирование пути вида <$."key1"."key2">
+	protected String buildJsonPath(List<String> path) {
+		StringBuilder sb = new StringBuilder("$");
+		for (String key : path) {
+			sb.append(".").append(JsonWriter.write(key));
+		}
+		return sb.toString();
+	}
+
+	/*
+	Формирование выражения для полнотекстового поиска.
+	Общая реализация не использует индекс: каждое слово ищется как подстрока хотя бы в одной из Колонок Индекса
+	 */
+	protected String buildFullTextConditionExpression(String tableName, FullTextCondition condition, List<Object> parameters) {
+		List<String> columnNames = condition.getIndex().getColumns().stream()
+		                                    .map(Column::getName)
+		                                    .collect(Collectors.toList());
+		List<String> words = splitFullTextWords(condition.getText());
+		if (columnNames.isEmpty()) {
+			return null;
+		}
+		if (words.isEmpty()) {
+			throw new IllegalArgumentException("Текст полнотекстового поиска не должен быть пустым");
+		}
+		List<String> wordExpressions = new ArrayList<>();
+		for (String word : words) {
+			List<String> columnExpressions = new ArrayList<>();
+			for (String columnName : columnNames) {
+				columnExpressions.add(columnName + " LIKE ? ESCAPE '\\'");
+				parameters.add("%" + escapeLikePattern(word) + "%");
+			}
+			wordExpressions.add("(" + String.join(" OR ", columnExpressions) + ")");
+		}
+		return String.join(" AND ", wordExpressions);
+	}
+
+	// Разбиение текста полнотекстового поиска на слова
+	protected List<String> splitFullTextWords(String text) {
+		List<String> words = new ArrayList<>();
+		if (text != null) {
+			for (String word : text.trim().split("\\s+")) {
+				if (!word.isEmpty()) {
+					words.add(word);
+				}
+			}
+		}
+		return words;
+	}
+
+	/*
+	Формирование выражения вида <columnName IN (?, ?, ...)>.
+	Пустой перечень значений не совпадает ни с одной Строкой (для NOT IN - совпадает с любой).
+	Если для такого количества значений выбран параметр-массив (см. planInList) - формируется выражение <columnName = ANY(?)>
+	 */
+	protected String buildInConditionExpression(String columnName, boolean negative, List<Object> values, List<Object> parameters) {
+		if (values == null || values.isEmpty()) {
+			return negative ? "1 = 1" : "1 = 0";
+		}
+		if (planInList(values.size()) == InListStrategy.ARRAY) {
+			return buildArrayInConditionExpression(columnName, negative, values, parameters);
+		}
+		StringBuilder sb = new StringBuilder(columnName).append(negative ? " NOT IN (" : " IN (");
+		for (int pos = 0; pos < values.size(); pos++) {
+			if (pos != 0) {
+				sb.append(", ");
+			}
+			sb.append("?");
+			parameters.add(new ColumnParameter(columnName, values.get(pos)));
+		}
+		return sb.append(")").toString();
+	}
+
+	/*
+	Формирование выражения вида <columnName = ANY(?)> (для NOT IN - <NOT (columnName = ANY(?))>), где перечень значений передается одним параметром-массивом.
+	Если СУБД не поддерживает параметры-массивы - формируется выражение <columnName IN (?, ?, ...)>
+	 */
+	protected String buildArrayInConditionExpression(String columnName, boolean negative, List<Object> values, List<Object> parameters) {
+		if (!isArrayParameterSupported()) {
+			return buildInConditionExpression(columnName, negative, values, parameters);
+		}
+		if (values == null || values.isEmpty()) {
+			return negative ? "1 = 1" : "1 = 0";
+		}
+		parameters.add(SqlArray.of(values));
+		return negative ? "NOT (" + columnName + " = ANY(?))" : columnName + " = ANY(?)";
+	}
+
+	/*
+	Параметр-массив используется, начиная с ARRAY_IN_LIST_SIZE значений (вид запроса перестает зависеть от количества значений).
+	Без поддержки массивов перечень, не помещающийся в один запрос, разбивается на части, а очень большой - загружается во временную Таблицу
+	 */
+	@Override
+	public InListStrategy planInList(int valueCount) {
+		if (isArrayParameterSupported() && valueCount > ARRAY_IN_LIST_SIZE) {
+			return InListStrategy.ARRAY;
+		}
+		int maxParameterCount = getMaxParameterCount();
+		if (valueCount <= maxParameterCount) {
+			return InListStrategy.PARAMETERS;
+		}
+		if ((long) valueCount <= (long) maxParameterCount * MAX_IN_LIST_CHUNKS) {
+			return InListStrategy.CHUNKS;
+		}
+		return InListStrategy.TEMPORARY_TABLE;
+	}
+
+	@Override
+	public int getMaxParameterCount() {
+		return MAX_PARAMETER_COUNT;
+	}
+
+	// Поддерживаются ли параметры-массивы в выражении <= ANY(?)>
+	protected boolean isArrayParameterSupported() {
+		return false;
+	}
+
+	// Проверка названия последовательности перед подстановкой в текст запроса
+	protected void checkSequenceName(String sequenceName) {
+		if (!SEQUENCE_NAME_PATTERN.matcher(sequenceName).matches()) {
+			throw new IllegalArgumentException(String.format("Недопустимое название последовательности <%s>", sequenceName));
+		}
+	}
+
+	// Экранирование специальных символов шаблона LIKE (используется символ экранирования '\')
+	protected String escapeLikePattern(String value) {
+		return value.replace("\\", "\\\\")
+		            .replace("%", "\\%")
+		            .replace("_", "\\_");
+	}
+
+	@Override
+	public List<String> queryForInitializeStorage() {
+		return Collections.emptyList();
+	}
+
 	@Override
 	public String queryForGetColumns(String tableName) {
 		if (tableName != null && !tableName.isEmpty()) {
@@ -226,6 +510,81 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 		return null;
 	}
 
+	@Override
+	public String queryForAddSpaceProperty(String tableName, Column column) {
+		if (tableName != null && !tableName.isEmpty()) {
+			String typeDefinition = buildColumnTypeDefinition(column);
+			if (typeDefinition != null) {
+				return "ALTER TABLE " + tableName + " ADD COLUMN " + column.getName() + " " + typeDefinition;
+			}
+		} else {
+			logger.error("Отсутствует название Таблицы");
+		}
+		return null;
+	}
+
+	@Override
+	public String queryForAlterSpacePropertyType(String tableName, Column column) {
+		if (tableName != null && !tableName.isEmpty()) {
+			String typeDefinition = buildColumnTypeDefinition(column);
+			if (typeDefinition != null) {
+				return "ALTER TABLE " + tableName + " ALTER COLUMN " + column.getName() + " SET DATA TYPE " + typeDefinition;
+			}
+		} else {
+			logger.error("Отсутствует название Таблицы");
+		}
+		return null;
+	}
+
+	@Override
+	public String queryForAlterSpacePropertyNotNull(String tableName, String columnName, boolean notNull) {
+		if (tableName != null && !tableName.isEmpty() && columnName != null && !columnName.isEmpty()) {
+			return "ALTER TABLE " + tableName + " ALTER COLUMN " + columnName + (notNull ? " SET NOT NULL" : " DROP NOT NULL");
+		} else {
+			logger.error("Отсутствует название Таблицы или Колонки");
+		}
+		return null;
+	}
+
+	@Override
+	public List<String> queryForSetSpacePropertyNotNull(String tableName, String columnName) {
+		String query = queryForAlterSpacePropertyNotNull(tableName, columnName, true);
+		return query != null ? Collections.singletonList(query) : Collections.emptyList();
+	}
+
+	/* Формирование типа Колонки вида <VARCHAR(255)> */
+	protected String buildColumnTypeDefinition(Column column) {
+		if (column == null || column.getName() == null) {
+			return null;
+		}
+		ColumnType columnType = column.getType();
+		String sqlType = columnType != null ? getSqlTypeName(columnType) : null;
+		if (sqlType == null || sqlType.isEmpty()) {
+			logger.error(String.format("SQL-тип Столбца <%s> равен <NULL>", column.getName()));
+			return null;
+		}
+		return sqlType + buildTypeSize(column);
+	}
+
+	/*
+	Формирование размера типа вида <(255)>, а для типов с масштабом - <(12, 2)>.
+	Если размер не задан и у типа нет размера по-умолчанию, то размер не указывается (например, NUMERIC без ограничения точности)
+	 */
+	protected String buildTypeSize(Column column) {
+		ColumnType columnType = column.getType();
+		if (!columnType.isSizeable()) {
+			return "";
+		}
+		int size = column.getSize() > 0 ? column.getSize() : columnType.getDefaultSize();
+		if (size <= 0) {
+			return "";
+		}
+		if (columnType.isScalable() && column.getScale() > 0) {
+			return "(" + size + ", " + column.getScale() + ")";
+		}
+		return "(" + size + ")";
+	}
+
 	private String mapColumnToCreationString(Column column) {
 		if (column != null) {
 			if (column.getName() != null) {
@@ -240,7 +599,7 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 				} else {
 					// Определяем тип SQL
 					/*Optional<String> sqlType = ColumnType.sqlTypeOf(columnType.getTypeCode());*/
-					String sqlType = columnType.getTypeName();
+					String sqlType = getSqlTypeName(columnType);
 					if (sqlType == null || sqlType.isEmpty()) {
 						CreateTableException exception = new CreateTableException(String.format("SQL-тип Столбца <%s> равен <NULL>", column.getName()));
 						logger.error(exception.getMessage(), exception);
@@ -248,16 +607,8 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 					} else {
 						propertyBuilder.append(" ");
 						propertyBuilder.append(sqlType);
-						// Проверяем, обладает ли размером
-						if (columnType.isSizeable()) {
-							int size = columnType.getDefaultSize();
-							if (column.getSize() > 0) {
-								size = column.getSize();
-							}
-							propertyBuilder.append("(");
-							propertyBuilder.append(String.valueOf(size));
-							propertyBuilder.append(")");
-						}
+						// Проверяем, обладает ли размером (и масштабом)
+						propertyBuilder.append(buildTypeSize(column));
 						// Проверяем, может ли быть NULL
 						if (!column.isNullable()) {
 							propertyBuilder.append(" NOT NULL");
@@ -343,6 +694,100 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 		return null;
 	}
 
+	@Override
+	public String queryForCreateSpaceIndex(String tableName, Index index) {
+		if (tableName != null && !tableName.isEmpty()) {
+			if (index != null && !index.getColumns().isEmpty() && index.getName() != null && !index.getName().isEmpty()) {
+				List<String> columnParts = new ArrayList<>();
+				for (Column column : index.getColumns()) {
+					columnParts.add(index.isDescending(column.getName()) ? column.getName() + " DESC" : column.getName());
+				}
+				List<String> includedColumnNames = index.getIncludedColumns().stream()
+				                                        .map(Column::getName)
+				                                        .filter(columnName -> index.getColumns().stream().noneMatch(column -> column.getName().equals(columnName)))
+				                                        .collect(Collectors.toList());
+				String predicate = index.getPredicate();
+				if (predicate != null && !predicate.isEmpty() && !isPartialIndexSupported()) {
+					if (index.isUnique()) {
+						// Уникальность по части строк не эмулируется полным индексом, а пропуск индекса оставил бы Таблицу без ограничения уникальности
+						throw new CreateTableException(String.format("Частичный уникальный индекс <%s> не поддерживается для данной СУБД", index.getName()));
+					}
+					logger.warn(String.format("Частичные индексы не поддерживаются для данной СУБД - индекс <%s> будет построен по всем строкам", index.getName()));
+					predicate = null;
+				}
+				if (!includedColumnNames.isEmpty() && !isIncludedColumnsSupported()) {
+					if (index.isUnique()) {
+						// Добавление колонок в ключ уникального индекса изменило бы уникальность
+						logger.warn(String.format("Включаемые колонки не поддерживаются для данной СУБД - для уникального индекса <%s> они пропущены", index.getName()));
+					} else {
+						columnParts.addAll(includedColumnNames);
+					}
+					includedColumnNames = Collections.emptyList();
+				}
+
+				StringBuilder query = new StringBuilder();
+				query.append("CREATE");
+				if (index.isUnique()) {
+					query.append(" UNIQUE");
+				}
+				query.append(" INDEX IF NOT EXISTS ");
+				query.append(index.getName());
+				query.append(" ON ");
+				query.append(tableName);
+				query.append(" (").append(String.join(", ", columnParts)).append(")");
+				if (!includedColumnNames.isEmpty()) {
+					query.append(" INCLUDE (").append(String.join(", ", includedColumnNames)).append(")");
+				}
+				if (predicate != null && !predicate.isEmpty()) {
+					query.append(" WHERE ").append(predicate);
+				}
+				return query.toString();
+			}
+		} else {
+			logger.error("Отсутствует название Таблицы");
+		}
+		return null;
+	}
+
+	/**
+	 * Поддерживает ли СУБД частичные индексы (CREATE INDEX ... WHERE ...)
+	 *
+	 * @return
+	 */
+	protected boolean isPartialIndexSupported() {
+		return false;
+	}
+
+	/**
+	 * Поддерживает ли СУБД включаемые колонки индекса (CREATE INDEX ... INCLUDE (...)).
+	 * Если нет - для неуникальных индексов включаемые колонки добавляются в конец ключа индекса
+	 *
+	 * @return
+	 */
+	protected boolean isIncludedColumnsSupported() {
+		return false;
+	}
+
+	@Override
+	public String queryForDeleteSpaceIndex(String tableName, String indexName) {
+		if (indexName != null && !indexName.isEmpty()) {
+			return "DROP INDEX IF EXISTS " + indexName;
+		} else {
+			logger.error("Отсутствует название Индекса");
+		}
+		return null;
+	}
+
+	@Override
+	public String queryForCreateSpaceIndexConcurrently(String indexQuery) {
+		return null;
+	}
+
+	@Override
+	public String queryForDeleteSpaceIndexConcurrently(String dropQuery) {
+		return null;
+	}
+
 	@Override
 	public String queryForCreateSpaceJsonIndex(String spaceName, String propertyName, String indexName, boolean unique) {
 		if (spaceName != null && !spaceName.isEmpty()) {
@@ -369,6 +814,147 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 		return null;
 	}
 
+	/*
+	Общая реализация не поддерживает полнотекстовые индексы - поиск выполняется без индекса (см. buildFullTextConditionExpression)
+	 */
+	@Override
+	public List<String> queryForCreateSpaceFullTextIndex(String tableName, List<String> columnNames, String indexName) {
+		logger.warn(String.format("Полнотекстовый Индекс <%s> не поддерживается для данной СУБД и не будет создан", indexName));
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String queryForCreateStagingSpace(String stagingTableName, String tableName) {
+		if (stagingTableName != null && !stagingTableName.isEmpty() && tableName != null && !tableName.isEmpty()) {
+			return "CREATE " + getTemporaryTableKeyword() + " TABLE " + stagingTableName + " AS SELECT * FROM " + tableName + " WHERE 1 = 0";
+		} else {
+			logger.error("Отсутствует название Таблицы");
+		}
+		return null;
+	}
+
+	@Override
+	public String queryForCreateValuesSpace(String valuesTableName, String tableName, String columnName) {
+		if (valuesTableName != null && !valuesTableName.isEmpty() && tableName != null && !tableName.isEmpty() && columnName != null && !columnName.isEmpty()) {
+			return "CREATE " + getTemporaryTableKeyword() + " TABLE " + valuesTableName +
+			       " AS SELECT " + columnName + " AS " + InTableCondition.VALUE_COLUMN_NAME + " FROM " + tableName + " WHERE 1 = 0";
+		} else {
+			logger.error("Отсутствует название Таблицы или Колонки");
+		}
+		return null;
+	}
+
+	/* Ключевое слово для создания временной Таблицы, видимой только в рамках соединения */
+	protected String getTemporaryTableKeyword() {
+		return "TEMPORARY";
+	}
+
+	/*
+	Обновление через <UPDATE ... FROM> и вставка недостающих Строк через <INSERT ... SELECT ... WHERE NOT EXISTS>
+	 */
+	@Override
+	public List<String> queryForMergeFromStagingSpace(String tableName, String stagingTableName, List<String> columnNames, List<String> keyColumnNames) {
+		if (tableName == null || stagingTableName == null || columnNames == null || columnNames.isEmpty() || keyColumnNames == null || keyColumnNames.isEmpty()) {
+			logger.error("Отсутствует название Таблицы, Колонки или первичный ключ");
+			return Collections.emptyList();
+		}
+		List<String> queries = new ArrayList<>();
+		List<String> valueColumnNames = columnNames.stream()
+		                                           .filter(columnName -> !keyColumnNames.contains(columnName))
+		                                           .collect(Collectors.toList());
+		String keyMatch = buildKeyMatchExpression(tableName, stagingTableName, keyColumnNames);
+		if (!valueColumnNames.isEmpty()) {
+			queries.add("UPDATE " + tableName + " SET " + valueColumnNames.stream()
+			                                                                  .map(columnName -> columnName + " = " + stagingTableName + "." + columnName)
+			                                                                  .collect(Collectors.joining(", ")) +
+			            " FROM " + stagingTableName +
+			            " WHERE " + keyMatch +
+			            " AND (" + buildChangedExpression(tableName, stagingTableName, valueColumnNames) + ")");
+		}
+		queries.add("INSERT INTO " + tableName + " (" + String.join(", ", columnNames) + ")" +
+		            " SELECT " + columnNames.stream()
+		                                    .map(columnName -> stagingTableName + "." + columnName)
+		                                    .collect(Collectors.joining(", ")) +
+		            " FROM " + stagingTableName +
+		            " WHERE NOT EXISTS (SELECT 1 FROM " + tableName + " WHERE " + keyMatch + ")");
+		return queries;
+	}
+
+	@Override
+	public String queryForDeleteMissingFromStagingSpace(String tableName, String stagingTableName, List<String> keyColumnNames) {
+		if (tableName != null && stagingTableName != null && keyColumnNames != null && !keyColumnNames.isEmpty()) {
+			return "DELETE FROM " + tableName + " WHERE NOT EXISTS (SELECT 1 FROM " + stagingTableName + " WHERE " + buildKeyMatchExpression(tableName, stagingTableName, keyColumnNames) + ")";
+		} else {
+			logger.error("Отсутствует название Таблицы или первичный ключ");
+		}
+		return null;
+	}
+
+	// Формирование выражения вида <table.id = staging.id AND ...>
+	protected String buildKeyMatchExpression(String tableName, String stagingTableName, List<String> keyColumnNames) {
+		return keyColumnNames.stream()
+		                     .map(columnName -> tableName + "." + columnName + " = " + stagingTableName + "." + columnName)
+		                     .collect(Collectors.joining(" AND "));
+	}
+
+	// Формирование выражения вида <table.name IS DISTINCT FROM staging.name OR ...> (истинно, если хотя бы одно значение отличается)
+	protected String buildChangedExpression(String tableName, String stagingTableName, List<String> columnNames) {
+		return columnNames.stream()
+		                  .map(columnName -> buildDistinctExpression(tableName + "." + columnName, stagingTableName + "." + columnName))
+		                  .collect(Collectors.joining(" OR "));
+	}
+
+	// Сравнение значений с учетом NULL
+	protected String buildDistinctExpression(String left, String right) {
+		return left + " IS DISTINCT FROM " + right;
+	}
+
+	@Override
+	public List<String> queryForDeleteSpaceFullTextIndex(String tableName, String indexName) {
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String queryForSelectFullTextIndexColumns(String tableName) {
+		return null;
+	}
+
+	@Override
+	public String queryForCreateSequence(String sequenceName) {
+		if (sequenceName != null && !sequenceName.isEmpty()) {
+			checkSequenceName(sequenceName);
+			return "CREATE SEQUENCE IF NOT EXISTS " + sequenceName;
+		} else {
+			logger.error("Отсутствует название последовательности");
+		}
+		return null;
+	}
+
+	@Override
+	public String queryForNextSequenceValue(String sequenceName) {
+		if (sequenceName != null && !sequenceName.isEmpty()) {
+			checkSequenceName(sequenceName);
+			return "SELECT NEXT VALUE FOR " + sequenceName;
+		} else {
+			logger.error("Отсутствует название последовательности");
+		}
+		return null;
+	}
+
+	@Override
+	public String getSqlTypeName(ColumnType columnType) {
+		if (columnType instanceof ArrayColumnType) {
+			// Стандартный вид <element_type ARRAY>
+			return getSqlTypeName(((ArrayColumnType) columnType).getElementType()) + " ARRAY";
+		}
+		return columnType.getTypeName();
+	}
+
+	@Override
+	public Object convertParameterValue(Object value) {
+		return value;
+	}
+
 	@Override
 	public String queryForDeleteSpace(String spaceName) {
 		if (spaceName != null && !spaceName.isEmpty()) {
@@ -402,6 +988,69 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 		return selectPart;
 	}
 
+	@Override
+	public Pair<String, List<Object>> queryForSelectChunkBoundary(String tableName, List<String> keyColumnNames, Condition condition, int chunkSize) {
+		// Без положительного размера диапазона граница не определяется и все Строки обрабатывались бы одним запросом
+		AssertChecker.isTrue(chunkSize > 0, "Количество Строк в диапазоне должно быть больше 0");
+		if (tableName != null && !tableName.isEmpty() && keyColumnNames != null && !keyColumnNames.isEmpty()) {
+			List<Object> parameters = new ArrayList<>();
+			String keys = String.join(", ", keyColumnNames);
+			StringBuilder query = new StringBuilder();
+			query.append("SELECT ").append(keys).append(" FROM ").append(tableName);
+			String conditionQueryPart = buildConditionQueryPart(tableName, condition, parameters);
+			if (conditionQueryPart != null) {
+				query.append(" ").append(conditionQueryPart);
+			}
+			query.append(" ORDER BY ").append(keys);
+			query.append(" LIMIT 1 OFFSET ").append(chunkSize - 1);
+			return new Pair<>(query.toString(), parameters);
+		}
+		return null;
+	}
+
+	@Override
+	public Pair<String, List<Object>> queryForSelectRowsByKeys(String tableName, List<Column> tableColumns, List<String> keyColumnNames, List<List<Object>> keys) {
+		String selectPart = buildSelectQueryPart(tableName, tableColumns);
+		if (selectPart != null) {
+			if (keyColumnNames != null && !keyColumnNames.isEmpty() && keys != null && !keys.isEmpty()) {
+				List<Object> parameters = new ArrayList<>();
+				StringBuilder sb = new StringBuilder(selectPart).append(" WHERE ");
+				if (keyColumnNames.size() == 1) {
+					// Вид <WHERE id IN (?, ?, ...)>
+					sb.append(keyColumnNames.get(0)).append(" IN (");
+					for (int pos = 0; pos < keys.size(); pos++) {
+						if (pos != 0) {
+							sb.append(", ");
+						}
+						sb.append("?");
+						parameters.add(new ColumnParameter(keyColumnNames.get(0), keys.get(pos).get(0)));
+					}
+					sb.append(")");
+				} else {
+					// Вид <WHERE (id1 = ? AND id2 = ?) OR (id1 = ? AND id2 = ?) ...>
+					for (int pos = 0; pos < keys.size(); pos++) {
+						if (pos != 0) {
+							sb.append(" OR ");
+						}
+						sb.append("(");
+						for (int keyPos = 0; keyPos < keyColumnNames.size(); keyPos++) {
+							if (keyPos != 0) {
+								sb.append(" AND ");
+							}
+							sb.append(keyColumnNames.get(keyPos)).append(" = ?");
+							parameters.add(new ColumnParameter(keyColumnNames.get(keyPos), keys.get(pos).get(keyPos)));
+						}
+						sb.append(")");
+					}
+				}
+				return new Pair<>(sb.toString(), parameters);
+			} else {
+				logger.warn("Отсутствуют значения первичного ключа");
+			}
+		}
+		return null;
+	}
+
 	@Override
 	public String queryForCountRows(String tableName, List<Column> tableColumns, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
 		String countPart = buildCountQueryPart(tableName, tableColumns);
@@ -414,6 +1063,95 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 		return countPart;
 	}
 
+	@Override
+	public Pair<String, List<Object>> queryForSelectRows(String tableName, List<Column> tableColumns, List<ElementsSort> sorts, Condition condition, int offset, int limit) {
+		String selectPart = buildSelectQueryPart(tableName, tableColumns);
+		if (selectPart != null) {
+			List<Object> parameters = new ArrayList<>();
+			String conditionQueryPart = buildConditionQueryPart(tableName, condition, parameters);
+			String sortQueryPart = buildSortQueryPart(sorts);
+			String limitPart = buildLimitsQueryPart(offset, limit);
+			if (conditionQueryPart != null) {
+				selectPart += " " + conditionQueryPart;
+			}
+			if (sortQueryPart != null) {
+				selectPart += " " + sortQueryPart;
+			}
+			if (limitPart != null) {
+				selectPart += " " + limitPart;
+			}
+			return new Pair<>(selectPart, parameters);
+		}
+		return null;
+	}
+
+	@Override
+	public Pair<String, List<Object>> queryForCountRows(String tableName, List<Column> tableColumns, Condition condition) {
+		String countPart = buildCountQueryPart(tableName, tableColumns);
+		if (countPart != null) {
+			List<Object> parameters = new ArrayList<>();
+			String conditionQueryPart = buildConditionQueryPart(tableName, condition, parameters);
+			if (conditionQueryPart != null) {
+				countPart += " " + conditionQueryPart;
+			}
+			return new Pair<>(countPart, parameters);
+		}
+		return null;
+	}
+
+	@Override
+	public Pair<String, List<Object>> queryForExistsRows(String tableName, Condition condition) {
+		if (tableName != null && !tableName.isEmpty()) {
+			List<Object> parameters = new ArrayList<>();
+			StringBuilder sb = new StringBuilder("SELECT 1 FROM ").append(tableName);
+			String conditionQueryPart = buildConditionQueryPart(tableName, condition, parameters);
+			if (conditionQueryPart != null) {
+				sb.append(" ").append(conditionQueryPart);
+			}
+			sb.append(" LIMIT 1");
+			return new Pair<>(sb.toString(), parameters);
+		} else {
+			logger.warn("Отсутствует название Таблицы");
+		}
+		return null;
+	}
+
+	@Override
+	public Pair<String, List<Object>> queryForAggregateRows(String tableName, List<String> groupByColumnNames, List<Aggregate> aggregates, Condition condition) {
+		if (tableName != null && !tableName.isEmpty()) {
+			if (aggregates != null && !aggregates.isEmpty()) {
+				List<Object> parameters = new ArrayList<>();
+				List<String> selectParts = new ArrayList<>();
+				if (groupByColumnNames != null) {
+					selectParts.addAll(groupByColumnNames);
+				}
+				for (Aggregate aggregate : aggregates) {
+					selectParts.add(buildAggregateQueryPart(aggregate));
+				}
+				StringBuilder sb = new StringBuilder("SELECT ").append(String.join(", ", selectParts)).append(" FROM ").append(tableName);
+				String conditionQueryPart = buildConditionQueryPart(tableName, condition, parameters);
+				if (conditionQueryPart != null) {
+					sb.append(" ").append(conditionQueryPart);
+				}
+				if (groupByColumnNames != null && !groupByColumnNames.isEmpty()) {
+					sb.append(" GROUP BY ").append(String.join(", ", groupByColumnNames));
+				}
+				return new Pair<>(sb.toString(), parameters);
+			} else {
+				logger.warn("Отсутствуют агрегаты для вычисления");
+			}
+		} else {
+			logger.warn("Отсутствует название Таблицы");
+		}
+		return null;
+	}
+
+	// Формирование строки вида <SUM(columnName) AS alias>
+	protected String buildAggregateQueryPart(Aggregate aggregate) {
+		String argument = aggregate.getColumnName() != null ? aggregate.getColumnName() : "*";
+		return aggregate.getFunction().name() + "(" + argument + ") AS " + aggregate.getAlias();
+	}
+
 	@Override
 	public String queryForCreateRow(String tableName, List<String> columnNames) {
 		if (tableName != null && !tableName.isEmpty()) {
@@ -463,6 +1201,78 @@ public class DefaultDatabaseQueryBuilder implements DatabaseQueryBuilder {
 		return null;
 	}
 
+	@Override
+	public Pair<String, List<Object>> queryForUpdateRow(String tableName, List<String> columnNames, Condition condition) {
+		if (tableName != null && !tableName.isEmpty()) {
+			if (columnNames != null && !columnNames.isEmpty()) {
+				List<Object> parameters = new ArrayList<>();
+				StringBuilder sb = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+				sb.append(columnNames.stream()
+				                     .map(name -> name + " = ?")
+				                     .collect(Collectors.joining(", ")));
+				String conditionQueryPart = buildConditionQueryPart(tableName, condition, parameters);
+				if (conditionQueryPart != null) {
+					sb.append(" ").append(conditionQueryPart);
+				}
+				return new Pair<>(sb.toString(), parameters);
+			} else {
+				logger.warn("Отсутствует данные для вставки");
+			}
+		} else {
+			logger.warn("Отсутствует название Таблицы");
+		}
+		return null;
+	}
+
+	@Override
+	public String queryForReturning(String modifyQuery, List<String> returningColumnNames) {
+		return null;
+	}
+
+	@Override
+	public String queryForUpdateRowByKey(String tableName, List<String> columnNames, List<String> keyColumnNames, String versionColumnName) {
+		if (tableName != null && !tableName.isEmpty()) {
+			if (columnNames != null && !columnNames.isEmpty() && keyColumnNames != null && !keyColumnNames.isEmpty()) {
+				StringBuilder sb = new StringBuilder("UPDATE ").append(tableName).append(" SET ");
+				sb.append(columnNames.stream()
+				                     .map(name -> name + " = ?")
+				                     .collect(Collectors.joining(", ")));
+				if (versionColumnName != null) {
+					sb.append(", ").append(versionColumnName).append(" = ").append(versionColumnName).append(" + 1");
+				}
+				sb.append(" WHERE ");
+				sb.append(keyColumnNames.stream()
+				                        .map(name -> name + " = ?")
+				                        .collect(Collectors.joining(" AND ")));
+				if (versionColumnName != null) {
+					sb.append(" AND ").append(versionColumnName).append(" = ?");
+				}
+				return sb.toString();
+			} else {
+				logger.warn("Отсутствует данные для обновления или первичный ключ");
+			}
+		} else {
+			logger.warn("Отсутствует название Таблицы");
+		}
+		return null;
+	}
+
+	@Override
+	public Pair<String, List<Object>> queryForDeleteRow(String tableName, Condition condition) {
+		if (tableName != null && !tableName.isEmpty()) {
+			List<Object> parameters = new ArrayList<>();
+			StringBuilder sb = new StringBuilder("DELETE FROM ").append(tableName);
+			String conditionQueryPart = buildConditionQueryPart(tableName, condition, parameters);
+			if (conditionQueryPart != null) {
+				sb.append(" ").append(conditionQueryPart);
+			}
+			return new Pair<>(sb.toString(), parameters);
+		} else {
+			logger.warn("Отсутствует название Таблицы");
+		}
+		return null;
+	}
+
 	@Override
 	public String queryForDeleteRow(String tableName, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
 		if (tableName != null && !tableName.isEmpty()) {
@@ -1,5 +1,14 @@
 package ru.rds.data.database;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import ru.rds.data.database.common.JsonFunctions;
+import ru.rds.data.database.common.JsonWriter;
+import ru.rds.data.database.conditions.FullTextCondition;
+import ru.rds.data.database.conditions.JsonCondition;
+
 /**
  * Реализация {@link DatabaseQueryBuilder} для СУБД H2
  *
@@ -8,4 +17,137 @@ package ru.rds.data.database;
  * @since 1.0.0
  */
 public class H2DatabaseQueryBuilder extends DefaultDatabaseQueryBuilder {
+
+	/*
+	H2 не умеет вычислять JSON-пути, поэтому JSON-условия вычисляются Java-функциями (см. JsonFunctions),
+	которые регистрируются при создании DatabaseStorage
+	 */
+	@Override
+	public List<String> queryForInitializeStorage() {
+		return Arrays.asList("CREATE ALIAS IF NOT EXISTS RDS_JSON_CONTAINS FOR '" + JsonFunctions.class.getName() + ".contains'",
+		                     "CREATE ALIAS IF NOT EXISTS RDS_JSON_PATH_EQUAL FOR '" + JsonFunctions.class.getName() + ".pathEqual'",
+		                     "CREATE ALIAS IF NOT EXISTS RDS_JSON_PATH_EXISTS FOR '" + JsonFunctions.class.getName() + ".pathExists'");
+	}
+
+	/*
+	Полнотекстовый Индекс - встроенный полнотекстовый поиск H2 (без Lucene).
+	H2 поддерживает только один такой Индекс на Таблицу, поэтому название Индекса не используется, а существующий Индекс пересоздается.
+	Создание Индекса с другими Колонками отклоняется заранее (см. queryForSelectFullTextIndexColumns)
+	 */
+	@Override
+	public List<String> queryForCreateSpaceFullTextIndex(String tableName, List<String> columnNames, String indexName) {
+		if (tableName != null && !tableName.isEmpty() && columnNames != null && !columnNames.isEmpty()) {
+			return Arrays.asList("CREATE ALIAS IF NOT EXISTS FT_INIT FOR 'org.h2.fulltext.FullText.init'",
+			                     "CALL FT_INIT()",
+			                     "CALL FT_DROP_INDEX(CURRENT_SCHEMA, '" + tableName + "')",
+			                     "CALL FT_CREATE_INDEX(CURRENT_SCHEMA, '" + tableName + "', '" + String.join(",", columnNames) + "')");
+		}
+		return Collections.emptyList();
+	}
+
+	@Override
+	public String queryForSelectFullTextIndexColumns(String tableName) {
+		if (tableName != null && !tableName.isEmpty()) {
+			return "SELECT COLUMNS FROM FT.INDEXES WHERE SCHEMA = CURRENT_SCHEMA AND \"TABLE\" = '" + tableName + "'";
+		}
+		return null;
+	}
+
+	@Override
+	public List<String> queryForDeleteSpaceFullTextIndex(String tableName, String indexName) {
+		if (tableName != null && !tableName.isEmpty()) {
+			return Collections.singletonList("CALL FT_DROP_INDEX(CURRENT_SCHEMA, '" + tableName + "')");
+		}
+		return Collections.emptyList();
+	}
+
+	/*
+	Значения после изменения возвращаются через <SELECT ... FROM FINAL TABLE (...)>
+	 */
+	@Override
+	public String queryForReturning(String modifyQuery, List<String> returningColumnNames) {
+		if (modifyQuery != null && returningColumnNames != null && !returningColumnNames.isEmpty()) {
+			return "SELECT " + String.join(", ", returningColumnNames) + " FROM FINAL TABLE (" + modifyQuery + ")";
+		}
+		return null;
+	}
+
+	@Override
+	protected String getTemporaryTableKeyword() {
+		return "LOCAL TEMPORARY";
+	}
+
+	/*
+	H2 не поддерживает <UPDATE ... FROM>, поэтому обновление и вставка выполняются одним запросом MERGE
+	 */
+	@Override
+	public List<String> queryForMergeFromStagingSpace(String tableName, String stagingTableName, List<String> columnNames, List<String> keyColumnNames) {
+		if (tableName == null || stagingTableName == null || columnNames == null || columnNames.isEmpty() || keyColumnNames == null || keyColumnNames.isEmpty()) {
+			return Collections.emptyList();
+		}
+		List<String> valueColumnNames = columnNames.stream()
+		                                           .filter(columnName -> !keyColumnNames.contains(columnName))
+		                                           .collect(Collectors.toList());
+		StringBuilder query = new StringBuilder();
+		query.append("MERGE INTO ").append(tableName);
+		query.append(" USING ").append(stagingTableName);
+		query.append(" ON (").append(buildKeyMatchExpression(tableName, stagingTableName, keyColumnNames)).append(")");
+		if (!valueColumnNames.isEmpty()) {
+			query.append(" WHEN MATCHED AND (").append(buildChangedExpression(tableName, stagingTableName, valueColumnNames)).append(")");
+			query.append(" THEN UPDATE SET ").append(valueColumnNames.stream()
+			                                                         .map(columnName -> columnName + " = " + stagingTableName + "." + columnName)
+			                                                         .collect(Collectors.joining(", ")));
+		}
+		query.append(" WHEN NOT MATCHED THEN INSERT (").append(String.join(", ", columnNames)).append(")");
+		query.append(" VALUES (").append(columnNames.stream()
+		                                            .map(columnName -> stagingTableName + "." + columnName)
+		                                            .collect(Collectors.joining(", "))).append(")");
+		return Collections.singletonList(query.toString());
+	}
+
+	/*
+	Поиск выполняется функцией FT_SEARCH_DATA, которая возвращает значения первичного ключа найденных Строк
+	 */
+	@Override
+	protected String buildFullTextConditionExpression(String tableName, FullTextCondition condition, List<Object> parameters) {
+		if (condition.getKeyColumnName() == null) {
+			return super.buildFullTextConditionExpression(tableName, condition, parameters);
+		}
+		if (splitFullTextWords(condition.getText()).isEmpty()) {
+			throw new IllegalArgumentException("Текст полнотекстового поиска не должен быть пустым");
+		}
+		parameters.add(condition.getText());
+		parameters.add(tableName);
+		return condition.getKeyColumnName() + " IN (SELECT FT.KEYS[1] FROM FT_SEARCH_DATA(?, 0, 0) FT WHERE FT.\"TABLE\" = ?)";
+	}
+
+	/*
+	JSON-условия вычисляются функциями, зарегистрированными в queryForInitializeStorage. Путь и значения передаются JSON-текстом
+	 */
+	@Override
+	protected String buildJsonConditionExpression(JsonCondition condition, List<Object> parameters) {
+		switch (condition.getOperator()) {
+			case JSON_CONTAINS:
+				parameters.add(JsonWriter.write(condition.getValue()));
+				return "RDS_JSON_CONTAINS(" + condition.getColumnName() + ", ?)";
+			case JSON_PATH_EQUAL:
+				parameters.add(JsonWriter.write(condition.getPath()));
+				parameters.add(JsonWriter.write(condition.getValue()));
+				return "RDS_JSON_PATH_EQUAL(" + condition.getColumnName() + ", ?, ?)";
+			case JSON_PATH_EXISTS:
+				parameters.add(JsonWriter.write(condition.getPath()));
+				return "RDS_JSON_PATH_EXISTS(" + condition.getColumnName() + ", ?)";
+			default:
+				return super.buildJsonConditionExpression(condition, parameters);
+		}
+	}
+
+	/*
+	H2 поддерживает выражение <column = ANY(?)> с параметром-массивом (ARRAY)
+	 */
+	@Override
+	protected boolean isArrayParameterSupported() {
+		return true;
+	}
+
 }
@@ -0,0 +1,80 @@
+package ru.rds.data.database;
+
+import java.util.ArrayList;
+import java.util.List;
+import ru.rds.data.database.conditions.*;
+import ru.rds.data.storage.SelectionType;
+
+/**
+ * Вспомогательные операции над деревом условий для выполнения условий IN с большими перечнями значений
+ * (см. {@link DatabaseQueryBuilder#planInList(int)})
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+final class InListPlanner {
+
+	private InListPlanner() {
+	}
+
+	/* Поиск условия IN (NOT IN, ANY) с наибольшим перечнем значений */
+	static ColumnCondition findLargestInCondition(Condition condition) {
+		if (condition instanceof ConditionGroup) {
+			ColumnCondition largest = null;
+			for (Condition groupCondition : ((ConditionGroup) condition).getConditions()) {
+				ColumnCondition candidate = findLargestInCondition(groupCondition);
+				if (candidate != null && (largest == null || candidate.getValues().size() > largest.getValues().size())) {
+					largest = candidate;
+				}
+			}
+			return largest;
+		} else if (condition instanceof NotCondition) {
+			return findLargestInCondition(((NotCondition) condition).getCondition());
+		} else if (condition instanceof ColumnCondition && !(condition instanceof JsonCondition)) {
+			ConditionOperator operator = ((ColumnCondition) condition).getOperator();
+			if (operator == ConditionOperator.IN || operator == ConditionOperator.NOT_IN || operator == ConditionOperator.ANY) {
+				return (ColumnCondition) condition;
+			}
+		}
+		return null;
+	}
+
+	/*
+	Является ли условие корнем дерева или одним из условий корневой группы AND.
+	Только для таких условий результаты запросов по частям перечня значений можно объединить
+	 */
+	static boolean isConjunct(Condition root, Condition target) {
+		if (root == target) {
+			return true;
+		}
+		if (root instanceof ConditionGroup && ((ConditionGroup) root).getSelectionType() == SelectionType.AND) {
+			for (Condition groupCondition : ((ConditionGroup) root).getConditions()) {
+				if (groupCondition == target) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	/* Замена условия в дереве. Группы и отрицания копируются, исходное дерево не изменяется */
+	static Condition replace(Condition root, Condition target, Condition replacement) {
+		if (root == target) {
+			return replacement;
+		}
+		if (root instanceof ConditionGroup) {
+			ConditionGroup group = (ConditionGroup) root;
+			List<Condition> conditions = new ArrayList<>(group.getConditions().size());
+			for (Condition groupCondition : group.getConditions()) {
+				conditions.add(replace(groupCondition, target, replacement));
+			}
+			return new ConditionGroup(group.getSelectionType(), conditions);
+		}
+		if (root instanceof NotCondition) {
+			return new NotCondition(replace(((NotCondition) root).getCondition(), target, replacement));
+		}
+		return root;
+	}
+
+}
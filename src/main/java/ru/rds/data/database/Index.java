@@ -1,7 +1,9 @@
 package ru.rds.data.database;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 
 /**
@@ -19,8 +21,16 @@ public class Index {
 	private boolean      unique;
 	// Для JSON типа или нет
 	private boolean      onJson;
+	// Является ли полнотекстовым
+	private boolean      fullText;
 	// Перечень колонок, входящи в индекс
 	private List<Column> columns;
+	// Названия колонок, которые упорядочены в индексе по убыванию
+	private Set<String>  descendingColumnNames;
+	// Условие частичного индекса (SQL-выражение для WHERE)
+	private String       predicate;
+	// Перечень колонок, значения которых дополнительно хранятся в индексе (INCLUDE)
+	private List<Column> includedColumns;
 
 	public String getName() {
 		return name;
@@ -46,6 +56,19 @@ public class Index {
 		this.onJson = onJson;
 	}
 
+	/**
+	 * Является ли Индекс полнотекстовым. Полнотекстовые Индексы используются условием {@link ru.rds.data.database.conditions.FullTextCondition}
+	 *
+	 * @return
+	 */
+	public boolean isFullText() {
+		return fullText;
+	}
+
+	public void setFullText(boolean fullText) {
+		this.fullText = fullText;
+	}
+
 	public void setColumns(List<Column> columns) {
 		this.columns = columns;
 	}
@@ -66,4 +89,68 @@ public class Index {
 		}
 	}
 
+	/**
+	 * Добавление колонки в индекс с указанием направления сортировки. Порядок добавления колонок определяет порядок колонок в индексе
+	 *
+	 * @param column
+	 * @param descending упорядочивать ли значения колонки по убыванию
+	 */
+	public void addColumn(Column column, boolean descending) {
+		addColumn(column);
+		if (column != null && descending) {
+			getDescendingColumnNames().add(column.getName());
+		}
+	}
+
+	/**
+	 * Получение названий колонок, которые упорядочены в индексе по убыванию
+	 *
+	 * @return
+	 */
+	public Set<String> getDescendingColumnNames() {
+		if (descendingColumnNames == null) {
+			descendingColumnNames = new HashSet<>();
+		}
+		return descendingColumnNames;
+	}
+
+	/**
+	 * Упорядочена ли колонка в индексе по убыванию
+	 *
+	 * @param columnName
+	 * @return
+	 */
+	public boolean isDescending(String columnName) {
+		return descendingColumnNames != null && descendingColumnNames.contains(columnName);
+	}
+
+	/**
+	 * Получение условия частичного индекса (SQL-выражение для WHERE). Если условие равно NULL - индекс строится по всем строкам
+	 *
+	 * @return
+	 */
+	public String getPredicate() {
+		return predicate;
+	}
+
+	public void setPredicate(String predicate) {
+		this.predicate = predicate;
+	}
+
+	/**
+	 * Получение перечня колонок, значения которых дополнительно хранятся в индексе (INCLUDE), чтобы запросы могли обходиться без чтения таблицы
+	 *
+	 * @return
+	 */
+	public List<Column> getIncludedColumns() {
+		if (includedColumns == null) {
+			includedColumns = new ArrayList<>();
+		}
+		return includedColumns;
+	}
+
+	public void setIncludedColumns(List<Column> includedColumns) {
+		this.includedColumns = includedColumns;
+	}
+
 }
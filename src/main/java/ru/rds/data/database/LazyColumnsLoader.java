@@ -0,0 +1,30 @@
+package ru.rds.data.database;
+
+import java.util.List;
+
+/**
+ * Загрузчик отложенных значений Столбцов для Строк, полученных одним запросом.
+ * <p>
+ * При первом обращении к отложенному Столбцу любой из Строк его значения загружаются сразу для всех Строк одним запросом
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+class LazyColumnsLoader {
+
+	// Таблица, из которой были получены Строки
+	private final Table     table;
+	// Строки, полученные одним запросом
+	private final List<Row> rows;
+
+	LazyColumnsLoader(Table table, List<Row> rows) {
+		this.table = table;
+		this.rows = rows;
+	}
+
+	synchronized void load(String columnName) {
+		table.loadLazyColumn(rows, columnName);
+	}
+
+}
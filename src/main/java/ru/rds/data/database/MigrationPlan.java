@@ -0,0 +1,103 @@
+package ru.rds.data.database;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * План изменения структуры существующей Таблицы, полученный сравнением требуемого описания Таблицы ({@link Table}) с текущим состоянием БД.
+ * <p>
+ * Шаги выполняются в следующем порядке:
+ * <ol>
+ * <li>изменения структуры (добавление Колонок, допускающих NULL, расширение типов, снятие NOT NULL);</li>
+ * <li>заполнение Колонок значениями по-умолчанию диапазонами первичного ключа;</li>
+ * <li>установление ограничений NOT NULL (каждый запрос - отдельной транзакцией);</li>
+ * <li>неблокирующее создание недостающих Индексов.</li>
+ * </ol>
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class MigrationPlan {
+
+	// Требуемое описание Таблицы
+	private final Table        table;
+	// Таблица отсутствует и должна быть создана целиком
+	private final boolean      createTable;
+	// Запросы, изменяющие структуру Таблицы (добавление Колонок, расширение типов, снятие NOT NULL)
+	private final List<String> alterQueries    = new ArrayList<>();
+	// Колонки, которые нужно заполнить значениями по-умолчанию
+	private final List<Column> backfillColumns = new ArrayList<>();
+	// Запросы установления ограничений NOT NULL (выполняются после заполнения, каждый - отдельной транзакцией)
+	private final List<String> notNullQueries  = new ArrayList<>();
+	// Индексы, которые нужно создать
+	private final List<Index>  indexes         = new ArrayList<>();
+	// Расхождения, которые не могут быть устранены автоматически
+	private final List<String> warnings        = new ArrayList<>();
+
+	public MigrationPlan(Table table, boolean createTable) {
+		this.table = table;
+		this.createTable = createTable;
+	}
+
+	public Table getTable() {
+		return table;
+	}
+
+	/**
+	 * Отсутствует ли Таблица (в этом случае она создается целиком, остальные шаги плана пусты)
+	 *
+	 * @return
+	 */
+	public boolean isCreateTable() {
+		return createTable;
+	}
+
+	public List<String> getAlterQueries() {
+		return alterQueries;
+	}
+
+	public List<Column> getBackfillColumns() {
+		return backfillColumns;
+	}
+
+	public List<String> getNotNullQueries() {
+		return notNullQueries;
+	}
+
+	public List<Index> getIndexes() {
+		return indexes;
+	}
+
+	/**
+	 * Получение описаний расхождений, которые не будут устранены (сужение типов, удаление Колонок, NOT NULL без значения по-умолчанию,
+	 * неподдерживаемые СУБД изменения), а также изменений, требующих перезаписи Таблицы
+	 *
+	 * @return
+	 */
+	public List<String> getWarnings() {
+		return warnings;
+	}
+
+	/**
+	 * Количество шагов плана (каждый запрос, каждая заполняемая Колонка и каждый Индекс)
+	 *
+	 * @return
+	 */
+	public int getStepCount() {
+		if (createTable) {
+			return 1;
+		}
+		return alterQueries.size() + backfillColumns.size() + notNullQueries.size() + indexes.size();
+	}
+
+	/**
+	 * Нет ли изменений, которые нужно выполнить
+	 *
+	 * @return
+	 */
+	public boolean isEmpty() {
+		return getStepCount() == 0;
+	}
+
+}
@@ -1,5 +1,19 @@
 package ru.rds.data.database;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import ru.rds.data.database.common.JsonWriter;
+import ru.rds.data.database.common.Pair;
+import ru.rds.data.database.conditions.Condition;
+import ru.rds.data.database.conditions.FullTextCondition;
+import ru.rds.data.database.conditions.JsonCondition;
+import ru.rds.data.database.types.ArrayColumnType;
+import ru.rds.data.database.types.SqlArray;
+
 /**
  * Реализация {@link DatabaseQueryBuilder} для СУБД PostgreSQL
  *
@@ -8,4 +22,205 @@ package ru.rds.data.database;
  * @since 1.0.0
  */
 public class PostgreSQLDatabaseQueryBuilder extends DefaultDatabaseQueryBuilder {
+
+	private static final Pattern CREATE_INDEX_PATTERN = Pattern.compile("^(CREATE (?:UNIQUE )?INDEX) ");
+	private static final Pattern DROP_INDEX_PATTERN   = Pattern.compile("^(DROP INDEX) ");
+
+	/*
+	CONCURRENTLY добавляется после <CREATE [UNIQUE] INDEX> - это относится и к GIN-индексам (JSON, полнотекстовым)
+	 */
+	@Override
+	public String queryForCreateSpaceIndexConcurrently(String indexQuery) {
+		if (indexQuery != null) {
+			Matcher matcher = CREATE_INDEX_PATTERN.matcher(indexQuery);
+			if (matcher.find()) {
+				return matcher.replaceFirst("$1 CONCURRENTLY ");
+			}
+		}
+		return null;
+	}
+
+	/*
+	Недостроенный после CREATE INDEX CONCURRENTLY индекс удаляется также без блокировки записи в Таблицу
+	 */
+	@Override
+	public String queryForDeleteSpaceIndexConcurrently(String dropQuery) {
+		if (dropQuery != null) {
+			Matcher matcher = DROP_INDEX_PATTERN.matcher(dropQuery);
+			if (matcher.find()) {
+				return matcher.replaceFirst("$1 CONCURRENTLY ");
+			}
+		}
+		return null;
+	}
+
+	/*
+	Значения после изменения возвращаются через <RETURNING ...>
+	 */
+	@Override
+	public String queryForReturning(String modifyQuery, List<String> returningColumnNames) {
+		if (modifyQuery != null && returningColumnNames != null && !returningColumnNames.isEmpty()) {
+			return modifyQuery + " RETURNING " + String.join(", ", returningColumnNames);
+		}
+		return null;
+	}
+
+	/*
+	SET NOT NULL сам по себе проверяет все строки под исключительной блокировкой. Поэтому сначала добавляется ограничение CHECK без проверки (NOT VALID),
+	затем оно проверяется без блокировки записи (VALIDATE CONSTRAINT), после чего SET NOT NULL использует его вместо полного просмотра Таблицы.
+	Повторный запуск после сбоя начинается с удаления оставшегося ограничения
+	 */
+	@Override
+	public List<String> queryForSetSpacePropertyNotNull(String tableName, String columnName) {
+		String query = queryForAlterSpacePropertyNotNull(tableName, columnName, true);
+		if (query == null) {
+			return Collections.emptyList();
+		}
+		String constraintName = tableName + "_" + columnName + "_not_null";
+		List<String> queries = new ArrayList<>();
+		queries.add("ALTER TABLE " + tableName + " DROP CONSTRAINT IF EXISTS " + constraintName);
+		queries.add("ALTER TABLE " + tableName + " ADD CONSTRAINT " + constraintName + " CHECK (" + columnName + " IS NOT NULL) NOT VALID");
+		queries.add("ALTER TABLE " + tableName + " VALIDATE CONSTRAINT " + constraintName);
+		queries.add(query);
+		queries.add("ALTER TABLE " + tableName + " DROP CONSTRAINT " + constraintName);
+		return queries;
+	}
+
+	@Override
+	public String queryForNextSequenceValue(String sequenceName) {
+		if (sequenceName != null && !sequenceName.isEmpty()) {
+			// Название передается строковым литералом, поэтому допускаются только обычные идентификаторы
+			checkSequenceName(sequenceName);
+			return "SELECT nextval('" + sequenceName + "')";
+		}
+		return null;
+	}
+
+	// Массивы описываются в виде <int8[]>
+	@Override
+	public String getSqlTypeName(ColumnType columnType) {
+		if (columnType instanceof ArrayColumnType) {
+			return columnType.getTypeName();
+		}
+		return super.getSqlTypeName(columnType);
+	}
+
+	@Override
+	protected boolean isArrayParameterSupported() {
+		return true;
+	}
+
+	@Override
+	protected boolean isPartialIndexSupported() {
+		return true;
+	}
+
+	@Override
+	protected boolean isIncludedColumnsSupported() {
+		return true;
+	}
+
+	/*
+	Полнотекстовый Индекс - GIN-индекс по выражению <to_tsvector(...)>.
+	Выражение должно в точности совпадать с тем, что используется в условии поиска (см. buildFullTextDocument)
+	 */
+	@Override
+	public List<String> queryForCreateSpaceFullTextIndex(String tableName, List<String> columnNames, String indexName) {
+		if (tableName != null && !tableName.isEmpty() && columnNames != null && !columnNames.isEmpty() && indexName != null && !indexName.isEmpty()) {
+			return Collections.singletonList("CREATE INDEX IF NOT EXISTS " + indexName + " ON " + tableName + " USING GIN (" + buildFullTextDocument(columnNames) + ")");
+		}
+		return Collections.emptyList();
+	}
+
+	@Override
+	public List<String> queryForDeleteSpaceFullTextIndex(String tableName, String indexName) {
+		String query = queryForDeleteSpaceIndex(tableName, indexName);
+		return query != null ? Collections.singletonList(query) : Collections.emptyList();
+	}
+
+	@Override
+	protected String buildFullTextConditionExpression(String tableName, FullTextCondition condition, List<Object> parameters) {
+		List<String> columnNames = condition.getIndex().getColumns().stream()
+		                                    .map(Column::getName)
+		                                    .collect(Collectors.toList());
+		if (columnNames.isEmpty()) {
+			return null;
+		}
+		if (splitFullTextWords(condition.getText()).isEmpty()) {
+			throw new IllegalArgumentException("Текст полнотекстового поиска не должен быть пустым");
+		}
+		parameters.add(condition.getText());
+		return buildFullTextDocument(columnNames) + " @@ plainto_tsquery('" + getFullTextConfiguration() + "', ?)";
+	}
+
+	// Формирование выражения вида <to_tsvector('simple', coalesce(column1, '') || ' ' || coalesce(column2, ''))>
+	protected String buildFullTextDocument(List<String> columnNames) {
+		String document = columnNames.stream()
+		                             .map(columnName -> "coalesce(" + columnName + ", '')")
+		                             .collect(Collectors.joining(" || ' ' || "));
+		return "to_tsvector('" + getFullTextConfiguration() + "', " + document + ")";
+	}
+
+	/**
+	 * Получение названия конфигурации полнотекстового поиска PostgreSQL (по-умолчанию <code>simple</code>)
+	 *
+	 * @return
+	 */
+	protected String getFullTextConfiguration() {
+		return "simple";
+	}
+
+	/*
+	Условия на JSONB формируются через операторы, которые поддерживаются GIN-индексом (jsonb_path_ops):
+	<@>> - для вхождения фрагмента, <@?> - для наличия пути. Равенство по пути проверяется выражением <column #> path = value>,
+	а дополнительное условие вхождения вложенного фрагмента позволяет использовать индекс для предварительного отбора.
+	Оператор <@?> записывается как <@??>, т.к. JDBC-драйвер PostgreSQL считает символ "?" параметром запроса.
+	Путь проверяется в строгом режиме (strict): в нестрогом режиме массивы на пути раскрываются, и результат отличался бы от других СУБД
+	 */
+	@Override
+	protected String buildJsonConditionExpression(JsonCondition condition, List<Object> parameters) {
+		switch (condition.getOperator()) {
+			case JSON_CONTAINS:
+				parameters.add(JsonWriter.write(condition.getValue()));
+				return condition.getColumnName() + " @> CAST(? AS jsonb)";
+			case JSON_PATH_EQUAL:
+				// Значение по пути превращается во вложенный фрагмент: {"a": {"b": value}}
+				Object fragment = condition.getValue();
+				List<String> path = condition.getPath();
+				if (path.isEmpty()) {
+					return null;
+				}
+				for (int pos = path.size() - 1; pos >= 0; pos--) {
+					fragment = Collections.singletonMap(path.get(pos), fragment);
+				}
+				parameters.add(JsonWriter.write(fragment));
+				parameters.add(new SqlArray("text", path.toArray()));
+				parameters.add(JsonWriter.write(condition.getValue()));
+				return "(" + condition.getColumnName() + " @> CAST(? AS jsonb) AND " + condition.getColumnName() + " #> ? = CAST(? AS jsonb))";
+			case JSON_PATH_EXISTS:
+				parameters.add("strict " + buildJsonPath(condition.getPath()));
+				return condition.getColumnName() + " @?? CAST(? AS jsonpath)";
+			default:
+				return super.buildJsonConditionExpression(condition, parameters);
+		}
+	}
+
+	/*
+	Для PostgreSQL используется конструкция <SELECT EXISTS (...)>, которая всегда возвращает ровно одну запись
+	 */
+	@Override
+	public Pair<String, List<Object>> queryForExistsRows(String tableName, Condition condition) {
+		if (tableName != null && !tableName.isEmpty()) {
+			List<Object> parameters = new ArrayList<>();
+			StringBuilder sb = new StringBuilder("SELECT EXISTS (SELECT 1 FROM ").append(tableName);
+			String conditionQueryPart = buildConditionQueryPart(tableName, condition, parameters);
+			if (conditionQueryPart != null) {
+				sb.append(" ").append(conditionQueryPart);
+			}
+			sb.append(")");
+			return new Pair<>(sb.toString(), parameters);
+		}
+		return super.queryForExistsRows(tableName, condition);
+	}
+
 }
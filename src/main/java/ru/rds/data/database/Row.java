@@ -16,6 +16,14 @@ public class Row implements Element<Column> {
 	private List<Column>        columns;
 	// Перечень значений Столбцов, где в качестве ключа используется название Столбца
 	private Map<String, Object> values;
+	// Названия Столбцов, значения которых еще не загружены из БД (см. Table#setLazyLargeColumns)
+	private Set<String>         lazyColumnNames;
+	// Загрузчик отложенных значений (общий для всех Строк, полученных одним запросом)
+	private LazyColumnsLoader   lazyColumnsLoader;
+	// Отслеживаются ли изменения значений (включается для Строк, полученных из Таблицы или сохраненных в ней)
+	private boolean             tracked;
+	// Названия Столбцов, значения которых изменились с момента загрузки (создается при первом изменении)
+	private Set<String>         changedColumnNames;
 
 	public Row(List<Column> columns) {
 		this.columns = columns;
@@ -27,22 +35,133 @@ public class Row implements Element<Column> {
 		return this.columns;
 	}
 
+	/* Установление перечня Столбцов, из которых состоит Строка */
+	void setColumns(List<Column> columns) {
+		this.columns = columns;
+	}
+
+	/**
+	 * Получение значений всех Столбцов. Если часть значений еще не загружена из БД, то они будут загружены
+	 *
+	 * @return
+	 * @throws ru.rds.data.database.exceptions.ReadRowException если не удалось загрузить отложенные значения
+	 */
 	@Override
 	public Map<String, Object> getValues() {
+		if (lazyColumnsLoader != null) {
+			for (String columnName : new ArrayList<>(lazyColumnNames)) {
+				lazyColumnsLoader.load(columnName);
+			}
+		}
 		return values;
 	}
 
 	public void setValues(Map<String, Object> values) {
+		if (tracked) {
+			values.forEach((columnName, value) -> {
+				if (!this.values.containsKey(columnName) || !Objects.deepEquals(this.values.get(columnName), value)) {
+					markChanged(columnName);
+				}
+			});
+		}
 		this.values = values;
+		this.lazyColumnNames = null;
+		this.lazyColumnsLoader = null;
 	}
 
 	public void setValue(String columnName, Object value) {
-		getValues().put(columnName, value);
+		if (tracked) {
+			boolean loaded = lazyColumnNames == null || !lazyColumnNames.contains(columnName);
+			// Значение, которое еще не загружено, считается измененным при любом присваивании
+			if (!loaded || !values.containsKey(columnName) || !Objects.deepEquals(values.get(columnName), value)) {
+				markChanged(columnName);
+			}
+		}
+		setLoadedValue(columnName, value);
+	}
+
+	/* Установление значения, полученного из БД (не считается изменением) */
+	void setLoadedValue(String columnName, Object value) {
+		values.put(columnName, value);
+		if (lazyColumnNames != null) {
+			lazyColumnNames.remove(columnName);
+		}
+	}
+
+	private void markChanged(String columnName) {
+		if (changedColumnNames == null) {
+			changedColumnNames = new LinkedHashSet<>();
+		}
+		changedColumnNames.add(columnName);
+	}
+
+	/**
+	 * Отслеживаются ли изменения значений Строки. Изменения отслеживаются для Строк, полученных из Таблицы ({@link Table}) или созданных в ней
+	 *
+	 * @return
+	 */
+	public boolean isTracked() {
+		return tracked;
+	}
+
+	/**
+	 * Есть ли значения, изменившиеся с момента загрузки (последнего сохранения) Строки
+	 *
+	 * @return
+	 */
+	public boolean isChanged() {
+		return changedColumnNames != null && !changedColumnNames.isEmpty();
 	}
 
+	/**
+	 * Получение названий Столбцов, значения которых изменились с момента загрузки (последнего сохранения) Строки
+	 *
+	 * @return никогда не возвращает NULL
+	 */
+	public Set<String> getChangedColumnNames() {
+		return changedColumnNames != null ? Collections.unmodifiableSet(changedColumnNames) : Collections.emptySet();
+	}
+
+	/* Начало отслеживания изменений: текущие значения считаются сохраненными в БД */
+	void startTracking() {
+		this.tracked = true;
+		this.changedColumnNames = null;
+	}
+
+	/**
+	 * Получение значения Столбца. Если значение еще не загружено из БД, то оно будет загружено (сразу для всех Строк, полученных тем же запросом)
+	 *
+	 * @param columnName название Столбца
+	 * @return
+	 * @throws ru.rds.data.database.exceptions.ReadRowException если не удалось загрузить отложенное значение
+	 */
 	@Override
 	public Optional<Object> getValue(String columnName) {
-		return Optional.ofNullable(getValues().get(columnName));
+		if (lazyColumnsLoader != null && lazyColumnNames.contains(columnName)) {
+			lazyColumnsLoader.load(columnName);
+		}
+		return Optional.ofNullable(values.get(columnName));
+	}
+
+	/* Получение уже загруженных значений (без загрузки отложенных) */
+	Map<String, Object> getLoadedValues() {
+		return values;
+	}
+
+	/**
+	 * Загружено ли значение Столбца из БД
+	 *
+	 * @param columnName название Столбца
+	 * @return
+	 */
+	public boolean isLoaded(String columnName) {
+		return lazyColumnNames == null || !lazyColumnNames.contains(columnName);
+	}
+
+	/* Отметка Столбцов, значения которых будут загружены при первом обращении к ним */
+	void setLazyColumns(Set<String> lazyColumnNames, LazyColumnsLoader lazyColumnsLoader) {
+		this.lazyColumnNames = Collections.synchronizedSet(new HashSet<>(lazyColumnNames));
+		this.lazyColumnsLoader = lazyColumnsLoader;
 	}
 
 }
@@ -0,0 +1,237 @@
+package ru.rds.data.database;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * Курсор для последовательного обхода Строк без создания объекта {@link Row} на каждую Строку.
+ * <p>
+ * Один экземпляр курсора переиспользуется для всех Строк результата запроса и указывает на текущую Строку {@link ResultSet}.
+ * Значения получаются по порядковому номеру Колонки (начиная с 0, в порядке Колонок запроса) типизированными методами,
+ * методы для примитивных типов не создают объектов. Курсор нельзя сохранять и использовать после возврата из обработчика:
+ * для сохранения значений Строки нужно использовать {@link #toRow()}
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public final class RowCursor {
+
+	// Результат запроса, на текущую Строку которого указывает курсор
+	private final ResultSet    resultSet;
+	// Колонки запроса
+	private final List<Column> columns;
+	// Номера Колонок в ResultSet (начиная с 1)
+	private final int[]        columnIndexes;
+	// Таблица, Строки которой обходятся
+	private final Table        table;
+	// Номер части Таблицы при параллельном обходе
+	private final int          partition;
+	// Номер текущей Строки (начиная с 0)
+	private long               rowNumber = -1;
+	// Нужно ли прекратить обход
+	private boolean            stopped;
+
+	RowCursor(Table table, int partition, ResultSet resultSet, List<Column> columns, int[] columnIndexes) {
+		this.table = table;
+		this.partition = partition;
+		this.resultSet = resultSet;
+		this.columns = columns;
+		this.columnIndexes = columnIndexes;
+	}
+
+	/**
+	 * Получение количества Колонок
+	 *
+	 * @return
+	 */
+	public int getColumnCount() {
+		return columns.size();
+	}
+
+	/**
+	 * Получение Колонки по порядковому номеру
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return
+	 */
+	public Column getColumn(int ordinal) {
+		return columns.get(ordinal);
+	}
+
+	/**
+	 * Получение порядкового номера Колонки по названию (рекомендуется выполнять один раз до обхода, а не для каждой Строки)
+	 *
+	 * @param columnName название Колонки
+	 * @return порядковый номер Колонки (начиная с 0) или -1, если Колонка отсутствует
+	 */
+	public int findOrdinal(String columnName) {
+		for (int i = 0; i < columns.size(); i++) {
+			if (columns.get(i).getName().equalsIgnoreCase(columnName)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**
+	 * Получение номера части Таблицы, которую обходит курсор (см. {@link Table#parallelScan(List, ru.rds.data.database.conditions.Condition, int, int, java.util.concurrent.Executor, ru.rds.data.database.common.RowCursorHandler)}).
+	 * Части пронумерованы по возрастанию первичного ключа, при последовательном обходе всегда равен 0
+	 *
+	 * @return номер части (начиная с 0)
+	 */
+	public int getPartition() {
+		return partition;
+	}
+
+	/**
+	 * Получение номера текущей Строки (в пределах части Таблицы)
+	 *
+	 * @return номер Строки (начиная с 0)
+	 */
+	public long getRowNumber() {
+		return rowNumber;
+	}
+
+	/**
+	 * Прекращение обхода после обработки текущей Строки
+	 */
+	public void stop() {
+		stopped = true;
+	}
+
+	/**
+	 * Получение значения целочисленной Колонки без создания объекта
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return значение или 0, если значение равно NULL (см. {@link #wasNull()})
+	 * @throws SQLException
+	 */
+	public long getLong(int ordinal) throws SQLException {
+		return resultSet.getLong(columnIndexes[ordinal]);
+	}
+
+	/**
+	 * Получение значения Колонки типа INTEGER (SMALLINT) без создания объекта
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return значение или 0, если значение равно NULL (см. {@link #wasNull()})
+	 * @throws SQLException
+	 */
+	public int getInt(int ordinal) throws SQLException {
+		return resultSet.getInt(columnIndexes[ordinal]);
+	}
+
+	/**
+	 * Получение значения Колонки с плавающей точкой без создания объекта
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return значение или 0, если значение равно NULL (см. {@link #wasNull()})
+	 * @throws SQLException
+	 */
+	public double getDouble(int ordinal) throws SQLException {
+		return resultSet.getDouble(columnIndexes[ordinal]);
+	}
+
+	/**
+	 * Получение значения логической Колонки без создания объекта
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return значение или false, если значение равно NULL (см. {@link #wasNull()})
+	 * @throws SQLException
+	 */
+	public boolean getBoolean(int ordinal) throws SQLException {
+		return resultSet.getBoolean(columnIndexes[ordinal]);
+	}
+
+	/**
+	 * Получение значения строковой Колонки
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return значение или NULL
+	 * @throws SQLException
+	 */
+	public String getString(int ordinal) throws SQLException {
+		return resultSet.getString(columnIndexes[ordinal]);
+	}
+
+	/**
+	 * Получение значения Колонки типа NUMERIC с сохранением точности
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return значение или NULL
+	 * @throws SQLException
+	 */
+	public BigDecimal getBigDecimal(int ordinal) throws SQLException {
+		return resultSet.getBigDecimal(columnIndexes[ordinal]);
+	}
+
+	/**
+	 * Получение значения Колонки даты/времени
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return значение или NULL
+	 * @throws SQLException
+	 */
+	public Timestamp getTimestamp(int ordinal) throws SQLException {
+		return resultSet.getTimestamp(columnIndexes[ordinal]);
+	}
+
+	/**
+	 * Получение значения бинарной Колонки целиком (для объемных значений лучше использовать потоковое чтение, см. {@link Table#readBinaryStream})
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return значение или NULL
+	 * @throws SQLException
+	 */
+	public byte[] getBytes(int ordinal) throws SQLException {
+		return resultSet.getBytes(columnIndexes[ordinal]);
+	}
+
+	/**
+	 * Получение значения с помощью кодека типа Колонки (см. {@link ColumnType#read(ResultSet, int)})
+	 *
+	 * @param ordinal порядковый номер Колонки (начиная с 0)
+	 * @return значение или NULL
+	 * @throws SQLException
+	 */
+	public Object getValue(int ordinal) throws SQLException {
+		Column column = columns.get(ordinal);
+		if (column.getType() != null) {
+			return column.getType().read(resultSet, columnIndexes[ordinal]);
+		}
+		return resultSet.getObject(columnIndexes[ordinal]);
+	}
+
+	/**
+	 * Было ли последнее полученное значение равно NULL (для методов примитивных типов, которые возвращают 0 или false вместо NULL)
+	 *
+	 * @return
+	 * @throws SQLException
+	 */
+	public boolean wasNull() throws SQLException {
+		return resultSet.wasNull();
+	}
+
+	/**
+	 * Создание Строки со значениями текущей Строки курсора (для сохранения значений после возврата из обработчика)
+	 *
+	 * @return
+	 */
+	public Row toRow() {
+		return table.mapRow(resultSet, columns, columnIndexes);
+	}
+
+	// Переход к следующей Строке
+	boolean next() throws SQLException {
+		if (stopped || !resultSet.next()) {
+			return false;
+		}
+		rowNumber++;
+		return true;
+	}
+
+}
@@ -0,0 +1,251 @@
+package ru.rds.data.database;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.rds.data.database.common.Pair;
+import ru.rds.data.database.conditions.Condition;
+import ru.rds.data.database.exceptions.ReadRowException;
+import ru.rds.data.storage.ElementsSort;
+
+/**
+ * Издатель Строк Таблицы ({@link Publisher}) с управлением потоком со стороны подписчика.
+ * <p>
+ * Для каждого подписчика выполняется отдельный запрос: запрос выполняется при первом запросе Строк ({@link Subscription#request(long)}),
+ * Строки читаются из открытого курсора по мере запросов подписчика, а размер порции получения Строк из БД (fetch size)
+ * соответствует количеству запрошенных Строк (но не превышает заданного значения).
+ * При отмене подписки выполнение запроса прерывается, а соединение возвращается в пул
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+class RowPublisher implements Publisher<Row> {
+
+	private static final Logger logger = LoggerFactory.getLogger(RowPublisher.class);
+
+	// Таблица, Строки которой публикуются
+	private final Table              table;
+	// Получаемые Колонки
+	private final List<Column>       columns;
+	// Сортировки
+	private final List<ElementsSort> elementsSorts;
+	// Условие отбора Строк
+	private final Condition          condition;
+	// Максимальный размер порции получения Строк из БД
+	private final int                fetchSize;
+	// Исполнитель, в котором выполняются запрос и чтение Строк
+	private final Executor           executor;
+
+	RowPublisher(Table table, List<Column> columns, List<ElementsSort> elementsSorts, Condition condition, int fetchSize, Executor executor) {
+		this.table = table;
+		this.columns = columns;
+		this.elementsSorts = elementsSorts;
+		this.condition = condition;
+		this.fetchSize = fetchSize;
+		this.executor = executor;
+	}
+
+	@Override
+	public void subscribe(Subscriber<? super Row> subscriber) {
+		if (subscriber == null) {
+			throw new NullPointerException("<Subscriber> не должен быть равен <NULL>");
+		}
+		RowSubscription subscription = new RowSubscription(subscriber);
+		subscriber.onSubscribe(subscription);
+	}
+
+	/*
+	Подписка. Все обращения к БД и сигналы подписчику выполняются в исполнителе и никогда не выполняются одновременно:
+	счетчик wip гарантирует, что цикл обработки запущен не более одного раза, а запросы, поступившие во время его работы, будут обработаны им же
+	 */
+	private final class RowSubscription implements Subscription {
+
+		private final Subscriber<? super Row> subscriber;
+		// Количество запрошенных, но еще не переданных Строк
+		private final AtomicLong              requested = new AtomicLong();
+		// Количество необработанных сигналов (запросов и отмены)
+		private final AtomicInteger           wip       = new AtomicInteger();
+		// Отменена ли подписка
+		private volatile boolean              cancelled;
+		// Ошибка запроса Строк (например, неположительное количество)
+		private volatile Throwable            requestError;
+		// Выполняющийся запрос (нужен для прерывания при отмене подписки)
+		private volatile PreparedStatement    preparedStatement;
+		// Отправлен ли завершающий сигнал (onComplete или onError)
+		private boolean                       done;
+		private Connection                    connection;
+		private ResultSet                     resultSet;
+		private int[]                         columnIndexes;
+		// Исходный режим автоматической фиксации соединения
+		private boolean                       autoCommit;
+		// Текущий размер порции получения Строк из БД
+		private int                           currentFetchSize;
+
+		RowSubscription(Subscriber<? super Row> subscriber) {
+			this.subscriber = subscriber;
+		}
+
+		@Override
+		public void request(long n) {
+			if (n <= 0) {
+				requestError = new IllegalArgumentException("Количество запрашиваемых Строк должно быть больше 0 (правило 3.9 Reactive Streams)");
+			} else {
+				requested.accumulateAndGet(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+			}
+			schedule();
+		}
+
+		@Override
+		public void cancel() {
+			if (!cancelled) {
+				cancelled = true;
+				// Прерывание выполняющегося запроса (допускается из другого потока)
+				PreparedStatement statement = preparedStatement;
+				if (statement != null) {
+					try {
+						statement.cancel();
+					} catch (SQLException e) {
+						logger.debug("Не удалось прервать выполнение запроса: " + e.getMessage());
+					}
+				}
+				schedule();
+			}
+		}
+
+		private void schedule() {
+			if (wip.getAndIncrement() == 0) {
+				executor.execute(this::drain);
+			}
+		}
+
+		private void drain() {
+			int missed = 1;
+			do {
+				if (cancelled || done) {
+					release();
+				} else if (requestError != null) {
+					fail(requestError);
+				} else {
+					emit();
+				}
+				missed = wip.addAndGet(-missed);
+			} while (missed != 0);
+		}
+
+		private void emit() {
+			try {
+				while (!cancelled && requested.get() > 0) {
+					if (resultSet == null) {
+						open();
+					} else {
+						alignFetchSize();
+					}
+					if (!resultSet.next()) {
+						done = true;
+						release();
+						subscriber.onComplete();
+						return;
+					}
+					Row row = table.mapRow(resultSet, columns, columnIndexes);
+					if (requested.get() != Long.MAX_VALUE) {
+						requested.decrementAndGet();
+					}
+					subscriber.onNext(row);
+				}
+			} catch (Exception e) {
+				if (cancelled) {
+					release();
+				} else {
+					fail(new ReadRowException(String.format("Не удалось получить строки таблицы <%s>: %s", table.getName(), e.getMessage()), e));
+				}
+			}
+		}
+
+		private void fail(Throwable error) {
+			logger.error(error.getMessage(), error);
+			done = true;
+			release();
+			subscriber.onError(error);
+		}
+
+		// Выполнение запроса. Курсор в PostgreSQL работает только вне режима автоматической фиксации
+		private void open() throws SQLException {
+			Pair<String, List<Object>> query = table.getQueryBuilder().queryForSelectRows(table.getName(), columns, elementsSorts, condition, 0, 0);
+			if (query == null) {
+				throw new SQLException("Запрос равен <NULL>");
+			}
+			logger.trace("SQL-query: " + query.getFirst());
+			connection = table.getDataSource().getConnection();
+			autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			PreparedStatement statement = connection.prepareStatement(query.getFirst(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+			preparedStatement = statement;
+			currentFetchSize = demandFetchSize();
+			statement.setFetchSize(currentFetchSize);
+			table.bindParameters(statement, query.getSecond());
+			resultSet = statement.executeQuery();
+			columnIndexes = Table.findColumnIndexes(resultSet, columns);
+		}
+
+		// Размер следующей порции получения Строк соответствует количеству запрошенных Строк
+		private void alignFetchSize() throws SQLException {
+			int demandFetchSize = demandFetchSize();
+			if (demandFetchSize != currentFetchSize) {
+				currentFetchSize = demandFetchSize;
+				resultSet.setFetchSize(demandFetchSize);
+			}
+		}
+
+		private int demandFetchSize() {
+			return (int) Math.max(1, Math.min(requested.get(), fetchSize));
+		}
+
+		// Закрытие курсора и возврат соединения в пул
+		private void release() {
+			if (resultSet != null) {
+				try {
+					resultSet.close();
+				} catch (SQLException e) {
+					logger.debug(e.getMessage());
+				}
+				resultSet = null;
+			}
+			PreparedStatement statement = preparedStatement;
+			if (statement != null) {
+				try {
+					statement.close();
+				} catch (SQLException e) {
+					logger.debug(e.getMessage());
+				}
+				preparedStatement = null;
+			}
+			if (connection != null) {
+				try {
+					connection.rollback();
+					connection.setAutoCommit(autoCommit);
+				} catch (SQLException e) {
+					logger.debug(e.getMessage());
+				}
+				try {
+					connection.close();
+				} catch (SQLException e) {
+					logger.warn(e.getMessage());
+				}
+				connection = null;
+			}
+		}
+
+	}
+
+}
@@ -1,5 +1,12 @@
 package ru.rds.data.database;
 
+import java.util.*;
+import java.util.stream.Collectors;
+import ru.rds.data.database.common.JsonWriter;
+import ru.rds.data.database.conditions.FullTextCondition;
+import ru.rds.data.database.conditions.JsonCondition;
+import ru.rds.data.database.types.UuidColumnType;
+
 /**
  * Реализация {@link DatabaseQueryBuilder} для СУБД SQLite
  *
@@ -9,4 +16,263 @@ package ru.rds.data.database;
  */
 public class SQLiteDatabaseQueryBuilder extends DefaultDatabaseQueryBuilder {
 
+	/*
+	Полнотекстовый Индекс - виртуальная таблица FTS5 с внешним содержимым (content=tableName).
+	Актуальность индекса поддерживается триггерами на вставку, удаление и обновление Строк
+	 */
+	@Override
+	public List<String> queryForCreateSpaceFullTextIndex(String tableName, List<String> columnNames, String indexName) {
+		if (tableName != null && !tableName.isEmpty() && columnNames != null && !columnNames.isEmpty() && indexName != null && !indexName.isEmpty()) {
+			String columns = String.join(", ", columnNames);
+			String newValues = columnNames.stream()
+			                              .map(columnName -> "new." + columnName)
+			                              .collect(Collectors.joining(", "));
+			String oldValues = columnNames.stream()
+			                              .map(columnName -> "old." + columnName)
+			                              .collect(Collectors.joining(", "));
+			String insert = "INSERT INTO " + indexName + " (rowid, " + columns + ") VALUES (new.rowid, " + newValues + ");";
+			String delete = "INSERT INTO " + indexName + " (" + indexName + ", rowid, " + columns + ") VALUES ('delete', old.rowid, " + oldValues + ");";
+
+			List<String> queries = new ArrayList<>();
+			queries.add("CREATE VIRTUAL TABLE IF NOT EXISTS " + indexName + " USING fts5(" + columns + ", content='" + tableName + "', content_rowid='rowid')");
+			queries.add("CREATE TRIGGER IF NOT EXISTS " + indexName + "_ai AFTER INSERT ON " + tableName + " BEGIN " + insert + " END");
+			queries.add("CREATE TRIGGER IF NOT EXISTS " + indexName + "_ad AFTER DELETE ON " + tableName + " BEGIN " + delete + " END");
+			queries.add("CREATE TRIGGER IF NOT EXISTS " + indexName + "_au AFTER UPDATE ON " + tableName + " BEGIN " + delete + " " + insert + " END");
+			queries.add("INSERT INTO " + indexName + " (" + indexName + ") VALUES ('rebuild')");
+			return queries;
+		}
+		return Collections.emptyList();
+	}
+
+	@Override
+	public List<String> queryForDeleteSpaceFullTextIndex(String tableName, String indexName) {
+		if (indexName != null && !indexName.isEmpty()) {
+			return Arrays.asList("DROP TRIGGER IF EXISTS " + indexName + "_ai",
+			                     "DROP TRIGGER IF EXISTS " + indexName + "_ad",
+			                     "DROP TRIGGER IF EXISTS " + indexName + "_au",
+			                     "DROP TABLE IF EXISTS " + indexName);
+		}
+		return Collections.emptyList();
+	}
+
+	/*
+	SQLite не поддерживает ALTER COLUMN - изменение типа или ограничений требует пересоздания Таблицы
+	 */
+	@Override
+	public String queryForAlterSpacePropertyType(String tableName, Column column) {
+		return null;
+	}
+
+	@Override
+	public String queryForAlterSpacePropertyNotNull(String tableName, String columnName, boolean notNull) {
+		return null;
+	}
+
+	/*
+	В SQLite вместо IS DISTINCT FROM используется IS NOT (сравнение с учетом NULL). UPDATE ... FROM поддерживается начиная с версии 3.33
+	 */
+	@Override
+	protected String buildDistinctExpression(String left, String right) {
+		return left + " IS NOT " + right;
+	}
+
+	/*
+	Значения после изменения возвращаются через <RETURNING ...> (поддерживается начиная с версии 3.35)
+	 */
+	@Override
+	public String queryForReturning(String modifyQuery, List<String> returningColumnNames) {
+		if (modifyQuery != null && returningColumnNames != null && !returningColumnNames.isEmpty()) {
+			return modifyQuery + " RETURNING " + String.join(", ", returningColumnNames);
+		}
+		return null;
+	}
+
+	/*
+	SQLite не поддерживает последовательности
+	 */
+	@Override
+	public String queryForCreateSequence(String sequenceName) {
+		return null;
+	}
+
+	@Override
+	public String queryForNextSequenceValue(String sequenceName) {
+		return null;
+	}
+
+	/*
+	В SQLite нет типа UUID - значения хранятся в 16 байтах
+	 */
+	@Override
+	public String getSqlTypeName(ColumnType columnType) {
+		if (columnType instanceof UuidColumnType) {
+			return "BLOB(16)";
+		}
+		return super.getSqlTypeName(columnType);
+	}
+
+	@Override
+	public Object convertParameterValue(Object value) {
+		if (value instanceof UUID) {
+			return UuidColumnType.toBytes((UUID) value);
+		}
+		return super.convertParameterValue(value);
+	}
+
+	/*
+	Ограничение SQLite по-умолчанию (SQLITE_MAX_VARIABLE_NUMBER) для версий до 3.32.0
+	 */
+	@Override
+	public int getMaxParameterCount() {
+		return 999;
+	}
+
+	@Override
+	protected boolean isPartialIndexSupported() {
+		return true;
+	}
+
+	/*
+	Условия на JSON формируются через функции json_type, json_extract и json_each (без индекса) с той же семантикой, что и JSONB в PostgreSQL.
+	Вхождение фрагмента раскладывается рекурсивно: ключи объектов проверяются по путям, элементы массивов ищутся через json_each,
+	скалярные значения сравниваются с учетом JSON-типа. Равенство по пути проверяется поэлементно (порядок ключей объектов не учитывается)
+	 */
+	@Override
+	protected String buildJsonConditionExpression(JsonCondition condition, List<Object> parameters) {
+		String columnName = condition.getColumnName();
+		switch (condition.getOperator()) {
+			case JSON_CONTAINS:
+				Object fragment = condition.getValue();
+				String expression = buildJsonContainsExpression(columnName, "$", fragment, 1, parameters);
+				if (!isJsonContainer(fragment)) {
+					// Как и в PostgreSQL, массив верхнего уровня может содержать скалярное значение
+					parameters.add("$");
+					expression = "(" + expression + " OR (json_type(" + columnName + ", ?) = 'array' AND " +
+					             buildJsonElementExpression(columnName, "$", fragment, 1, parameters) + "))";
+				}
+				return expression;
+			case JSON_PATH_EQUAL:
+				return buildJsonEqualExpression(columnName, buildJsonPath(condition.getPath()), condition.getValue(), parameters);
+			case JSON_PATH_EXISTS:
+				parameters.add(buildJsonPath(condition.getPath()));
+				return "json_type(" + columnName + ", ?) IS NOT NULL";
+			default:
+				return super.buildJsonConditionExpression(condition, parameters);
+		}
+	}
+
+	// Формирование выражения "JSON-значение по пути содержит фрагмент" (depth - уровень вложенности для псевдонимов json_each)
+	private String buildJsonContainsExpression(String json, String path, Object fragment, int depth, List<Object> parameters) {
+		if (fragment instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) fragment;
+			if (map.isEmpty()) {
+				parameters.add(path);
+				return "json_type(" + json + ", ?) = 'object'";
+			}
+			List<String> expressions = new ArrayList<>();
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				String entryPath = path + "." + JsonWriter.write(String.valueOf(entry.getKey()));
+				expressions.add(buildJsonContainsExpression(json, entryPath, entry.getValue(), depth, parameters));
+			}
+			return "(" + String.join(" AND ", expressions) + ")";
+		}
+		if (isJsonContainer(fragment)) {
+			List<String> expressions = new ArrayList<>();
+			parameters.add(path);
+			expressions.add("json_type(" + json + ", ?) = 'array'");
+			for (Object element : toList(fragment)) {
+				expressions.add(buildJsonElementExpression(json, path, element, depth, parameters));
+			}
+			return "(" + String.join(" AND ", expressions) + ")";
+		}
+		return buildJsonScalarExpression("json_type(" + json + ", ?)", "json_extract(" + json + ", ?)", Collections.singletonList(path), fragment, parameters);
+	}
+
+	// Формирование выражения "массив по пути содержит элемент, который содержит фрагмент"
+	private String buildJsonElementExpression(String json, String path, Object fragment, int depth, List<Object> parameters) {
+		String alias = "j" + depth;
+		parameters.add(path);
+		String expression;
+		if (isJsonContainer(fragment)) {
+			expression = alias + ".type = '" + (fragment instanceof Map ? "object" : "array") + "' AND " +
+			             buildJsonContainsExpression(alias + ".value", "$", fragment, depth + 1, parameters);
+		} else {
+			expression = buildJsonScalarExpression(alias + ".type", alias + ".value", Collections.emptyList(), fragment, parameters);
+		}
+		return "EXISTS (SELECT 1 FROM json_each(" + json + ", ?) AS " + alias + " WHERE " + expression + ")";
+	}
+
+	// Формирование выражения "JSON-значение по пути равно заданному": объекты сравниваются по количеству и значениям ключей, массивы - поэлементно
+	private String buildJsonEqualExpression(String json, String path, Object value, List<Object> parameters) {
+		if (!isJsonContainer(value)) {
+			return buildJsonScalarExpression("json_type(" + json + ", ?)", "json_extract(" + json + ", ?)", Collections.singletonList(path), value, parameters);
+		}
+		List<String> expressions = new ArrayList<>();
+		if (value instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			parameters.add(path);
+			expressions.add("json_type(" + json + ", ?) = 'object'");
+			parameters.add(path);
+			parameters.add(map.size());
+			expressions.add("(SELECT COUNT(*) FROM json_each(" + json + ", ?)) = ?");
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				String entryPath = path + "." + JsonWriter.write(String.valueOf(entry.getKey()));
+				expressions.add(buildJsonEqualExpression(json, entryPath, entry.getValue(), parameters));
+			}
+		} else {
+			List<?> list = toList(value);
+			parameters.add(path);
+			expressions.add("json_type(" + json + ", ?) = 'array'");
+			parameters.add(path);
+			parameters.add(list.size());
+			expressions.add("json_array_length(" + json + ", ?) = ?");
+			for (int i = 0; i < list.size(); i++) {
+				expressions.add(buildJsonEqualExpression(json, path + "[" + i + "]", list.get(i), parameters));
+			}
+		}
+		return "(" + String.join(" AND ", expressions) + ")";
+	}
+
+	/*
+	Сравнение скалярного значения с учетом JSON-типа (type - выражение JSON-типа, value - выражение значения,
+	expressionParameters - параметры каждого из этих выражений). Логические значения и null определяются только по типу
+	 */
+	private String buildJsonScalarExpression(String type, String value, List<Object> expressionParameters, Object scalar, List<Object> parameters) {
+		parameters.addAll(expressionParameters);
+		if (scalar == null) {
+			return type + " = 'null'";
+		} else if (scalar instanceof Boolean) {
+			return type + " = '" + scalar + "'";
+		}
+		String typeExpression = scalar instanceof Number ? type + " IN ('integer', 'real')" : type + " = 'text'";
+		parameters.addAll(expressionParameters);
+		parameters.add(scalar instanceof Number ? scalar : String.valueOf(scalar));
+		return "(" + typeExpression + " AND " + value + " = ?)";
+	}
+
+	private static boolean isJsonContainer(Object value) {
+		return value instanceof Map || value instanceof Collection || value instanceof Object[];
+	}
+
+	private static List<?> toList(Object value) {
+		return value instanceof Object[] ? Arrays.asList((Object[]) value) : new ArrayList<>((Collection<?>) value);
+	}
+
+	/*
+	Поиск выполняется по виртуальной таблице FTS5. Каждое слово передается в виде отдельной фразы в кавычках,
+	поэтому специальные символы синтаксиса FTS5 в тексте не интерпретируются
+	 */
+	@Override
+	protected String buildFullTextConditionExpression(String tableName, FullTextCondition condition, List<Object> parameters) {
+		List<String> words = splitFullTextWords(condition.getText());
+		if (words.isEmpty()) {
+			throw new IllegalArgumentException("Текст полнотекстового поиска не должен быть пустым");
+		}
+		String indexName = condition.getIndex().getName();
+		parameters.add(words.stream()
+		                    .map(word -> "\"" + word.replace("\"", "\"\"") + "\"")
+		                    .collect(Collectors.joining(" ")));
+		return "rowid IN (SELECT rowid FROM " + indexName + " WHERE " + indexName + " MATCH ?)";
+	}
+
 }
@@ -1,18 +1,39 @@
 package ru.rds.data.database;
 
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigInteger;
 import java.sql.*;
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import javax.sql.DataSource;
+import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.rds.data.database.async.AsyncExecutors;
 import ru.rds.data.database.common.AssertChecker;
+import ru.rds.data.database.common.Pair;
+import ru.rds.data.database.common.RowCursorHandler;
+import ru.rds.data.database.common.StreamHandler;
+import ru.rds.data.database.conditions.*;
 import ru.rds.data.database.exceptions.CreateRowException;
 import ru.rds.data.database.exceptions.DeleteRowException;
+import ru.rds.data.database.exceptions.ReadRowException;
+import ru.rds.data.database.exceptions.StaleRowException;
 import ru.rds.data.database.exceptions.UpdateRowException;
+import ru.rds.data.database.generators.IdGenerator;
+import ru.rds.data.database.types.SqlArray;
 import ru.rds.data.storage.*;
 
 /**
@@ -31,8 +52,16 @@ import ru.rds.data.storage.*;
  */
 public class Table implements Space<Column, Row, TableSection> {
 
+	// Размер порции получения Строк из БД по-умолчанию (см. publish)
+	public static final int DEFAULT_FETCH_SIZE = 100;
+
 	private static final Logger logger = LoggerFactory.getLogger(Table.class);
 
+	// Максимальное количество Строк в одном пакетном запросе
+	private static final int BATCH_SIZE = 1000;
+	// Счетчик для названий временных Таблиц со значениями условий IN
+	private static final AtomicLong VALUES_TABLE_COUNTER = new AtomicLong();
+
 	// Название
 	private String               name;
 	// Дополнительное описание
@@ -50,6 +79,10 @@ public class Table implements Space<Column, Row, TableSection> {
 	// Любая реализация DataSource ()
 	private DataSource           dataSource;
 	private DatabaseQueryBuilder queryBuilder;
+	// Загружать ли значения объемных Колонок (TEXT, BYTEA, JSONB и т.п.) только при первом обращении к ним
+	private boolean              lazyLargeColumns;
+	// Генераторы значений Колонок (обычно первичного ключа), где в качестве ключа используется название Колонки
+	private final Map<String, IdGenerator> idGenerators = new ConcurrentHashMap<>();
 
 	/**
 	 * В случае ручного создания экземпляра класса рекомендуется ознакомиться с реализацией метода {@link DatabaseStorage#getSpace(String)}.
@@ -262,21 +295,111 @@ public class Table implements Space<Column, Row, TableSection> {
 		this.indexes = indexes;
 	}
 
+	/**
+	 * Включен ли режим отложенной загрузки объемных Колонок
+	 *
+	 * @return
+	 */
+	public boolean isLazyLargeColumns() {
+		return lazyLargeColumns;
+	}
+
+	/**
+	 * Установление режима отложенной загрузки объемных Колонок (тех, у которых {@link ColumnType#isLarge()}).
+	 * <p>
+	 * В этом режиме при получении Строк без явной проекции значения объемных Колонок не запрашиваются.
+	 * Они загружаются по первичному ключу при первом обращении через {@link Row#getValue(String)} - сразу для всех Строк, полученных тем же запросом.
+	 * Режим действует только для Таблиц, у которых есть первичный ключ
+	 *
+	 * @param lazyLargeColumns
+	 */
+	public void setLazyLargeColumns(boolean lazyLargeColumns) {
+		this.lazyLargeColumns = lazyLargeColumns;
+	}
+
+	/**
+	 * Назначение генератора значений Колонке (обычно Колонке первичного ключа).
+	 * Генератор вызывается при создании Строки ({@link #createElement(Row)}, {@link #createElements(Collection)}), если значение Колонки не задано
+	 *
+	 * @param columnName  название Колонки
+	 * @param idGenerator генератор значений (если NULL - генератор Колонки удаляется)
+	 */
+	public void setIdGenerator(String columnName, IdGenerator idGenerator) {
+		Column column = resolveColumns(Collections.singletonList(columnName)).get(0);
+		if (idGenerator != null) {
+			idGenerators.put(column.getName(), idGenerator);
+		} else {
+			idGenerators.remove(column.getName());
+		}
+	}
+
+	/* Установление сгенерированных значений Колонкам, значения которых не заданы */
+	private void applyIdGenerators(Row row) {
+		if (!idGenerators.isEmpty()) {
+			for (Column column : getProperties()) {
+				IdGenerator idGenerator = idGenerators.get(column.getName());
+				if (idGenerator != null && !row.getValue(column.getName()).isPresent()) {
+					row.setValue(column.getName(), idGenerator.nextId(column));
+				}
+			}
+		}
+	}
+
+	/*
+	Получение Колонок по их названиям (в порядке перечисления названий).
+	Если перечень названий пуст или равен <NULL>, то возвращаются все Колонки Таблицы
+	 */
+	List<Column> resolveColumns(List<String> columnNames) {
+		if (columnNames == null || columnNames.isEmpty()) {
+			return getProperties();
+		}
+		List<Column> columns = new ArrayList<>(columnNames.size());
+		for (String columnName : columnNames) {
+			Column column = getProperties().stream()
+			                               .filter(property -> property.getName().equalsIgnoreCase(columnName))
+			                               .findFirst()
+			                               .orElseThrow(() -> new IllegalArgumentException(String.format("Колонка <%s> отсутствует в Таблице <%s>", columnName, getName())));
+			columns.add(column);
+		}
+		return columns;
+	}
+
+	/*
+	Определение номеров Колонок в ResultSet. Выполняется один раз на запрос,
+	чтобы при чтении каждой Строки не выполнять поиск Колонки по названию
+	 */
+	static int[] findColumnIndexes(ResultSet resultSet, List<Column> columns) throws SQLException {
+		int[] indexes = new int[columns.size()];
+		for (int i = 0; i < columns.size(); i++) {
+			indexes[i] = resultSet.findColumn(columns.get(i).getName());
+		}
+		return indexes;
+	}
+
 	/* Формирование Строки из предварительно полученного ResultSet */
-	private Row mapRow(ResultSet resultSet) {
-		Row row = new Row(getProperties());
-		getProperties().forEach(column -> {
+	Row mapRow(ResultSet resultSet, List<Column> columns, int[] columnIndexes) {
+		Row row = new Row(columns);
+		for (int i = 0; i < columns.size(); i++) {
+			Column column = columns.get(i);
 			try {
 				// Получение значения Колонки
-				Object value = resultSet.getObject(column.getName());
-				row.setValue(column.getName(), value);
+				row.setLoadedValue(column.getName(), readValue(resultSet, columnIndexes[i], column));
 			} catch (Exception e) {
 				logger.error(e.getMessage(), e);
 			}
-		});
+		}
+		row.startTracking();
 		return row;
 	}
 
+	/* Получение значения Колонки с помощью кодека ее типа */
+	private static Object readValue(ResultSet resultSet, int index, Column column) throws SQLException {
+		if (column.getType() != null) {
+			return column.getType().read(resultSet, index);
+		}
+		return resultSet.getObject(index);
+	}
+
 	/**
 	 * Получение Строк в соответствии с критериями. Аналог метода {@link #getElements(List, List, SelectionType, int, int)}
 	 *
@@ -303,22 +426,486 @@ public class Table implements Space<Column, Row, TableSection> {
 	 */
 	@Override
 	public List<Row> getElements(List<ElementsSort> elementsSorts, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType, int offset, int limit) {
-		String query = getQueryBuilder().queryForSelectRows(getName(), getProperties(), elementsSorts, selectionConditions, selectionType, offset, limit);
-		logger.trace("SQL-query: " + query);
-		if (query != null) {
-			ArrayList<Row> rows = new ArrayList<>();
-			try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement();) {
-				ResultSet resultSet = statement.executeQuery(query);
+		return getElements(null, elementsSorts, selectionConditions, selectionType, offset, limit);
+	}
+
+	/**
+	 * Получение Строк в соответствии с критериями, при этом из БД получаются значения только указанных Колонок (проекция)
+	 * <p>
+	 * Полученные Строки содержат только запрошенные Колонки, поэтому объемные значения (TEXT, BYTEA, JSONB и т.п.), которые не нужны вызывающему коду,
+	 * не передаются по сети и не занимают память
+	 *
+	 * @param columnNames         перечень названий Колонок, значения которых нужно получить (если перечень пуст или равен NULL - будут получены все Колонки)
+	 * @param elementsSorts       перечень сортировок, в соответствии с которыми нужно расположить Строки внутри списка
+	 * @param selectionConditions перечень критерий для получения Строк (если критериев нет - будут получены все строки)
+	 * @param selectionType       способ комбинации критериев для получения Строк (если параметр будет равен NULL - то будет использовано значение по-умолчанию {@link SelectionType#AND})
+	 * @param offset              количество Строк, которые нужны пропустить (считая от начала) (будет проигнорировано, если значение limit будет <= 0)
+	 * @param limit               максимальное количество Строк, которые стоит предоставить в списке (если значение <= 0 - ограничения limit и offset будут проигнорированы)
+	 * @return никогда не возвращает NULL
+	 * @throws IllegalArgumentException если среди названий есть Колонка, отсутствующая в Таблице
+	 */
+	public List<Row> getElements(List<String> columnNames, List<ElementsSort> elementsSorts, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType, int offset, int limit) {
+		return getElements(columnNames, elementsSorts, Condition.of(selectionConditions, selectionType), offset, limit);
+	}
+
+	/**
+	 * Получение Строк, отобранных по дереву условий ({@link Condition}). Значения условий передаются в БД в виде параметров запроса
+	 *
+	 * @param condition условие отбора Строк (если равно NULL - будут получены все Строки)
+	 * @return никогда не возвращает NULL
+	 */
+	public List<Row> getElements(Condition condition) {
+		return getElements(null, null, condition, 0, 0);
+	}
+
+	/**
+	 * Получение Строк, отобранных по дереву условий ({@link Condition}), при этом из БД получаются значения только указанных Колонок (проекция)
+	 *
+	 * @param columnNames   перечень названий Колонок, значения которых нужно получить (если перечень пуст или равен NULL - будут получены все Колонки)
+	 * @param elementsSorts перечень сортировок, в соответствии с которыми нужно расположить Строки внутри списка
+	 * @param condition     условие отбора Строк (если равно NULL - будут получены все Строки)
+	 * @param offset        количество Строк, которые нужны пропустить (считая от начала) (будет проигнорировано, если значение limit будет <= 0)
+	 * @param limit         максимальное количество Строк, которые стоит предоставить в списке (если значение <= 0 - ограничения limit и offset будут проигнорированы)
+	 * @return никогда не возвращает NULL
+	 * @throws IllegalArgumentException если среди названий есть Колонка, отсутствующая в Таблице
+	 */
+	public List<Row> getElements(List<String> columnNames, List<ElementsSort> elementsSorts, Condition condition, int offset, int limit) {
+		List<Column> columns = resolveColumns(columnNames);
+		// Объемные Колонки в режиме отложенной загрузки не запрашиваются (если проекция не задана явно)
+		Set<String> lazyColumnNames = Collections.emptySet();
+		if (isLazyLargeColumns() && (columnNames == null || columnNames.isEmpty()) && !getIdColumns().isEmpty()) {
+			lazyColumnNames = columns.stream()
+			                         .filter(column -> !column.isPrimaryKey() && column.getType() != null && column.getType().isLarge())
+			                         .map(Column::getName)
+			                         .collect(Collectors.toSet());
+		}
+		List<Column> queryColumns = columns;
+		if (!lazyColumnNames.isEmpty()) {
+			Set<String> excludedColumnNames = lazyColumnNames;
+			queryColumns = columns.stream()
+			                      .filter(column -> !excludedColumnNames.contains(column.getName()))
+			                      .collect(Collectors.toList());
+		}
+		List<Column> selectColumns = queryColumns;
+		List<Row> rows = new ArrayList<>();
+		try (Connection connection = getDataSource().getConnection()) {
+			// Результаты запросов по частям перечня IN можно объединить, только если Строки не сортируются и не ограничиваются
+			boolean chunkable = (elementsSorts == null || elementsSorts.isEmpty()) && limit <= 0;
+			List<Row> plannedRows = executePlanned(connection, condition,
+			                                       plannedCondition -> getQueryBuilder().queryForSelectRows(getName(), selectColumns, elementsSorts, plannedCondition, offset, limit),
+			                                       query -> readRows(connection, query, selectColumns, columns),
+			                                       chunkable ? Table::mergeRows : null);
+			if (plannedRows == null) {
+				return Collections.emptyList();
+			}
+			rows = plannedRows;
+		} catch (Exception e) {
+			logger.error(e.getMessage());
+		}
+		if (!lazyColumnNames.isEmpty()) {
+			LazyColumnsLoader lazyColumnsLoader = new LazyColumnsLoader(this, rows);
+			for (Row row : rows) {
+				row.setLazyColumns(lazyColumnNames, lazyColumnsLoader);
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * Получение Строк, отобранных по дереву условий ({@link Condition}), в виде издателя Reactive Streams.
+	 * Аналог метода {@link #publish(List, List, Condition, int, Executor)} со всеми Колонками, без сортировки,
+	 * размером порции {@link #DEFAULT_FETCH_SIZE} и исполнителем {@link AsyncExecutors#defaultExecutor()}
+	 *
+	 * @param condition условие отбора Строк (если равно NULL - будут получены все Строки)
+	 * @return
+	 */
+	public Publisher<Row> publish(Condition condition) {
+		return publish(null, null, condition, DEFAULT_FETCH_SIZE, AsyncExecutors.defaultExecutor());
+	}
+
+	/**
+	 * Получение Строк, отобранных по дереву условий ({@link Condition}), в виде издателя Reactive Streams.
+	 * <p>
+	 * В отличие от {@link #getElements(List, List, Condition, int, int)} Строки не собираются в список, а передаются подписчику
+	 * по мере запросов ({@link org.reactivestreams.Subscription#request(long)}) из открытого курсора. Для каждого подписчика выполняется отдельный запрос,
+	 * соединение занято до получения всех Строк или отмены подписки (при отмене выполнение запроса прерывается).
+	 * Отложенная загрузка объемных Колонок не используется
+	 *
+	 * @param columnNames   перечень названий Колонок, значения которых нужно получить (если перечень пуст или равен NULL - будут получены все Колонки)
+	 * @param elementsSorts перечень сортировок (может быть NULL)
+	 * @param condition     условие отбора Строк (если равно NULL - будут получены все Строки)
+	 * @param fetchSize     максимальный размер порции получения Строк из БД (фактический размер равен количеству запрошенных подписчиком Строк, но не больше данного)
+	 * @param executor      исполнитель, в котором выполняются запрос, чтение Строк и сигналы подписчику
+	 * @return
+	 * @throws IllegalArgumentException если среди названий есть Колонка, отсутствующая в Таблице
+	 */
+	public Publisher<Row> publish(List<String> columnNames, List<ElementsSort> elementsSorts, Condition condition, int fetchSize, Executor executor) {
+		AssertChecker.notNull(executor, "<Executor> не должен быть равен <NULL>");
+		return new RowPublisher(this, resolveColumns(columnNames), elementsSorts, condition, Math.max(1, fetchSize), executor);
+	}
+
+	/**
+	 * Последовательный обход Строк, отобранных по дереву условий ({@link Condition}), с передачей их обработчику через переиспользуемый курсор.
+	 * Аналог метода {@link #scan(List, Condition, int, RowCursorHandler)} со всеми Колонками и размером порции {@link #DEFAULT_FETCH_SIZE}
+	 *
+	 * @param condition условие отбора Строк (если равно NULL - будут обойдены все Строки)
+	 * @param handler   обработчик Строк
+	 * @return количество обработанных Строк
+	 * @throws ReadRowException
+	 */
+	public long scan(Condition condition, RowCursorHandler handler) {
+		return scan(null, condition, DEFAULT_FETCH_SIZE, handler);
+	}
+
+	/**
+	 * Последовательный обход Строк, отобранных по дереву условий ({@link Condition}), с передачей их обработчику через переиспользуемый курсор.
+	 * <p>
+	 * В отличие от {@link #getElements(List, List, Condition, int, int)} и {@link #publish(List, List, Condition, int, Executor)}
+	 * для Строк не создаются объекты {@link Row}: обработчик получает один и тот же {@link RowCursor}, указывающий на текущую Строку результата запроса,
+	 * и читает значения типизированными методами по порядковому номеру Колонки. Обход выполняется в вызывающем потоке через одно соединение
+	 * (вне режима автоматической фиксации, чтобы PostgreSQL получал Строки порциями через курсор).
+	 * Обход можно прекратить методом {@link RowCursor#stop()}
+	 *
+	 * @param columnNames перечень названий Колонок, значения которых нужно получить (если перечень пуст или равен NULL - будут получены все Колонки)
+	 * @param condition   условие отбора Строк (если равно NULL - будут обойдены все Строки)
+	 * @param fetchSize   размер порции получения Строк из БД
+	 * @param handler     обработчик Строк
+	 * @return количество обработанных Строк
+	 * @throws IllegalArgumentException если среди названий есть Колонка, отсутствующая в Таблице
+	 * @throws ReadRowException
+	 */
+	public long scan(List<String> columnNames, Condition condition, int fetchSize, RowCursorHandler handler) {
+		AssertChecker.notNull(handler, "<RowCursorHandler> не должен быть равен <NULL>");
+		return scanPartition(resolveColumns(columnNames), condition, 0, fetchSize, handler, null);
+	}
+
+	/**
+	 * Параллельный обход Строк, отобранных по дереву условий ({@link Condition}).
+	 * Аналог метода {@link #parallelScan(List, Condition, int, int, Executor, RowCursorHandler)} со всеми Колонками и размером порции {@link #DEFAULT_FETCH_SIZE}.
+	 * Части обходятся в отдельном исполнителе, который создается на время вызова (не больше потоков, чем частей и процессоров),
+	 * поэтому метод можно вызывать и из задач общего исполнителя {@link AsyncExecutors#defaultExecutor()}
+	 *
+	 * @param condition  условие отбора Строк (если равно NULL - будут обойдены все Строки)
+	 * @param partitions количество частей
+	 * @param handler    потокобезопасный обработчик Строк
+	 * @return количество обработанных Строк
+	 * @throws ReadRowException
+	 */
+	public long parallelScan(Condition condition, int partitions, RowCursorHandler handler) {
+		ExecutorService executor = AsyncExecutors.newExecutor(Math.min(Math.max(1, partitions), Runtime.getRuntime().availableProcessors()));
+		try {
+			return parallelScan(null, condition, partitions, DEFAULT_FETCH_SIZE, executor, handler);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	/**
+	 * Параллельный обход Строк, отобранных по дереву условий ({@link Condition}), через несколько соединений.
+	 * <p>
+	 * Строки делятся на части по диапазонам первичного ключа ({@link #getIdColumns()}). Для ключа из одной целочисленной Колонки
+	 * границы диапазонов вычисляются делением отрезка между MIN и MAX значениями ключа (один запрос), для остальных ключей
+	 * границами становятся ключи Строк с номерами, кратными размеру части (по одному запросу на границу). При неравномерном распределении
+	 * значений целочисленного ключа части могут отличаться по количеству Строк.
+	 * <p>
+	 * Каждая часть обходится как {@link #scan(List, Condition, int, RowCursorHandler)} в отдельной задаче исполнителя через отдельное соединение,
+	 * поэтому количество частей не должно превышать размер пула соединений. Обработчик вызывается одновременно из нескольких потоков
+	 * (у каждой части свой курсор, см. {@link RowCursor#getPartition()}) и должен быть потокобезопасным. Порядок Строк не гарантируется:
+	 * если он нужен, Строки можно накапливать по номеру части (части пронумерованы по возрастанию ключа).
+	 * При ошибке в одной из частей обход остальных частей прекращается. Если у Таблицы нет первичного ключа - Строки обходятся одной частью.
+	 * <p>
+	 * Вызывающий поток ожидает завершения всех частей, поэтому исполнитель не должен быть тем же пулом, в котором выполняется вызов:
+	 * части встанут в очередь за заблокированными потоками. Вызов с общим исполнителем {@link AsyncExecutors#defaultExecutor()}
+	 * из его же потока отклоняется
+	 *
+	 * @param columnNames перечень названий Колонок, значения которых нужно получить (если перечень пуст или равен NULL - будут получены все Колонки)
+	 * @param condition   условие отбора Строк (если равно NULL - будут обойдены все Строки)
+	 * @param partitions  количество частей
+	 * @param fetchSize   размер порции получения Строк из БД
+	 * @param executor    исполнитель, в котором обходятся части
+	 * @param handler     потокобезопасный обработчик Строк
+	 * @return количество обработанных Строк
+	 * @throws IllegalArgumentException если среди названий есть Колонка, отсутствующая в Таблице, или метод вызван из потока общего исполнителя,
+	 *                                  переданного в качестве исполнителя частей
+	 * @throws ReadRowException
+	 */
+	public long parallelScan(List<String> columnNames, Condition condition, int partitions, int fetchSize, Executor executor, RowCursorHandler handler) {
+		AssertChecker.notNull(executor, "<Executor> не должен быть равен <NULL>");
+		AssertChecker.isTrue(executor != AsyncExecutors.defaultExecutor() || !AsyncExecutors.isDefaultExecutorThread(),
+		                     "<Executor> не должен быть общим исполнителем, в потоке которого выполняется вызов");
+		AssertChecker.notNull(handler, "<RowCursorHandler> не должен быть равен <NULL>");
+		List<Column> columns = resolveColumns(columnNames);
+		List<Condition> partitionConditions;
+		try {
+			partitionConditions = planPartitions(condition, partitions);
+		} catch (Exception e) {
+			ReadRowException error = new ReadRowException(String.format("Не удалось разделить строки таблицы <%s> на части: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
+		}
+		AtomicBoolean cancelled = new AtomicBoolean();
+		List<CompletableFuture<Long>> futures = new ArrayList<>(partitionConditions.size());
+		for (int partition = 0; partition < partitionConditions.size(); partition++) {
+			int partitionNumber = partition;
+			Condition partitionCondition = partitionConditions.get(partition);
+			futures.add(CompletableFuture.supplyAsync(() -> scanPartition(columns, partitionCondition, partitionNumber, fetchSize, handler, cancelled), executor)
+			                             .whenComplete((count, throwable) -> {
+				                             if (throwable != null) {
+					                             cancelled.set(true);
+				                             }
+			                             }));
+		}
+		// Ожидание всех частей, чтобы соединения были возвращены в пул до выхода из метода
+		long count = 0;
+		Throwable failure = null;
+		for (CompletableFuture<Long> future : futures) {
+			try {
+				count += future.join();
+			} catch (CompletionException | CancellationException e) {
+				if (failure == null) {
+					failure = e.getCause() != null ? e.getCause() : e;
+				}
+			}
+		}
+		if (failure instanceof ReadRowException) {
+			throw (ReadRowException) failure;
+		}
+		if (failure != null) {
+			ReadRowException error = new ReadRowException(String.format("Не удалось обойти строки таблицы <%s>: %s", getName(), failure.getMessage()), failure);
+			logger.error(failure.getMessage(), failure);
+			throw error;
+		}
+		return count;
+	}
+
+	/* Обход Строк одной части Таблицы через отдельное соединение (cancelled - признак прекращения обхода, может быть NULL) */
+	private long scanPartition(List<Column> columns, Condition condition, int partition, int fetchSize, RowCursorHandler handler, AtomicBoolean cancelled) {
+		Pair<String, List<Object>> query = getQueryBuilder().queryForSelectRows(getName(), columns, null, condition, 0, 0);
+		if (query == null) {
+			throw new ReadRowException(String.format("Не удалось обойти строки таблицы <%s>: запрос равен <NULL>", getName()));
+		}
+		logger.trace("SQL-query: " + query.getFirst());
+		try (Connection connection = getDataSource().getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+				preparedStatement.setFetchSize(Math.max(1, fetchSize));
+				bindParameters(preparedStatement, query.getSecond());
+				try (ResultSet resultSet = preparedStatement.executeQuery()) {
+					RowCursor cursor = new RowCursor(this, partition, resultSet, columns, findColumnIndexes(resultSet, columns));
+					long count = 0;
+					while ((cancelled == null || !cancelled.get()) && cursor.next()) {
+						handler.handle(cursor);
+						count++;
+					}
+					return count;
+				}
+			} finally {
+				connection.rollback();
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (Exception e) {
+			ReadRowException error = new ReadRowException(String.format("Не удалось обойти строки таблицы <%s>: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
+		}
+	}
+
+	/*
+	Разделение Строк на части по диапазонам первичного ключа: условие первой части <key <= boundary1>,
+	следующих - <boundary(i-1) < key <= boundary(i)>, последней - <key > boundary(n-1)>
+	 */
+	private List<Condition> planPartitions(Condition condition, int partitions) throws SQLException {
+		List<String> keyColumnNames = getIdColumns().stream()
+		                                            .map(Column::getName)
+		                                            .collect(Collectors.toList());
+		if (partitions <= 1 || keyColumnNames.isEmpty()) {
+			if (partitions > 1) {
+				logger.warn(String.format("У Таблицы <%s> отсутствует первичный ключ: строки будут обойдены одной частью", getName()));
+			}
+			return Collections.singletonList(condition);
+		}
+		List<List<Object>> boundaries = null;
+		if (keyColumnNames.size() == 1) {
+			boundaries = findRangeBoundaries(keyColumnNames.get(0), condition, partitions);
+		}
+		if (boundaries == null) {
+			boundaries = findSampleBoundaries(keyColumnNames, condition, partitions);
+		}
+		List<Condition> partitionConditions = new ArrayList<>(boundaries.size() + 1);
+		List<Object> lowerBoundary = null;
+		for (List<Object> boundary : boundaries) {
+			Condition lowerBound = lowerBoundary != null ? keysetCondition(keyColumnNames, lowerBoundary, true) : null;
+			partitionConditions.add(combine(combine(condition, lowerBound), keysetCondition(keyColumnNames, boundary, false)));
+			lowerBoundary = boundary;
+		}
+		partitionConditions.add(combine(condition, lowerBoundary != null ? keysetCondition(keyColumnNames, lowerBoundary, true) : null));
+		return partitionConditions;
+	}
+
+	/*
+	Границы частей для целочисленного ключа: деление отрезка [MIN, MAX] на равные диапазоны
+	(или NULL, если ключ не целочисленный или не помещается в long - тогда границы определяются по выборке)
+	 */
+	private List<List<Object>> findRangeBoundaries(String keyColumnName, Condition condition, int partitions) {
+		List<Row> rows = aggregate(null, Arrays.asList(Aggregate.min(keyColumnName, "min_key"), Aggregate.max(keyColumnName, "max_key")), condition);
+		if (rows.isEmpty()) {
+			return null;
+		}
+		Object minValue = rows.get(0).getValue("min_key").orElse(null);
+		Object maxValue = rows.get(0).getValue("max_key").orElse(null);
+		if (minValue == null || maxValue == null) {
+			return Collections.emptyList();
+		}
+		if (!isIntegral(minValue) || !isIntegral(maxValue)) {
+			return null;
+		}
+		BigInteger min = new BigInteger(minValue.toString());
+		BigInteger max = new BigInteger(maxValue.toString());
+		if (min.bitLength() >= Long.SIZE || max.bitLength() >= Long.SIZE) {
+			return null;
+		}
+		BigInteger span = max.subtract(min);
+		List<List<Object>> boundaries = new ArrayList<>();
+		BigInteger previous = null;
+		for (int i = 1; i < partitions; i++) {
+			BigInteger boundary = min.add(span.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(partitions)));
+			if (boundary.compareTo(max) < 0 && (previous == null || boundary.compareTo(previous) > 0)) {
+				boundaries.add(Collections.singletonList(boundary.longValue()));
+				previous = boundary;
+			}
+		}
+		return boundaries;
+	}
+
+	private static boolean isIntegral(Object value) {
+		return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte || value instanceof BigInteger;
+	}
+
+	/* Границы частей для произвольного ключа: ключи Строк с номерами count * i / partitions в порядке возрастания ключа */
+	private List<List<Object>> findSampleBoundaries(List<String> keyColumnNames, Condition condition, int partitions) throws SQLException {
+		long count = getElementsCount(condition);
+		List<List<Object>> boundaries = new ArrayList<>();
+		try (Connection connection = getDataSource().getConnection()) {
+			long previousPosition = 0;
+			for (int i = 1; i < partitions; i++) {
+				long position = count * i / partitions;
+				if (position <= previousPosition || position >= count) {
+					continue;
+				}
+				List<Object> boundary = findChunkBoundary(connection, keyColumnNames, condition, (int) Math.min(position, Integer.MAX_VALUE));
+				if (boundary == null) {
+					break;
+				}
+				boundaries.add(boundary);
+				previousPosition = position;
+			}
+		}
+		return boundaries;
+	}
+
+	/* Получение Строк запросом через переданное соединение */
+	private List<Row> readRows(Connection connection, Pair<String, List<Object>> query, List<Column> queryColumns, List<Column> columns) throws SQLException {
+		List<Row> rows = new ArrayList<>();
+		try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst())) {
+			bindParameters(preparedStatement, query.getSecond());
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
+				int[] columnIndexes = findColumnIndexes(resultSet, queryColumns);
 				while (resultSet.next()) {
-					rows.add(mapRow(resultSet));
+					Row row = mapRow(resultSet, queryColumns, columnIndexes);
+					row.setColumns(columns);
+					rows.add(row);
+				}
+			}
+		}
+		return rows;
+	}
+
+	private static List<Row> mergeRows(List<Row> rows, List<Row> otherRows) {
+		rows.addAll(otherRows);
+		return rows;
+	}
+
+	/*
+	Загрузка значений отложенной Колонки сразу для всех Строк, у которых оно еще не загружено.
+	Строки сопоставляются по значениям первичного ключа. Для ключа из одной Колонки перечень ключей передается
+	через условие IN (с учетом ограничения количества параметров, см. executePlanned), для составного ключа - частями
+	 */
+	void loadLazyColumn(List<Row> rows, String columnName) {
+		List<Row> pendingRows = rows.stream()
+		                            .filter(row -> !row.isLoaded(columnName))
+		                            .collect(Collectors.toList());
+		if (pendingRows.isEmpty()) {
+			return;
+		}
+		List<Column> idColumns = getIdColumns();
+		List<String> keyColumnNames = idColumns.stream()
+		                                       .map(Column::getName)
+		                                       .collect(Collectors.toList());
+		Map<List<Object>, Row> rowsByKey = new HashMap<>();
+		for (Row row : pendingRows) {
+			List<Object> key = new ArrayList<>(keyColumnNames.size());
+			for (String keyColumnName : keyColumnNames) {
+				key.add(row.getValue(keyColumnName).orElse(null));
+			}
+			rowsByKey.put(key, row);
+		}
+		List<List<Object>> keys = new ArrayList<>(rowsByKey.keySet());
+		List<Column> queryColumns = new ArrayList<>(idColumns);
+		queryColumns.addAll(resolveColumns(Collections.singletonList(columnName)));
+		try (Connection connection = getDataSource().getConnection()) {
+			QueryAction<Integer> action = query -> {
+				int count = 0;
+				try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst())) {
+					bindParameters(preparedStatement, query.getSecond());
+					try (ResultSet resultSet = preparedStatement.executeQuery()) {
+						// Значения читаются кодеками типов, как и при обычном чтении Строк, иначе ключи не совпали бы с ключами Строк
+						int[] columnIndexes = findColumnIndexes(resultSet, queryColumns);
+						int valueIndex = queryColumns.size() - 1;
+						while (resultSet.next()) {
+							List<Object> key = new ArrayList<>(keyColumnNames.size());
+							for (int i = 0; i < valueIndex; i++) {
+								key.add(readValue(resultSet, columnIndexes[i], queryColumns.get(i)));
+							}
+							Row row = rowsByKey.remove(key);
+							if (row != null) {
+								row.setLoadedValue(columnName, readValue(resultSet, columnIndexes[valueIndex], queryColumns.get(valueIndex)));
+								count++;
+							}
+						}
+					}
+				}
+				return count;
+			};
+			if (keyColumnNames.size() == 1) {
+				List<Object> keyValues = keys.stream()
+				                             .map(key -> key.get(0))
+				                             .collect(Collectors.toList());
+				Integer count = executePlanned(connection, Condition.in(keyColumnNames.get(0), keyValues),
+				                               plannedCondition -> getQueryBuilder().queryForSelectRows(getName(), queryColumns, null, plannedCondition, 0, 0),
+				                               action, Integer::sum);
+				if (count == null) {
+					throw new SQLException("Запрос равен <NULL>");
+				}
+			} else {
+				int chunkSize = Math.max(1, getQueryBuilder().getMaxParameterCount() / keyColumnNames.size());
+				for (int from = 0; from < keys.size(); from += chunkSize) {
+					Pair<String, List<Object>> query = getQueryBuilder().queryForSelectRowsByKeys(getName(), queryColumns, keyColumnNames,
+					                                                                             keys.subList(from, Math.min(from + chunkSize, keys.size())));
+					if (query == null) {
+						throw new SQLException("Запрос равен <NULL>");
+					}
+					logger.trace("SQL-query: " + query.getFirst());
+					action.execute(query);
 				}
-				resultSet.close();
-			} catch (Exception e) {
-				logger.error(e.getMessage());
 			}
-			return rows;
+		} catch (Exception e) {
+			ReadRowException error = new ReadRowException(String.format("Не удалось загрузить значения Колонки <%s> Таблицы <%s>: %s", columnName, getName(), e.getMessage()), e);
+			logger.error(error.getMessage(), e);
+			throw error;
 		}
-		return Collections.emptyList();
+		// Строки, которые уже удалены из Таблицы, получают значение NULL
+		rowsByKey.values().forEach(row -> row.setLoadedValue(columnName, null));
 	}
 
 	/**
@@ -329,8 +916,19 @@ public class Table implements Space<Column, Row, TableSection> {
 	 */
 	@Override
 	public TableSection getSection(Sectionable sectionable) {
-		List<Row> rows = getElements(sectionable.getSort(), sectionable.getElementsSelectionConditions(), sectionable.getSelectionType(), sectionable.getSectionNumber() * sectionable.getSectionSize(),
-		                             sectionable.getSectionSize());
+		return getSection(sectionable, null);
+	}
+
+	/**
+	 * Получение Секции Строк, при этом из БД получаются значения только указанных Колонок (проекция)
+	 *
+	 * @param sectionable критерии для получения Секции Строк
+	 * @param columnNames перечень названий Колонок, значения которых нужно получить (если перечень пуст или равен NULL - будут получены все Колонки)
+	 * @return
+	 */
+	public TableSection getSection(Sectionable sectionable, List<String> columnNames) {
+		List<Row> rows = getElements(columnNames, sectionable.getSort(), sectionable.getElementsSelectionConditions(), sectionable.getSelectionType(),
+		                             sectionable.getSectionNumber() * sectionable.getSectionSize(), sectionable.getSectionSize());
 		long totalRowsCount = getElementsCount(sectionable.getElementsSelectionConditions(), sectionable.getSelectionType());
 
 		return TableSection.of(sectionable, totalRowsCount, rows);
@@ -345,22 +943,309 @@ public class Table implements Space<Column, Row, TableSection> {
 	 */
 	@Override
 	public long getElementsCount(List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
-		String query = getQueryBuilder().queryForCountRows(getName(), getIdColumns(), selectionConditions, selectionType);
-		logger.trace("SQL-query: " + query);
-		if (query != null) {
-			long count = 0;
-			try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement();) {
-				ResultSet resultSet = statement.executeQuery(query);
+		return getElementsCount(Condition.of(selectionConditions, selectionType));
+	}
+
+	/**
+	 * Плучение количества Строк, отобранных по дереву условий ({@link Condition})
+	 *
+	 * @param condition условие отбора Строк (если равно NULL - будут подсчитаны все Строки)
+	 * @return
+	 */
+	public long getElementsCount(Condition condition) {
+		try (Connection connection = getDataSource().getConnection()) {
+			Long count = executePlanned(connection, condition,
+			                            plannedCondition -> getQueryBuilder().queryForCountRows(getName(), getIdColumns(), plannedCondition),
+			                            query -> {
+				                            try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst())) {
+					                            bindParameters(preparedStatement, query.getSecond());
+					                            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+						                            return resultSet.next() ? resultSet.getLong(1) : 0L;
+					                            }
+				                            }
+			                            },
+			                            Long::sum);
+			return count != null ? count : 0;
+		} catch (Exception e) {
+			logger.error(e.getMessage(), e);
+		}
+		return 0;
+	}
+
+	/**
+	 * Формирование условия полнотекстового поиска по полнотекстовому Индексу Таблицы
+	 *
+	 * <p>
+	 * Найденные Строки сопоставляются с Таблицей по первичному ключу, поэтому составной первичный ключ не поддерживается
+	 *
+	 * @param index полнотекстовый Индекс (см. {@link Index#isFullText()})
+	 * @param text  искомый текст
+	 * @return
+	 * @throws IllegalArgumentException если текст пуст или у Таблицы составной первичный ключ
+	 */
+	public Condition fullTextCondition(Index index, String text) {
+		AssertChecker.notNull(index, "<Index> не должен быть равен <NULL>");
+		List<Column> idColumns = getIdColumns();
+		if (idColumns.size() > 1) {
+			throw new IllegalArgumentException(String.format("Полнотекстовый поиск по Таблице <%s> с составным первичным ключом не поддерживается", getName()));
+		}
+		String keyColumnName = idColumns.isEmpty() ? null : idColumns.get(0).getName();
+		return Condition.fullText(index, keyColumnName, text);
+	}
+
+	/**
+	 * Вычисление агрегатов (COUNT, SUM, MIN, MAX, AVG) на стороне БД с группировкой по Колонкам
+	 * <p>
+	 * Каждая Строка результата содержит значения Колонок группировки и значения агрегатов (под названиями {@link Aggregate#getAlias()}).
+	 * Типы значений агрегатов определяются драйвером СУБД
+	 *
+	 * @param groupByColumnNames  названия Колонок, по которым выполняется группировка (если перечень пуст или равен NULL - будет получена одна Строка по всем отобранным Строкам)
+	 * @param aggregates          перечень вычисляемых агрегатов
+	 * @param selectionConditions перечень условий для отбора Строк ({@link Row})
+	 * @param selectionType       способ комбинации условий отбора ({@link SelectionType#AND} или {@link SelectionType#OR})
+	 * @return никогда не возвращает NULL
+	 * @throws IllegalArgumentException если среди названий Колонок группировки есть Колонка, отсутствующая в Таблице
+	 */
+	public List<Row> aggregate(List<String> groupByColumnNames, List<Aggregate> aggregates, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
+		return aggregate(groupByColumnNames, aggregates, Condition.of(selectionConditions, selectionType));
+	}
+
+	/**
+	 * Вычисление агрегатов на стороне БД с группировкой по Колонкам для Строк, отобранных по дереву условий ({@link Condition})
+	 *
+	 * @param groupByColumnNames названия Колонок, по которым выполняется группировка (если перечень пуст или равен NULL - будет получена одна Строка по всем отобранным Строкам)
+	 * @param aggregates         перечень вычисляемых агрегатов
+	 * @param condition          условие отбора Строк (если равно NULL - агрегаты вычисляются по всем Строкам)
+	 * @return никогда не возвращает NULL
+	 * @throws IllegalArgumentException если среди названий Колонок группировки есть Колонка, отсутствующая в Таблице
+	 */
+	public List<Row> aggregate(List<String> groupByColumnNames, List<Aggregate> aggregates, Condition condition) {
+		AssertChecker.notNull(aggregates, "<List<Aggregate>> не должен быть равен <NULL>");
+		List<Column> columns = new ArrayList<>();
+		if (groupByColumnNames != null && !groupByColumnNames.isEmpty()) {
+			columns.addAll(resolveColumns(groupByColumnNames));
+		}
+		for (Aggregate aggregate : aggregates) {
+			Column column = new Column();
+			column.setName(aggregate.getAlias());
+			column.setLabel(aggregate.getAlias());
+			column.setReadOnly(true);
+			column.setOrdinalPosition(columns.size() + 1);
+			columns.add(column);
+		}
+		List<Row> rows = new ArrayList<>();
+		try (Connection connection = getDataSource().getConnection()) {
+			// Агрегаты по частям перечня IN объединить нельзя, поэтому большой перечень загружается во временную Таблицу
+			List<Row> plannedRows = executePlanned(connection, condition,
+			                                       plannedCondition -> getQueryBuilder().queryForAggregateRows(getName(), groupByColumnNames, aggregates, plannedCondition),
+			                                       query -> {
+				                                       List<Row> aggregateRows = new ArrayList<>();
+				                                       try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst())) {
+					                                       bindParameters(preparedStatement, query.getSecond());
+					                                       try (ResultSet resultSet = preparedStatement.executeQuery()) {
+						                                       while (resultSet.next()) {
+							                                       Row row = new Row(columns);
+							                                       for (int i = 0; i < columns.size(); i++) {
+								                                       row.setValue(columns.get(i).getName(), readValue(resultSet, i + 1, columns.get(i)));
+							                                       }
+							                                       aggregateRows.add(row);
+						                                       }
+					                                       }
+				                                       }
+				                                       return aggregateRows;
+			                                       },
+			                                       null);
+			if (plannedRows == null) {
+				return Collections.emptyList();
+			}
+			rows = plannedRows;
+		} catch (Exception e) {
+			logger.error(e.getMessage(), e);
+		}
+		return rows;
+	}
+
+	/**
+	 * Проверка наличия хотя бы одной Строки, удовлетворяющей критериям.
+	 * <p>
+	 * В отличие от {@link #getElementsCount(List, SelectionType)} не подсчитывает все подходящие Строки, а останавливается на первой найденной
+	 *
+	 * @param selectionConditions перечень условий для отбора Строк ({@link Row}) (если условий нет - проверяется наличие хотя бы одной Строки в Таблице)
+	 * @param selectionType       способ комбинации условий отбора ({@link SelectionType#AND} или {@link SelectionType#OR})
+	 * @return
+	 */
+	public boolean exists(List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
+		return exists(Condition.of(selectionConditions, selectionType));
+	}
+
+	/**
+	 * Проверка наличия хотя бы одной Строки, удовлетворяющей дереву условий ({@link Condition})
+	 *
+	 * @param condition условие отбора Строк (если равно NULL - проверяется наличие хотя бы одной Строки в Таблице)
+	 * @return
+	 */
+	public boolean exists(Condition condition) {
+		try (Connection connection = getDataSource().getConnection()) {
+			Boolean exists = executePlanned(connection, condition,
+			                                plannedCondition -> getQueryBuilder().queryForExistsRows(getName(), plannedCondition),
+			                                query -> {
+				                                try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst())) {
+					                                bindParameters(preparedStatement, query.getSecond());
+					                                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+						                                return resultSet.next() && resultSet.getBoolean(1);
+					                                }
+				                                }
+			                                },
+			                                Boolean::logicalOr,
+			                                Boolean.TRUE::equals);
+			return exists != null && exists;
+		} catch (Exception e) {
+			logger.error(e.getMessage(), e);
+		}
+		return false;
+	}
+
+	/**
+	 * Проверка наличия хотя бы одной Строки, удовлетворяющей всем критериям. Аналог метода {@link #exists(List, SelectionType)} с {@link SelectionType#AND}
+	 *
+	 * @param selectionConditions перечень условий для отбора Строк ({@link Row})
+	 * @return
+	 */
+	public boolean exists(List<ElementsSelectionCondition> selectionConditions) {
+		return exists(selectionConditions, SelectionType.AND);
+	}
+
+	/*
+	Получение Колонок по их названиям (в порядке перечисления названий) для установления значений параметров.
+	Для названий, отсутствующих в Таблице, в списке будет <NULL>
+	 */
+	private List<Column> findBindColumns(List<String> columnNames) {
+		List<Column> columns = new ArrayList<>(columnNames.size());
+		for (String columnName : columnNames) {
+			columns.add(findBindColumn(columnName));
+		}
+		return columns;
+	}
+
+	private Column findBindColumn(String columnName) {
+		return getProperties().stream()
+		                      .filter(property -> property.getName().equalsIgnoreCase(columnName))
+		                      .findFirst()
+		                      .orElse(null);
+	}
+
+	/*
+	Установление значений параметров запроса в порядке их следования.
+	Значения условий на Колонки (ColumnParameter) передаются с помощью кодека типа Колонки
+	 */
+	void bindParameters(PreparedStatement preparedStatement, List<Object> parameters) throws SQLException {
+		bindParameters(preparedStatement, 1, parameters);
+	}
+
+	/* Установление значений параметров запроса, начиная с параметра с номером fromIndex */
+	private void bindParameters(PreparedStatement preparedStatement, int fromIndex, List<Object> parameters) throws SQLException {
+		for (int i = 0; i < parameters.size(); i++) {
+			Object parameter = parameters.get(i);
+			if (parameter instanceof ColumnParameter) {
+				ColumnParameter columnParameter = (ColumnParameter) parameter;
+				bindValue(preparedStatement, fromIndex + i, findBindColumn(columnParameter.getColumnName()), columnParameter.getValue());
+			} else {
+				bindValue(preparedStatement, fromIndex + i, parameter);
+			}
+		}
+	}
+
+	/*
+	Установление значения параметра запроса.
+	Потоки (InputStream и Reader) передаются в БД без полной загрузки в память, SqlArray - в виде SQL-массива
+	 */
+	private void bindValue(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+		value = getQueryBuilder().convertParameterValue(value);
+		if (value instanceof InputStream) {
+			preparedStatement.setBinaryStream(index, (InputStream) value);
+		} else if (value instanceof Reader) {
+			preparedStatement.setCharacterStream(index, (Reader) value);
+		} else if (value instanceof SqlArray) {
+			SqlArray sqlArray = (SqlArray) value;
+			preparedStatement.setArray(index, preparedStatement.getConnection().createArrayOf(sqlArray.getElementTypeName(), sqlArray.getElements()));
+		} else {
+			preparedStatement.setObject(index, value);
+		}
+	}
+
+	/*
+	Установление значения параметра запроса для Колонки.
+	Значение передается с помощью кодека типа Колонки (см. ColumnType#getCodec()), потоки - как в bindValue(PreparedStatement, int, Object)
+	 */
+	private void bindValue(PreparedStatement preparedStatement, int index, Column column, Object value) throws SQLException {
+		if (column == null || column.getType() == null || value instanceof InputStream || value instanceof Reader) {
+			bindValue(preparedStatement, index, value);
+		} else {
+			column.getType().bind(preparedStatement, index, getQueryBuilder().convertParameterValue(value));
+		}
+	}
+
+	/**
+	 * Чтение значения бинарной Колонки (например, BYTEA) в виде потока без полной загрузки значения в память.
+	 * <p>
+	 * Строка определяется по значениям первичного ключа переданной Строки. Поток доступен только во время работы обработчика
+	 *
+	 * @param row        Строка, содержащая значения первичного ключа
+	 * @param columnName название Колонки
+	 * @param handler    обработчик потока (если значение равно NULL - в обработчик будет передан NULL)
+	 * @return результат работы обработчика или NULL, если Строка не найдена
+	 * @throws ReadRowException
+	 */
+	public <T> T readBinaryStream(Row row, String columnName, StreamHandler<InputStream, T> handler) {
+		return readStream(row, columnName, resultSet -> handler.handle(resultSet.getBinaryStream(1)));
+	}
+
+	/**
+	 * Чтение значения символьной Колонки (например, TEXT) в виде потока без полной загрузки значения в память.
+	 * <p>
+	 * Строка определяется по значениям первичного ключа переданной Строки. Поток доступен только во время работы обработчика
+	 *
+	 * @param row        Строка, содержащая значения первичного ключа
+	 * @param columnName название Колонки
+	 * @param handler    обработчик потока (если значение равно NULL - в обработчик будет передан NULL)
+	 * @return результат работы обработчика или NULL, если Строка не найдена
+	 * @throws ReadRowException
+	 */
+	public <T> T readCharacterStream(Row row, String columnName, StreamHandler<Reader, T> handler) {
+		return readStream(row, columnName, resultSet -> handler.handle(resultSet.getCharacterStream(1)));
+	}
+
+	/* Получение значения Колонки одной Строки (по первичному ключу) и передача его обработчику */
+	private <T> T readStream(Row row, String columnName, StreamHandler<ResultSet, T> handler) {
+		AssertChecker.notNull(row, "<Row> не должен быть равен <NULL>");
+		List<String> keyColumnNames = getIdColumns().stream()
+		                                            .map(Column::getName)
+		                                            .collect(Collectors.toList());
+		if (keyColumnNames.isEmpty()) {
+			throw new ReadRowException(String.format("Не удалось прочитать значение Колонки <%s>: у Таблицы <%s> отсутствует первичный ключ", columnName, getName()));
+		}
+		List<Object> key = keyColumnNames.stream()
+		                                 .map(keyColumnName -> row.getValue(keyColumnName).orElseGet(() -> null))
+		                                 .collect(Collectors.toList());
+		Pair<String, List<Object>> query = getQueryBuilder().queryForSelectRowsByKeys(getName(), resolveColumns(Collections.singletonList(columnName)), keyColumnNames,
+		                                                                             Collections.singletonList(key));
+		if (query == null) {
+			throw new ReadRowException(String.format("Не удалось прочитать значение Колонки <%s> Таблицы <%s>: запрос равен <NULL>", columnName, getName()));
+		}
+		logger.trace("SQL-query: " + query.getFirst());
+		try (Connection connection = getDataSource().getConnection(); PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst())) {
+			bindParameters(preparedStatement, query.getSecond());
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
 				if (resultSet.next()) {
-					count = resultSet.getLong(1);
+					return handler.handle(resultSet);
 				}
-				resultSet.close();
-			} catch (Exception e) {
-				logger.error(e.getMessage(), e);
 			}
-			return count;
+			return null;
+		} catch (Exception e) {
+			ReadRowException error = new ReadRowException(String.format("Не удалось прочитать значение Колонки <%s> Таблицы <%s>: %s", columnName, getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
 		}
-		return 0;
 	}
 
 	/**
@@ -372,21 +1257,36 @@ public class Table implements Space<Column, Row, TableSection> {
 	 */
 	@Override
 	public Row createElement(Row row) {
-		List<String> columnNames = getProperties().stream()
-		                                          .map(Column::getName)
-		                                          .collect(Collectors.toList());
+		applyIdGenerators(row);
+		List<String> columnNames = getInsertColumnNames(row);
 		String query = getQueryBuilder().queryForCreateRow(getName(), columnNames);
-		logger.trace("SQL-query: " + query);
 		if (query != null) {
-			try (Connection connection = getDataSource().getConnection()) {
-				PreparedStatement preparedStatement = connection.prepareStatement(query);
+			List<String> returningColumnNames = getReturningColumnNames();
+			String returningQuery = getQueryBuilder().queryForReturning(query, returningColumnNames);
+			logger.trace("SQL-query: " + (returningQuery != null ? returningQuery : query));
+			try (Connection connection = getDataSource().getConnection();
+			     PreparedStatement preparedStatement = returningQuery != null ? connection.prepareStatement(returningQuery) : connection.prepareStatement(query, Statement.RETURN_GENERATED_KEYS)) {
+				List<Column> bindColumns = findBindColumns(columnNames);
 				for (int i = 0; i < columnNames.size(); i++) {
 					String columnName = columnNames.get(i);
 					Optional<Object> columnValue = row.getValue(columnName);
-					preparedStatement.setObject(i + 1, columnValue.orElseGet(() -> null));
+					bindValue(preparedStatement, i + 1, bindColumns.get(i), columnValue.orElseGet(() -> null));
 				}
-				preparedStatement.executeUpdate();
-				preparedStatement.close();
+				if (returningQuery != null) {
+					try (ResultSet resultSet = preparedStatement.executeQuery()) {
+						if (resultSet.next()) {
+							applyReturnedValues(resultSet, row);
+						}
+					}
+				} else {
+					preparedStatement.executeUpdate();
+					try (ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
+						if (resultSet != null && resultSet.next()) {
+							applyReturnedValues(resultSet, row);
+						}
+					}
+				}
+				row.startTracking();
 				return row;
 			} catch (CreateRowException e) {
 				logger.error(e.getMessage(), e);
@@ -401,6 +1301,101 @@ public class Table implements Space<Column, Row, TableSection> {
 		}
 	}
 
+	/**
+	 * Пакетное создание новых Строк одной транзакцией. Значения, сформированные БД (автоинкрементные значения, значения по-умолчанию),
+	 * возвращаются через {@link Statement#getGeneratedKeys()} и устанавливаются в переданные Строки (если драйвер БД это поддерживает)
+	 *
+	 * @param rows создаваемые Строки
+	 * @return переданные Строки
+	 * @throws CreateRowException
+	 */
+	public List<Row> createElements(Collection<Row> rows) {
+		// Строки группируются по набору вставляемых Колонок (автоинкрементные Колонки без значения не вставляются)
+		Map<List<String>, List<Row>> groups = new LinkedHashMap<>();
+		rows.forEach(this::applyIdGenerators);
+		rows.forEach(row -> groups.computeIfAbsent(getInsertColumnNames(row), key -> new ArrayList<>()).add(row));
+		String[] returningColumnNames = getReturningColumnNames().toArray(new String[0]);
+		try (Connection connection = getDataSource().getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				for (Map.Entry<List<String>, List<Row>> group : groups.entrySet()) {
+					List<String> columnNames = group.getKey();
+					String query = getQueryBuilder().queryForCreateRow(getName(), columnNames);
+					if (query == null) {
+						throw new CreateRowException(String.format("Не удалось создать новые строки в таблице <%s>: запрос равен <NULL>", getName()));
+					}
+					logger.trace("SQL-query: " + query);
+					try (PreparedStatement preparedStatement = connection.prepareStatement(query, returningColumnNames)) {
+						List<Column> bindColumns = findBindColumns(columnNames);
+						List<Row> groupRows = group.getValue();
+						for (int from = 0; from < groupRows.size(); from += BATCH_SIZE) {
+							List<Row> batchRows = groupRows.subList(from, Math.min(from + BATCH_SIZE, groupRows.size()));
+							for (Row row : batchRows) {
+								for (int i = 0; i < columnNames.size(); i++) {
+									bindValue(preparedStatement, i + 1, bindColumns.get(i), row.getValue(columnNames.get(i)).orElseGet(() -> null));
+								}
+								preparedStatement.addBatch();
+							}
+							preparedStatement.executeBatch();
+							// Сформированные значения возвращаются в порядке добавления Строк в пакет
+							try (ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
+								for (int i = 0; resultSet != null && i < batchRows.size() && resultSet.next(); i++) {
+									applyReturnedValues(resultSet, batchRows.get(i));
+								}
+							}
+						}
+					}
+				}
+				connection.commit();
+				rows.forEach(Row::startTracking);
+				return new ArrayList<>(rows);
+			} catch (SQLException | RuntimeException e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		} catch (CreateRowException e) {
+			logger.error(e.getMessage(), e);
+			throw e;
+		} catch (Exception e) {
+			CreateRowException error = new CreateRowException(String.format("Не удалось создать новые строки в таблице <%s>: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
+		}
+	}
+
+	/* Колонки для вставки: автоинкрементные Колонки без значения пропускаются, чтобы значение сформировала БД */
+	private List<String> getInsertColumnNames(Row row) {
+		return getProperties().stream()
+		                      .filter(column -> !column.isAutoincrement() || row.getValue(column.getName()).isPresent())
+		                      .map(Column::getName)
+		                      .collect(Collectors.toList());
+	}
+
+	/* Колонки, значения которых возвращаются после изменения Строки (объемные Колонки не возвращаются) */
+	private List<String> getReturningColumnNames() {
+		return getProperties().stream()
+		                      .filter(column -> column.getType() == null || !column.getType().isLarge())
+		                      .map(Column::getName)
+		                      .collect(Collectors.toList());
+	}
+
+	/* Установление в Строку значений, возвращенных БД после изменения */
+	private void applyReturnedValues(ResultSet resultSet, Row row) throws SQLException {
+		ResultSetMetaData metaData = resultSet.getMetaData();
+		for (int i = 1; i <= metaData.getColumnCount(); i++) {
+			String label = metaData.getColumnLabel(i);
+			for (Column column : getProperties()) {
+				if (column.getName().equalsIgnoreCase(label)) {
+					row.setLoadedValue(column.getName(), readValue(resultSet, i, column));
+					break;
+				}
+			}
+		}
+	}
+
 	/**
 	 * Обновление значений Строки ({@link Row})
 	 *
@@ -412,34 +1407,386 @@ public class Table implements Space<Column, Row, TableSection> {
 	 */
 	@Override
 	public Row updateElements(Row row, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
+		return updateElements(row, Condition.of(selectionConditions, selectionType));
+	}
+
+	/**
+	 * Обновление значений Строк, отобранных по дереву условий ({@link Condition}). Обновление выполняется одной транзакцией,
+	 * даже если из-за большого перечня значений IN запрос выполняется по частям
+	 *
+	 * @param row       строка, содержащая данные для обновления
+	 * @param condition условие отбора Строк, в которых нужно будет обновить данные (если равно NULL - будут обновлены все Строки)
+	 * @return
+	 * @throws UpdateRowException
+	 */
+	public Row updateElements(Row row, Condition condition) {
 		List<String> columnNames = new ArrayList<>(row.getValues().keySet());
-		String query = getQueryBuilder().queryForUpdateRow(getName(), columnNames, selectionConditions, selectionType);
-		logger.trace("SQL-query: " + query);
-		if (query != null) {
-			try (Connection connection = getDataSource().getConnection()) {
-				PreparedStatement preparedStatement = connection.prepareStatement(query);
-				for (int i = 0; i < columnNames.size(); i++) {
-					String columnName = columnNames.get(i);
-					Optional<Object> columnValue = row.getValue(columnName);
-					preparedStatement.setObject(i + 1, columnValue.orElseGet(() -> null));
+		try (Connection connection = getDataSource().getConnection()) {
+			executeInTransaction(connection, () -> executeUpdate(connection, row, columnNames, condition));
+			return row;
+		} catch (UpdateRowException e) {
+			logger.error(e.getMessage(), e);
+			throw e;
+		} catch (Exception e) {
+			UpdateRowException error = new UpdateRowException(String.format("Не удалось обновить строку в таблице <%s>: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
+		}
+	}
+
+	/**
+	 * Порционное обновление значений Строк, отобранных по дереву условий ({@link Condition}).
+	 * <p>
+	 * В отличие от {@link #updateElements(Row, Condition)} Строки обновляются диапазонами первичного ключа, каждый диапазон - отдельной транзакцией,
+	 * поэтому блокировки удерживаются недолго, а после сбоя обновление можно продолжить (см. {@link ChunkedExecution})
+	 *
+	 * @param row       строка, содержащая данные для обновления
+	 * @param condition условие отбора Строк (если равно NULL - будут обновлены все Строки)
+	 * @param execution настройки порционного выполнения
+	 * @return количество обновленных Строк
+	 * @throws UpdateRowException
+	 */
+	public long updateElements(Row row, Condition condition, ChunkedExecution execution) {
+		List<String> columnNames = new ArrayList<>(row.getValues().keySet());
+		try {
+			return executeInChunks(condition, execution, (connection, chunkCondition) -> executeUpdate(connection, row, columnNames, chunkCondition));
+		} catch (UpdateRowException e) {
+			logger.error(e.getMessage(), e);
+			throw e;
+		} catch (Exception e) {
+			UpdateRowException error = new UpdateRowException(String.format("Не удалось обновить строки в таблице <%s>: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
+		}
+	}
+
+	/* Обновление Строк через переданное соединение. Возвращает количество обновленных Строк */
+	private int executeUpdate(Connection connection, Row row, List<String> columnNames, Condition condition) throws SQLException {
+		List<Column> bindColumns = findBindColumns(columnNames);
+		Integer count = executePlanned(connection, condition,
+		                               plannedCondition -> getQueryBuilder().queryForUpdateRow(getName(), columnNames, plannedCondition),
+		                               query -> {
+			                               try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst())) {
+				                               for (int i = 0; i < columnNames.size(); i++) {
+					                               String columnName = columnNames.get(i);
+					                               Optional<Object> columnValue = row.getValue(columnName);
+					                               bindValue(preparedStatement, i + 1, bindColumns.get(i), columnValue.orElseGet(() -> null));
+				                               }
+				                               bindParameters(preparedStatement, columnNames.size() + 1, query.getSecond());
+				                               return preparedStatement.executeUpdate();
+			                               }
+		                               },
+		                               Integer::sum);
+		if (count == null) {
+			throw new UpdateRowException(String.format("Не удалось обновить строку в таблице <%s>: запрос равен <NULL>", getName()));
+		}
+		return count;
+	}
+
+	/**
+	 * Обновление одной Строки по первичному ключу. Для Строк, полученных из Таблицы, записываются только изменившиеся значения,
+	 * а если изменений нет - запрос к БД не выполняется
+	 *
+	 * @param row Строка, содержащая значения первичного ключа
+	 * @return true, если Строка была обновлена
+	 * @throws UpdateRowException
+	 */
+	public boolean updateElement(Row row) {
+		List<String> keyColumnNames = getIdColumns().stream()
+		                                            .map(Column::getName)
+		                                            .collect(Collectors.toList());
+		if (keyColumnNames.isEmpty()) {
+			throw new UpdateRowException(String.format("Не удалось обновить строку в таблице <%s>: отсутствует первичный ключ", getName()));
+		}
+		List<String> columnNames = getUpdateColumnNames(row, keyColumnNames, null);
+		if (columnNames.isEmpty()) {
+			return false;
+		}
+		String query = getQueryBuilder().queryForUpdateRowByKey(getName(), columnNames, keyColumnNames, null);
+		if (query == null) {
+			throw new UpdateRowException(String.format("Не удалось обновить строку в таблице <%s>: запрос равен <NULL>", getName()));
+		}
+		// Значения, установленные БД (например, триггерами), возвращаются тем же запросом, если СУБД это поддерживает
+		String returningQuery = getQueryBuilder().queryForReturning(query, getReturningColumnNames());
+		logger.trace("SQL-query: " + (returningQuery != null ? returningQuery : query));
+		try (Connection connection = getDataSource().getConnection();
+		     PreparedStatement preparedStatement = connection.prepareStatement(returningQuery != null ? returningQuery : query)) {
+			bindUpdateByKey(preparedStatement, row, columnNames, keyColumnNames, null);
+			boolean updated;
+			if (returningQuery != null) {
+				try (ResultSet resultSet = preparedStatement.executeQuery()) {
+					updated = resultSet.next();
+					if (updated) {
+						applyReturnedValues(resultSet, row);
+					}
 				}
-				preparedStatement.executeUpdate();
-				preparedStatement.close();
-				connection.close();
-				return row;
-			} catch (UpdateRowException e) {
-				logger.error(e.getMessage(), e);
+			} else {
+				updated = preparedStatement.executeUpdate() > 0;
+			}
+			// Если Строка не найдена, изменения остаются отмеченными, чтобы их можно было записать повторно
+			if (updated) {
+				row.startTracking();
+			}
+			return updated;
+		} catch (UpdateRowException e) {
+			logger.error(e.getMessage(), e);
+			throw e;
+		} catch (Exception e) {
+			UpdateRowException error = new UpdateRowException(String.format("Не удалось обновить строку в таблице <%s>: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
+		}
+	}
+
+	/*
+	Колонки, значения которых нужно обновить: для Строк с отслеживанием изменений - только изменившиеся, иначе - все загруженные
+	(кроме первичного ключа и Колонки версии)
+	 */
+	private List<String> getUpdateColumnNames(Row row, List<String> keyColumnNames, String versionColumnName) {
+		Collection<String> candidateColumnNames = row.isTracked() ? row.getChangedColumnNames() : row.getLoadedValues().keySet();
+		return candidateColumnNames.stream()
+		                           .filter(columnName -> !keyColumnNames.contains(columnName) && !columnName.equals(versionColumnName))
+		                           .sorted()
+		                           .collect(Collectors.toList());
+	}
+
+	/* Установление параметров запроса обновления по первичному ключу: значения Колонок, значения ключа, ожидаемая версия */
+	private void bindUpdateByKey(PreparedStatement preparedStatement, Row row, List<String> columnNames, List<String> keyColumnNames, String versionColumnName) throws SQLException {
+		Map<String, Object> values = row.getLoadedValues();
+		int index = 1;
+		for (String columnName : columnNames) {
+			bindValue(preparedStatement, index++, findBindColumn(columnName), values.get(columnName));
+		}
+		for (String keyColumnName : keyColumnNames) {
+			bindValue(preparedStatement, index++, findBindColumn(keyColumnName), values.get(keyColumnName));
+		}
+		if (versionColumnName != null) {
+			bindValue(preparedStatement, index, findBindColumn(versionColumnName), values.get(versionColumnName));
+		}
+	}
+
+	/**
+	 * Пакетное обновление Строк по первичному ключу: каждая Строка обновляется своими значениями.
+	 * Аналог метода {@link #updateElementsById(Collection, String)} без проверки версии
+	 *
+	 * @param rows Строки, содержащие значения первичного ключа и новые значения Колонок
+	 * @return количество обновленных Строк
+	 * @throws UpdateRowException
+	 */
+	public int updateElementsById(Collection<Row> rows) {
+		return updateElementsById(rows, null);
+	}
+
+	/**
+	 * Пакетное обновление Строк по первичному ключу: каждая Строка обновляется своими значениями.
+	 * <p>
+	 * Строки группируются по набору обновляемых Колонок, для каждой группы используется один пакетный запрос.
+	 * Все изменения выполняются одной транзакцией. Если задана Колонка версии, то Строка обновляется только при совпадении версии
+	 * (при этом версия увеличивается на 1); если хотя бы одна Строка не обновлена - все изменения отменяются и возникает {@link StaleRowException}.
+	 * Значения, которые не были загружены (см. {@link #setLazyLargeColumns(boolean)}), не обновляются.
+	 * Для Строк, изменения которых отслеживаются ({@link Row#isTracked()}), записываются только изменившиеся значения,
+	 * а Строки без изменений пропускаются. Значения первичного ключа изменять нельзя
+	 *
+	 * @param rows              Строки, содержащие значения первичного ключа и новые значения Колонок
+	 * @param versionColumnName название Колонки версии (если NULL - версия не проверяется)
+	 * @return количество обновленных Строк
+	 * @throws UpdateRowException
+	 * @throws StaleRowException
+	 */
+	public int updateElementsById(Collection<Row> rows, String versionColumnName) {
+		List<String> keyColumnNames = getIdColumns().stream()
+		                                            .map(Column::getName)
+		                                            .collect(Collectors.toList());
+		if (keyColumnNames.isEmpty()) {
+			throw new UpdateRowException(String.format("Не удалось обновить строки в таблице <%s>: отсутствует первичный ключ", getName()));
+		}
+		// Группировка Строк по набору обновляемых Колонок
+		Map<List<String>, List<Row>> groups = new LinkedHashMap<>();
+		for (Row row : rows) {
+			List<String> columnNames = getUpdateColumnNames(row, keyColumnNames, versionColumnName);
+			if (!columnNames.isEmpty()) {
+				groups.computeIfAbsent(columnNames, key -> new ArrayList<>()).add(row);
+			}
+		}
+		if (groups.isEmpty()) {
+			return 0;
+		}
+		try (Connection connection = getDataSource().getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				int updated = 0;
+				List<Row> staleRows = new ArrayList<>();
+				for (Map.Entry<List<String>, List<Row>> group : groups.entrySet()) {
+					updated += executeUpdateBatch(connection, group.getKey(), keyColumnNames, versionColumnName, group.getValue(), staleRows);
+				}
+				if (!staleRows.isEmpty()) {
+					connection.rollback();
+					throw new StaleRowException(String.format("Не удалось обновить строки в таблице <%s>: версия %d строк(и) изменилась", getName(), staleRows.size()), staleRows);
+				}
+				connection.commit();
+				if (versionColumnName != null) {
+					// Версия в БД увеличена - отражаем это в Строках
+					groups.values().forEach(groupRows -> groupRows.forEach(row -> row.getValue(versionColumnName)
+					                                                                 .filter(Number.class::isInstance)
+					                                                                 .ifPresent(version -> row.setValue(versionColumnName, nextVersion((Number) version)))));
+				}
+				groups.values().forEach(groupRows -> groupRows.forEach(Row::startTracking));
+				return updated;
+			} catch (SQLException | RuntimeException e) {
+				connection.rollback();
 				throw e;
-			} catch (Exception e) {
-				UpdateRowException error = new UpdateRowException(String.format("Не удалось обновить строку в таблице <%s>: %s", getName(), e.getMessage()), e);
-				logger.error(e.getMessage(), e);
-				throw error;
+			} finally {
+				connection.setAutoCommit(autoCommit);
 			}
-		} else {
-			UpdateRowException error = new UpdateRowException(String.format("Не удалось обновить строку в таблице <%s>: запрос равен <NULL>", getName()));
+		} catch (UpdateRowException e) {
+			logger.error(e.getMessage(), e);
+			throw e;
+		} catch (Exception e) {
+			UpdateRowException error = new UpdateRowException(String.format("Не удалось обновить строки в таблице <%s>: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
+		}
+	}
+
+	private static Number nextVersion(Number version) {
+		if (version instanceof Integer) {
+			return version.intValue() + 1;
+		}
+		return version.longValue() + 1;
+	}
+
+	/* Пакетное обновление группы Строк с одинаковым набором обновляемых Колонок */
+	private int executeUpdateBatch(Connection connection, List<String> columnNames, List<String> keyColumnNames, String versionColumnName, List<Row> rows, List<Row> staleRows) throws SQLException {
+		String query = getQueryBuilder().queryForUpdateRowByKey(getName(), columnNames, keyColumnNames, versionColumnName);
+		if (query == null) {
+			throw new UpdateRowException(String.format("Не удалось обновить строки в таблице <%s>: запрос равен <NULL>", getName()));
+		}
+		logger.trace("SQL-query: " + query);
+		int updated = 0;
+		try (PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+			for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+				List<Row> batchRows = rows.subList(from, Math.min(from + BATCH_SIZE, rows.size()));
+				for (Row row : batchRows) {
+					bindUpdateByKey(preparedStatement, row, columnNames, keyColumnNames, versionColumnName);
+					preparedStatement.addBatch();
+				}
+				int[] counts = preparedStatement.executeBatch();
+				for (int i = 0; i < counts.length; i++) {
+					if (counts[i] > 0) {
+						updated += counts[i];
+					} else if (counts[i] == 0 && versionColumnName != null) {
+						staleRows.add(batchRows.get(i));
+					}
+				}
+			}
+		}
+		return updated;
+	}
+
+	/**
+	 * Массовое применение изменений через промежуточную Таблицу.
+	 * <p>
+	 * Строки пакетами загружаются во временную Таблицу (видимую только в рамках одного соединения), после чего изменения применяются
+	 * несколькими запросами над множествами: обновляются Строки с совпадающим первичным ключом, значения которых отличаются,
+	 * вставляются Строки с новыми ключами и (если <code>deleteMissing</code> равен true) удаляются Строки, ключей которых нет среди переданных.
+	 * Применение изменений выполняется одной транзакцией, промежуточная Таблица удаляется в любом случае.
+	 * Ключи переданных Строк не должны повторяться
+	 *
+	 * @param rows          Строки (перебираются однократно, поэтому могут формироваться по мере чтения из внешнего источника)
+	 * @param columnNames   названия переносимых Колонок (если перечень пуст или равен NULL - переносятся все Колонки)
+	 * @param deleteMissing удалять ли Строки, ключей которых нет среди переданных
+	 * @return количество измененных Строк основной Таблицы
+	 * @throws UpdateRowException
+	 */
+	public long mergeElements(Iterable<Row> rows, List<String> columnNames, boolean deleteMissing) {
+		List<String> keyColumnNames = getIdColumns().stream()
+		                                            .map(Column::getName)
+		                                            .collect(Collectors.toList());
+		if (keyColumnNames.isEmpty()) {
+			throw new UpdateRowException(String.format("Не удалось применить изменения к таблице <%s>: отсутствует первичный ключ", getName()));
+		}
+		List<String> mergeColumnNames = resolveColumns(columnNames).stream()
+		                                                           .map(Column::getName)
+		                                                           .collect(Collectors.toList());
+		if (!mergeColumnNames.containsAll(keyColumnNames)) {
+			throw new IllegalArgumentException(String.format("Перечень Колонок должен содержать первичный ключ Таблицы <%s>", getName()));
+		}
+		String stagingTableName = getName() + "_staging_" + Long.toHexString(System.nanoTime());
+		String createQuery = getQueryBuilder().queryForCreateStagingSpace(stagingTableName, getName());
+		String insertQuery = getQueryBuilder().queryForCreateRow(stagingTableName, mergeColumnNames);
+		List<String> mergeQueries = new ArrayList<>(getQueryBuilder().queryForMergeFromStagingSpace(getName(), stagingTableName, mergeColumnNames, keyColumnNames));
+		if (deleteMissing) {
+			mergeQueries.add(getQueryBuilder().queryForDeleteMissingFromStagingSpace(getName(), stagingTableName, keyColumnNames));
+		}
+		if (createQuery == null || insertQuery == null || mergeQueries.isEmpty() || mergeQueries.contains(null)) {
+			UpdateRowException error = new UpdateRowException(String.format("Не удалось применить изменения к таблице <%s>: запрос равен <NULL>", getName()));
 			logger.error(error.getMessage());
 			throw error;
 		}
+		try (Connection connection = getDataSource().getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			try (Statement statement = connection.createStatement()) {
+				logger.trace("SQL-query: " + createQuery);
+				statement.execute(createQuery);
+				connection.setAutoCommit(false);
+				try {
+					loadStagingRows(connection, insertQuery, mergeColumnNames, rows);
+					long changed = 0;
+					for (String mergeQuery : mergeQueries) {
+						logger.trace("SQL-query: " + mergeQuery);
+						changed += statement.executeUpdate(mergeQuery);
+					}
+					connection.commit();
+					return changed;
+				} catch (SQLException | RuntimeException e) {
+					connection.rollback();
+					throw e;
+				} finally {
+					connection.setAutoCommit(autoCommit);
+					dropStagingTable(statement, stagingTableName);
+				}
+			}
+		} catch (UpdateRowException e) {
+			logger.error(e.getMessage(), e);
+			throw e;
+		} catch (Exception e) {
+			UpdateRowException error = new UpdateRowException(String.format("Не удалось применить изменения к таблице <%s>: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
+		}
+	}
+
+	private void dropStagingTable(Statement statement, String stagingTableName) {
+		String dropQuery = getQueryBuilder().queryForDeleteSpace(stagingTableName);
+		logger.trace("SQL-query: " + dropQuery);
+		try {
+			statement.execute(dropQuery);
+		} catch (SQLException e) {
+			logger.warn(String.format("Не удалось удалить промежуточную таблицу <%s>", stagingTableName), e);
+		}
+	}
+
+	/* Пакетная загрузка Строк в промежуточную Таблицу */
+	private void loadStagingRows(Connection connection, String insertQuery, List<String> columnNames, Iterable<Row> rows) throws SQLException {
+		logger.trace("SQL-query: " + insertQuery);
+		try (PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
+			List<Column> bindColumns = findBindColumns(columnNames);
+			int batchSize = 0;
+			for (Row row : rows) {
+				for (int i = 0; i < columnNames.size(); i++) {
+					bindValue(preparedStatement, i + 1, bindColumns.get(i), row.getValue(columnNames.get(i)).orElseGet(() -> null));
+				}
+				preparedStatement.addBatch();
+				if (++batchSize == BATCH_SIZE) {
+					preparedStatement.executeBatch();
+					batchSize = 0;
+				}
+			}
+			if (batchSize > 0) {
+				preparedStatement.executeBatch();
+			}
+		}
 	}
 
 	/**
@@ -450,24 +1797,314 @@ public class Table implements Space<Column, Row, TableSection> {
 	 */
 	@Override
 	public void deleteElements(List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
-		String query = getQueryBuilder().queryForDeleteRow(getName(), selectionConditions, selectionType);
-		logger.trace("SQL-query: " + query);
-		if (query != null) {
-			try (Connection connection = getDataSource().getConnection(); Statement statement = connection.createStatement()) {
-				statement.execute(query);
-			} catch (UpdateRowException e) {
-				logger.error(e.getMessage(), e);
-				throw e;
-			} catch (Exception e) {
-				DeleteRowException error = new DeleteRowException(String.format("Не удалось удалить строки в таблице <%s>: %s", getName(), e.getMessage()), e);
-				logger.error(e.getMessage(), e);
-				throw error;
-			}
-		} else {
-			DeleteRowException error = new DeleteRowException(String.format("Не удалось удалить строки в таблице <%s>: запрос равен <NULL>", getName()));
-			logger.error(error.getMessage());
+		deleteElements(Condition.of(selectionConditions, selectionType));
+	}
+
+	/**
+	 * Удаление Строк, отобранных по дереву условий ({@link Condition}). Удаление выполняется одной транзакцией,
+	 * даже если из-за большого перечня значений IN запрос выполняется по частям
+	 *
+	 * @param condition условие отбора Строк, которые нужно будет удалить (если равно NULL - будут удалены все Строки)
+	 * @throws DeleteRowException
+	 */
+	public void deleteElements(Condition condition) {
+		try (Connection connection = getDataSource().getConnection()) {
+			executeInTransaction(connection, () -> executeDelete(connection, condition));
+		} catch (DeleteRowException e) {
+			logger.error(e.getMessage(), e);
+			throw e;
+		} catch (Exception e) {
+			DeleteRowException error = new DeleteRowException(String.format("Не удалось удалить строки в таблице <%s>: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
+			throw error;
+		}
+	}
+
+	/**
+	 * Порционное удаление Строк, отобранных по дереву условий ({@link Condition}).
+	 * <p>
+	 * Строки удаляются диапазонами первичного ключа, каждый диапазон - отдельной транзакцией (см. {@link ChunkedExecution})
+	 *
+	 * @param condition условие отбора Строк, которые нужно будет удалить (если равно NULL - будут удалены все Строки)
+	 * @param execution настройки порционного выполнения
+	 * @return количество удаленных Строк
+	 * @throws DeleteRowException
+	 */
+	public long deleteElements(Condition condition, ChunkedExecution execution) {
+		try {
+			return executeInChunks(condition, execution, this::executeDelete);
+		} catch (DeleteRowException e) {
+			logger.error(e.getMessage(), e);
+			throw e;
+		} catch (Exception e) {
+			DeleteRowException error = new DeleteRowException(String.format("Не удалось удалить строки в таблице <%s>: %s", getName(), e.getMessage()), e);
+			logger.error(e.getMessage(), e);
 			throw error;
 		}
 	}
 
+	/* Удаление Строк через переданное соединение. Возвращает количество удаленных Строк */
+	private int executeDelete(Connection connection, Condition condition) throws SQLException {
+		Integer count = executePlanned(connection, condition,
+		                               plannedCondition -> getQueryBuilder().queryForDeleteRow(getName(), plannedCondition),
+		                               query -> {
+			                               try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst())) {
+				                               bindParameters(preparedStatement, query.getSecond());
+				                               return preparedStatement.executeUpdate();
+			                               }
+		                               },
+		                               Integer::sum);
+		if (count == null) {
+			throw new DeleteRowException(String.format("Не удалось удалить строки в таблице <%s>: запрос равен <NULL>", getName()));
+		}
+		return count;
+	}
+
+	/* Выполнение сформированного запроса */
+	@FunctionalInterface
+	private interface QueryAction<T> {
+
+		T execute(Pair<String, List<Object>> query) throws SQLException;
+
+	}
+
+	/* Действие, выполняемое в транзакции */
+	@FunctionalInterface
+	private interface TransactionAction<T> {
+
+		T execute() throws SQLException;
+
+	}
+
+	/*
+	Выполнение изменения одной транзакцией: запрос может быть разбит на части (см. executePlanned), и без транзакции
+	сбой в одной из частей оставил бы изменения предыдущих частей зафиксированными
+	 */
+	private <T> T executeInTransaction(Connection connection, TransactionAction<T> action) throws SQLException {
+		boolean autoCommit = connection.getAutoCommit();
+		connection.setAutoCommit(false);
+		try {
+			T result = action.execute();
+			connection.commit();
+			return result;
+		} catch (SQLException | RuntimeException e) {
+			connection.rollback();
+			throw e;
+		} finally {
+			connection.setAutoCommit(autoCommit);
+		}
+	}
+
+	/*
+	Выполнение запроса с учетом ограничения количества параметров (см. DatabaseQueryBuilder#planInList(int)).
+	Если запрос не помещается в ограничение, перечень значений условия IN с наибольшим количеством значений
+	либо разбивается на части (для каждой части выполняется отдельный запрос, результаты объединяются через merge),
+	либо загружается во временную Таблицу. Разбиение возможно, только если merge задан, а условие IN является корнем дерева
+	или одним из условий корневой группы AND. Возвращает NULL, если запрос равен NULL
+	 */
+	private <T> T executePlanned(Connection connection, Condition condition, Function<Condition, Pair<String, List<Object>>> queryFactory,
+	                             QueryAction<T> action, BinaryOperator<T> merge) throws SQLException {
+		return executePlanned(connection, condition, queryFactory, action, merge, null);
+	}
+
+	/*
+	То же, но оставшиеся части перечня не запрашиваются, как только объединенный результат удовлетворяет условию complete
+	(например, при проверке наличия Строк достаточно первой части, в которой они найдены)
+	 */
+	private <T> T executePlanned(Connection connection, Condition condition, Function<Condition, Pair<String, List<Object>>> queryFactory,
+	                             QueryAction<T> action, BinaryOperator<T> merge, Predicate<T> complete) throws SQLException {
+		Pair<String, List<Object>> query = queryFactory.apply(condition);
+		if (query == null) {
+			return null;
+		}
+		int maxParameterCount = getQueryBuilder().getMaxParameterCount();
+		int parameterCount = query.getSecond().size();
+		ColumnCondition inCondition = parameterCount > maxParameterCount ? InListPlanner.findLargestInCondition(condition) : null;
+		if (inCondition == null) {
+			logger.trace("SQL-query: " + query.getFirst());
+			return action.execute(query);
+		}
+		// Повторяющиеся значения исключаются, чтобы части перечня не пересекались
+		List<Object> values = new ArrayList<>(new LinkedHashSet<>(inCondition.getValues()));
+		boolean negative = inCondition.getOperator() == ConditionOperator.NOT_IN;
+		int chunkSize = maxParameterCount - (parameterCount - inCondition.getValues().size());
+		if (merge != null && !negative && chunkSize > 0 && InListPlanner.isConjunct(condition, inCondition) &&
+		    getQueryBuilder().planInList(values.size()) != InListStrategy.TEMPORARY_TABLE) {
+			T result = null;
+			for (int from = 0; from < values.size(); from += chunkSize) {
+				Condition chunkCondition = InListPlanner.replace(condition, inCondition,
+				                                                 Condition.in(inCondition.getColumnName(), values.subList(from, Math.min(from + chunkSize, values.size()))));
+				T chunkResult = executePlanned(connection, chunkCondition, queryFactory, action, merge, complete);
+				result = result == null ? chunkResult : merge.apply(result, chunkResult);
+				if (complete != null && complete.test(result)) {
+					break;
+				}
+			}
+			return result;
+		}
+		String valuesTableName = "in_values_" + VALUES_TABLE_COUNTER.incrementAndGet();
+		loadValuesTable(connection, valuesTableName, inCondition.getColumnName(), values);
+		try {
+			Condition plannedCondition = InListPlanner.replace(condition, inCondition, new InTableCondition(inCondition.getColumnName(), negative, valuesTableName));
+			return executePlanned(connection, plannedCondition, queryFactory, action, merge, complete);
+		} finally {
+			try (Statement statement = connection.createStatement()) {
+				dropStagingTable(statement, valuesTableName);
+			}
+		}
+	}
+
+	/* Создание временной Таблицы и пакетная загрузка в нее перечня значений условия IN */
+	private void loadValuesTable(Connection connection, String valuesTableName, String columnName, List<Object> values) throws SQLException {
+		String createQuery = getQueryBuilder().queryForCreateValuesSpace(valuesTableName, getName(), columnName);
+		String insertQuery = getQueryBuilder().queryForCreateRow(valuesTableName, Collections.singletonList(InTableCondition.VALUE_COLUMN_NAME));
+		if (createQuery == null || insertQuery == null) {
+			throw new SQLException(String.format("Не удалось создать временную таблицу для значений Колонки <%s>: запрос равен <NULL>", columnName));
+		}
+		logger.trace("SQL-query: " + createQuery);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute(createQuery);
+		}
+		logger.trace("SQL-query: " + insertQuery);
+		Column column = findBindColumns(Collections.singletonList(columnName)).get(0);
+		try (PreparedStatement preparedStatement = connection.prepareStatement(insertQuery)) {
+			int batchSize = 0;
+			for (Object value : values) {
+				bindValue(preparedStatement, 1, column, value);
+				preparedStatement.addBatch();
+				if (++batchSize == BATCH_SIZE) {
+					preparedStatement.executeBatch();
+					batchSize = 0;
+				}
+			}
+			if (batchSize > 0) {
+				preparedStatement.executeBatch();
+			}
+		}
+	}
+
+	/* Действие над Строками одного диапазона */
+	@FunctionalInterface
+	private interface ChunkAction {
+
+		int execute(Connection connection, Condition chunkCondition) throws SQLException;
+
+	}
+
+	/*
+	Обход Строк диапазонами первичного ключа: граница очередного диапазона определяется отдельным запросом
+	(ключ Строки с номером chunkSize после последнего обработанного ключа), затем действие выполняется над диапазоном
+	<lastKey < key <= boundary> и фиксируется. Последний диапазон ограничивается только снизу
+	 */
+	private long executeInChunks(Condition condition, ChunkedExecution execution, ChunkAction action) throws SQLException, InterruptedException {
+		AssertChecker.notNull(execution, "Экземпляр <ChunkedExecution> не должен быть <NULL>");
+		AssertChecker.isTrue(execution.getChunkSize() > 0, "Количество строк в диапазоне должно быть больше 0");
+		List<String> keyColumnNames = getIdColumns().stream()
+		                                            .map(Column::getName)
+		                                            .collect(Collectors.toList());
+		if (keyColumnNames.isEmpty()) {
+			throw new IllegalStateException(String.format("Порционная обработка невозможна: у Таблицы <%s> отсутствует первичный ключ", getName()));
+		}
+		long processed = 0;
+		try (Connection connection = getDataSource().getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				while (true) {
+					Condition lowerBound = execution.getLastKey() != null ? keysetCondition(keyColumnNames, execution.getLastKey(), true) : null;
+					List<Object> boundary = findChunkBoundary(connection, keyColumnNames, combine(condition, lowerBound), execution.getChunkSize());
+					Condition chunkCondition = combine(combine(condition, lowerBound), boundary != null ? keysetCondition(keyColumnNames, boundary, false) : null);
+					int affected;
+					try {
+						affected = action.execute(connection, chunkCondition);
+						connection.commit();
+					} catch (SQLException | RuntimeException e) {
+						connection.rollback();
+						throw e;
+					}
+					processed += affected;
+					if (boundary == null) {
+						break;
+					}
+					execution.setLastKey(boundary);
+					if (execution.getCheckpointListener() != null) {
+						execution.getCheckpointListener().accept(boundary);
+					}
+					if (execution.getProgressListener() != null) {
+						execution.getProgressListener().onProgress(processed, -1);
+					}
+					if (execution.getPauseMillis() > 0) {
+						Thread.sleep(execution.getPauseMillis());
+					}
+				}
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		}
+		if (execution.getProgressListener() != null) {
+			execution.getProgressListener().onProgress(processed, processed);
+		}
+		return processed;
+	}
+
+	/* Получение ключа, замыкающего очередной диапазон (или NULL, если оставшихся Строк меньше chunkSize) */
+	private List<Object> findChunkBoundary(Connection connection, List<String> keyColumnNames, Condition condition, int chunkSize) throws SQLException {
+		Pair<String, List<Object>> query = getQueryBuilder().queryForSelectChunkBoundary(getName(), keyColumnNames, condition, chunkSize);
+		if (query == null) {
+			return null;
+		}
+		logger.trace("SQL-query: " + query.getFirst());
+		try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst())) {
+			bindParameters(preparedStatement, query.getSecond());
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
+				if (resultSet.next()) {
+					List<Column> keyColumns = findBindColumns(keyColumnNames);
+					List<Object> key = new ArrayList<>(keyColumnNames.size());
+					for (int i = 0; i < keyColumnNames.size(); i++) {
+						key.add(keyColumns.get(i) != null ? readValue(resultSet, i + 1, keyColumns.get(i)) : resultSet.getObject(i + 1));
+					}
+					return key;
+				}
+			}
+		}
+		return null;
+	}
+
+	/*
+	Условие сравнения составного ключа в лексикографическом порядке:
+	после ключа (after = true) - <k1 > v1 OR (k1 = v1 AND k2 > v2) ...>, иначе - не после ключа: <k1 < v1 OR (k1 = v1 AND k2 < v2) ... OR (k1 = v1 AND k2 = v2)>
+	 */
+	private static Condition keysetCondition(List<String> keyColumnNames, List<Object> key, boolean after) {
+		if (keyColumnNames.size() == 1) {
+			return after ? Condition.greaterThan(keyColumnNames.get(0), key.get(0)) : Condition.lessThanOrEqual(keyColumnNames.get(0), key.get(0));
+		}
+		List<Condition> alternatives = new ArrayList<>();
+		for (int i = 0; i < keyColumnNames.size(); i++) {
+			List<Condition> parts = new ArrayList<>();
+			for (int j = 0; j < i; j++) {
+				parts.add(Condition.equal(keyColumnNames.get(j), key.get(j)));
+			}
+			parts.add(after ? Condition.greaterThan(keyColumnNames.get(i), key.get(i)) : Condition.lessThan(keyColumnNames.get(i), key.get(i)));
+			alternatives.add(parts.size() == 1 ? parts.get(0) : Condition.and(parts.toArray(new Condition[0])));
+		}
+		if (!after) {
+			List<Condition> parts = new ArrayList<>();
+			for (int j = 0; j < keyColumnNames.size(); j++) {
+				parts.add(Condition.equal(keyColumnNames.get(j), key.get(j)));
+			}
+			alternatives.add(parts.size() == 1 ? parts.get(0) : Condition.and(parts.toArray(new Condition[0])));
+		}
+		return alternatives.size() == 1 ? alternatives.get(0) : Condition.or(alternatives.toArray(new Condition[0]));
+	}
+
+	private static Condition combine(Condition first, Condition second) {
+		if (first == null) {
+			return second;
+		}
+		if (second == null) {
+			return first;
+		}
+		return Condition.and(first, second);
+	}
+
 }
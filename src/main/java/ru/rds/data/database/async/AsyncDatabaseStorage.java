@@ -0,0 +1,189 @@
+package ru.rds.data.database.async;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import ru.rds.data.database.*;
+import ru.rds.data.database.common.ProgressListener;
+
+/**
+ * Асинхронный фасад для {@link DatabaseStorage}: операции выполняются в исполнителе и возвращают {@link CompletableFuture}.
+ * <p>
+ * Асинхронные Таблицы ({@link #getSpace(String)}, {@link #table(Table)}) используют тот же исполнитель и то же ограничение
+ * количества одновременных операций, что и хранилище. Методы хранилища, для которых нет одноименных методов фасада,
+ * вызываются через {@link #supply(Function)} и {@link #run(Consumer)}
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class AsyncDatabaseStorage {
+
+	// Хранилище, операции которого выполняются асинхронно
+	private final DatabaseStorage storage;
+	// Выполнение операций с ограничением количества одновременных операций
+	private final AsyncExecution  execution;
+
+	/**
+	 * Создание фасада с исполнителем по-умолчанию ({@link AsyncExecutors#defaultExecutor()})
+	 * и ограничением {@link AsyncExecutors#DEFAULT_MAX_CONCURRENCY}
+	 *
+	 * @param storage хранилище
+	 */
+	public AsyncDatabaseStorage(DatabaseStorage storage) {
+		this(storage, AsyncExecutors.defaultExecutor(), AsyncExecutors.DEFAULT_MAX_CONCURRENCY);
+	}
+
+	/**
+	 * Создание фасада с исполнителем по-умолчанию ({@link AsyncExecutors#defaultExecutor()})
+	 *
+	 * @param storage        хранилище
+	 * @param maxConcurrency максимальное количество одновременно выполняемых операций (как правило, равно размеру пула соединений)
+	 */
+	public AsyncDatabaseStorage(DatabaseStorage storage, int maxConcurrency) {
+		this(storage, AsyncExecutors.defaultExecutor(), maxConcurrency);
+	}
+
+	/**
+	 * @param storage        хранилище
+	 * @param executor       исполнитель операций
+	 * @param maxConcurrency максимальное количество одновременно выполняемых операций (как правило, равно размеру пула соединений)
+	 */
+	public AsyncDatabaseStorage(DatabaseStorage storage, Executor executor, int maxConcurrency) {
+		if (storage == null) {
+			throw new IllegalArgumentException("<DatabaseStorage> не должен быть равен <NULL>");
+		}
+		this.storage = storage;
+		this.execution = new AsyncExecution(executor, maxConcurrency);
+	}
+
+	/**
+	 * Получение хранилища, операции которого выполняются асинхронно
+	 *
+	 * @return
+	 */
+	public DatabaseStorage getStorage() {
+		return storage;
+	}
+
+	/**
+	 * Асинхронное выполнение произвольной операции над хранилищем
+	 *
+	 * @param operation операция
+	 * @return результат операции
+	 */
+	public <T> CompletableFuture<T> supply(Function<DatabaseStorage, T> operation) {
+		return execution.submit(() -> operation.apply(storage));
+	}
+
+	/**
+	 * Асинхронное выполнение произвольной операции над хранилищем без результата
+	 *
+	 * @param operation операция
+	 * @return
+	 */
+	public CompletableFuture<Void> run(Consumer<DatabaseStorage> operation) {
+		return execution.submit(() -> {
+			operation.accept(storage);
+			return null;
+		});
+	}
+
+	/**
+	 * Получение асинхронного фасада для Таблицы с исполнителем и ограничением данного хранилища
+	 *
+	 * @param table Таблица
+	 * @return
+	 */
+	public AsyncTable table(Table table) {
+		return new AsyncTable(table, execution);
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#getSpaces()}
+	 */
+	public CompletableFuture<List<Table>> getSpaces() {
+		return supply(DatabaseStorage::getSpaces);
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#getSpace(String)}. Таблица предоставляется в виде асинхронного фасада
+	 */
+	public CompletableFuture<Optional<AsyncTable>> getSpace(String name) {
+		return supply(s -> s.getSpace(name).map(this::table));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#getSpaceProperties(String)}
+	 */
+	public CompletableFuture<List<Column>> getSpaceProperties(String name) {
+		return supply(s -> s.getSpaceProperties(name));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#createSpace(String, String, List)}
+	 */
+	public CompletableFuture<Void> createSpace(String tableName, String comments, List<Column> columns) {
+		return run(s -> s.createSpace(tableName, comments, columns));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#createSpace(Table)}
+	 */
+	public CompletableFuture<Void> createSpace(Table table) {
+		return run(s -> s.createSpace(table));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#createSpace(Table, int, ProgressListener)}
+	 */
+	public CompletableFuture<Void> createSpace(Table table, int parallelism, ProgressListener progressListener) {
+		return run(s -> s.createSpace(table, parallelism, progressListener));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#createIndex(String, Index)}
+	 */
+	public CompletableFuture<Void> createIndex(String tableName, Index index) {
+		return run(s -> s.createIndex(tableName, index));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#createIndexes(String, List, int, ProgressListener)}
+	 */
+	public CompletableFuture<Void> createIndexes(String tableName, List<Index> indexes, int parallelism, ProgressListener progressListener) {
+		return run(s -> s.createIndexes(tableName, indexes, parallelism, progressListener));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#dropIndex(String, Index)}
+	 */
+	public CompletableFuture<Void> dropIndex(String tableName, Index index) {
+		return run(s -> s.dropIndex(tableName, index));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#planMigration(Table)}
+	 */
+	public CompletableFuture<MigrationPlan> planMigration(Table table) {
+		return supply(s -> s.planMigration(table));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#migrate(MigrationPlan, int, long, int, ProgressListener)}
+	 */
+	public CompletableFuture<Void> migrate(MigrationPlan plan, int chunkSize, long pauseMillis, int parallelism, ProgressListener progressListener) {
+		return run(s -> s.migrate(plan, chunkSize, pauseMillis, parallelism, progressListener));
+	}
+
+	/**
+	 * См. {@link DatabaseStorage#deleteSpace(String)}
+	 */
+	public CompletableFuture<Void> deleteSpace(String tableName) {
+		return run(s -> s.deleteSpace(tableName));
+	}
+
+}
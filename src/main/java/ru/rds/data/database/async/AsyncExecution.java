@@ -0,0 +1,64 @@
+package ru.rds.data.database.async;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Выполнение операций в исполнителе с ограничением количества одновременных операций.
+ * <p>
+ * Ограничение должно соответствовать размеру пула соединений: операции сверх ограничения ожидают освобождения разрешения,
+ * а не соединения в пуле
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+class AsyncExecution {
+
+	// Исполнитель операций
+	private final Executor  executor;
+	// Разрешения на одновременное выполнение операций
+	private final Semaphore permits;
+	// Максимальное количество одновременных операций
+	private final int       maxConcurrency;
+
+	AsyncExecution(Executor executor, int maxConcurrency) {
+		if (executor == null) {
+			throw new IllegalArgumentException("<Executor> не должен быть равен <NULL>");
+		}
+		if (maxConcurrency <= 0) {
+			throw new IllegalArgumentException("Максимальное количество одновременных операций должно быть больше 0");
+		}
+		this.executor = executor;
+		this.maxConcurrency = maxConcurrency;
+		this.permits = new Semaphore(maxConcurrency, true);
+	}
+
+	Executor getExecutor() {
+		return executor;
+	}
+
+	int getMaxConcurrency() {
+		return maxConcurrency;
+	}
+
+	<T> CompletableFuture<T> submit(Supplier<T> operation) {
+		return CompletableFuture.supplyAsync(() -> {
+			try {
+				permits.acquire();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new CompletionException(e);
+			}
+			try {
+				return operation.get();
+			} finally {
+				permits.release();
+			}
+		}, executor);
+	}
+
+}
@@ -0,0 +1,94 @@
+package ru.rds.data.database.async;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Исполнители для асинхронных операций ({@link AsyncTable}, {@link AsyncDatabaseStorage}).
+ * <p>
+ * Для Java 8 - 20 используется пул потоков-демонов по количеству процессоров. Начиная с Java 21 используются виртуальные потоки
+ * (реализация для Java 21 находится в <code>META-INF/versions/21</code> multi-release JAR)
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public final class AsyncExecutors {
+
+	// Ограничение количества одновременных операций по-умолчанию (размер пула соединений HikariCP по-умолчанию)
+	public static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+	private static final String THREAD_NAME_PREFIX = "database-storage-async-";
+
+	private static final String DEFAULT_THREAD_NAME_PREFIX = "database-storage-async-default-";
+
+	private AsyncExecutors() {
+	}
+
+	/**
+	 * Получение общего исполнителя по-умолчанию
+	 *
+	 * @return
+	 */
+	public static ExecutorService defaultExecutor() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * Создание нового исполнителя: пул потоков-демонов по количеству процессоров
+	 *
+	 * @return
+	 */
+	public static ExecutorService newExecutor() {
+		return newExecutor(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**
+	 * Создание нового исполнителя: пул из заданного количества потоков-демонов
+	 *
+	 * @param threads количество потоков
+	 * @return
+	 */
+	public static ExecutorService newExecutor(int threads) {
+		return newFixedExecutor(THREAD_NAME_PREFIX, threads);
+	}
+
+	/**
+	 * Выполняется ли текущий поток в общем исполнителе по-умолчанию ({@link #defaultExecutor()}).
+	 * Задача такого потока, ожидающая завершения других задач того же исполнителя, может заблокировать пул
+	 *
+	 * @return
+	 */
+	public static boolean isDefaultExecutorThread() {
+		return Thread.currentThread().getName().startsWith(DEFAULT_THREAD_NAME_PREFIX);
+	}
+
+	private static ExecutorService newFixedExecutor(String threadNamePrefix, int threads) {
+		AtomicInteger counter = new AtomicInteger();
+		ThreadFactory threadFactory = runnable -> {
+			Thread thread = new Thread(runnable, threadNamePrefix + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+		return Executors.newFixedThreadPool(Math.max(1, threads), threadFactory);
+	}
+
+	/**
+	 * Используются ли виртуальные потоки
+	 *
+	 * @return
+	 */
+	public static boolean isVirtualThreads() {
+		return false;
+	}
+
+	// Общий исполнитель создается при первом обращении
+	private static final class DefaultExecutorHolder {
+
+		private static final ExecutorService EXECUTOR = newFixedExecutor(DEFAULT_THREAD_NAME_PREFIX, Runtime.getRuntime().availableProcessors());
+
+	}
+
+}
@@ -0,0 +1,349 @@
+package ru.rds.data.database.async;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import ru.rds.data.database.*;
+import ru.rds.data.database.common.RowCursorHandler;
+import ru.rds.data.database.common.StreamHandler;
+import ru.rds.data.database.conditions.Condition;
+import ru.rds.data.storage.ElementsSelectionCondition;
+import ru.rds.data.storage.ElementsSort;
+import ru.rds.data.storage.Sectionable;
+import ru.rds.data.storage.SelectionType;
+
+/**
+ * Асинхронный фасад для {@link Table}: операции выполняются в исполнителе и возвращают {@link CompletableFuture}.
+ * <p>
+ * Количество одновременно выполняемых операций ограничено (ограничение должно соответствовать размеру пула соединений).
+ * Ошибки операций (например, {@link ru.rds.data.database.exceptions.CreateRowException}) завершают {@link CompletableFuture} исключением.
+ * Для операций чтения и изменения Строк есть одноименные методы; остальные методы Таблицы (например, {@link Table#getRows(List, List, SelectionType, int, int)}
+ * или {@link Table#publish(Condition)}, который уже асинхронен) вызываются через {@link #supply(Function)} и {@link #run(Consumer)}
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class AsyncTable {
+
+	// Таблица, операции которой выполняются асинхронно
+	private final Table          table;
+	// Выполнение операций с ограничением количества одновременных операций
+	private final AsyncExecution execution;
+
+	/**
+	 * Создание фасада с исполнителем по-умолчанию ({@link AsyncExecutors#defaultExecutor()})
+	 * и ограничением {@link AsyncExecutors#DEFAULT_MAX_CONCURRENCY}
+	 *
+	 * @param table Таблица
+	 */
+	public AsyncTable(Table table) {
+		this(table, AsyncExecutors.defaultExecutor(), AsyncExecutors.DEFAULT_MAX_CONCURRENCY);
+	}
+
+	/**
+	 * Создание фасада с исполнителем по-умолчанию ({@link AsyncExecutors#defaultExecutor()})
+	 *
+	 * @param table          Таблица
+	 * @param maxConcurrency максимальное количество одновременно выполняемых операций (как правило, равно размеру пула соединений)
+	 */
+	public AsyncTable(Table table, int maxConcurrency) {
+		this(table, AsyncExecutors.defaultExecutor(), maxConcurrency);
+	}
+
+	/**
+	 * @param table          Таблица
+	 * @param executor       исполнитель операций
+	 * @param maxConcurrency максимальное количество одновременно выполняемых операций (как правило, равно размеру пула соединений)
+	 */
+	public AsyncTable(Table table, Executor executor, int maxConcurrency) {
+		this(table, new AsyncExecution(executor, maxConcurrency));
+	}
+
+	AsyncTable(Table table, AsyncExecution execution) {
+		if (table == null) {
+			throw new IllegalArgumentException("<Table> не должен быть равен <NULL>");
+		}
+		this.table = table;
+		this.execution = execution;
+	}
+
+	/**
+	 * Получение Таблицы, операции которой выполняются асинхронно
+	 *
+	 * @return
+	 */
+	public Table getTable() {
+		return table;
+	}
+
+	/**
+	 * Получение исполнителя операций
+	 *
+	 * @return
+	 */
+	public Executor getExecutor() {
+		return execution.getExecutor();
+	}
+
+	/**
+	 * Получение максимального количества одновременно выполняемых операций
+	 *
+	 * @return
+	 */
+	public int getMaxConcurrency() {
+		return execution.getMaxConcurrency();
+	}
+
+	/**
+	 * Асинхронное выполнение произвольной операции над Таблицей
+	 *
+	 * @param operation операция
+	 * @return результат операции
+	 */
+	public <T> CompletableFuture<T> supply(Function<Table, T> operation) {
+		return execution.submit(() -> operation.apply(table));
+	}
+
+	/**
+	 * Асинхронное выполнение произвольной операции над Таблицей без результата
+	 *
+	 * @param operation операция
+	 * @return
+	 */
+	public CompletableFuture<Void> run(Consumer<Table> operation) {
+		return execution.submit(() -> {
+			operation.accept(table);
+			return null;
+		});
+	}
+
+	/**
+	 * См. {@link Table#getElements(Condition)}
+	 */
+	public CompletableFuture<List<Row>> getElements(Condition condition) {
+		return supply(t -> t.getElements(condition));
+	}
+
+	/**
+	 * См. {@link Table#getElements(List, List, Condition, int, int)}
+	 */
+	public CompletableFuture<List<Row>> getElements(List<String> columnNames, List<ElementsSort> elementsSorts, Condition condition, int offset, int limit) {
+		return supply(t -> t.getElements(columnNames, elementsSorts, condition, offset, limit));
+	}
+
+	/**
+	 * См. {@link Table#getElements(List, List, SelectionType, int, int)}
+	 */
+	public CompletableFuture<List<Row>> getElements(List<ElementsSort> elementsSorts, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType, int offset, int limit) {
+		return supply(t -> t.getElements(elementsSorts, selectionConditions, selectionType, offset, limit));
+	}
+
+	/**
+	 * См. {@link Table#getElements(List, List, List, SelectionType, int, int)}
+	 */
+	public CompletableFuture<List<Row>> getElements(List<String> columnNames, List<ElementsSort> elementsSorts, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType, int offset, int limit) {
+		return supply(t -> t.getElements(columnNames, elementsSorts, selectionConditions, selectionType, offset, limit));
+	}
+
+	/**
+	 * См. {@link Table#scan(Condition, RowCursorHandler)}
+	 */
+	public CompletableFuture<Long> scan(Condition condition, RowCursorHandler handler) {
+		return supply(t -> t.scan(condition, handler));
+	}
+
+	/**
+	 * См. {@link Table#scan(List, Condition, int, RowCursorHandler)}
+	 */
+	public CompletableFuture<Long> scan(List<String> columnNames, Condition condition, int fetchSize, RowCursorHandler handler) {
+		return supply(t -> t.scan(columnNames, condition, fetchSize, handler));
+	}
+
+	/**
+	 * См. {@link Table#parallelScan(Condition, int, RowCursorHandler)}.
+	 * Части обходятся в отдельном исполнителе, который создается на время вызова, поэтому метод можно использовать
+	 * и с исполнителем по-умолчанию
+	 */
+	public CompletableFuture<Long> parallelScan(Condition condition, int partitions, RowCursorHandler handler) {
+		return supply(t -> t.parallelScan(condition, partitions, handler));
+	}
+
+	/**
+	 * См. {@link Table#parallelScan(List, Condition, int, int, Executor, RowCursorHandler)}.
+	 * Исполнитель частей не должен совпадать с исполнителем фасада: если фасад использует общий исполнитель {@link AsyncExecutors#defaultExecutor()},
+	 * то передача его же в качестве исполнителя частей завершит {@link CompletableFuture} исключением {@link IllegalArgumentException}
+	 */
+	public CompletableFuture<Long> parallelScan(List<String> columnNames, Condition condition, int partitions, int fetchSize, Executor executor, RowCursorHandler handler) {
+		return supply(t -> t.parallelScan(columnNames, condition, partitions, fetchSize, executor, handler));
+	}
+
+	/**
+	 * См. {@link Table#getSection(Sectionable)}
+	 */
+	public CompletableFuture<TableSection> getSection(Sectionable sectionable) {
+		return supply(t -> t.getSection(sectionable));
+	}
+
+	/**
+	 * См. {@link Table#getSection(Sectionable, List)}
+	 */
+	public CompletableFuture<TableSection> getSection(Sectionable sectionable, List<String> columnNames) {
+		return supply(t -> t.getSection(sectionable, columnNames));
+	}
+
+	/**
+	 * См. {@link Table#getElementsCount(Condition)}
+	 */
+	public CompletableFuture<Long> getElementsCount(Condition condition) {
+		return supply(t -> t.getElementsCount(condition));
+	}
+
+	/**
+	 * См. {@link Table#getElementsCount(List, SelectionType)}
+	 */
+	public CompletableFuture<Long> getElementsCount(List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
+		return supply(t -> t.getElementsCount(selectionConditions, selectionType));
+	}
+
+	/**
+	 * См. {@link Table#exists(Condition)}
+	 */
+	public CompletableFuture<Boolean> exists(Condition condition) {
+		return supply(t -> t.exists(condition));
+	}
+
+	/**
+	 * См. {@link Table#exists(List)}
+	 */
+	public CompletableFuture<Boolean> exists(List<ElementsSelectionCondition> selectionConditions) {
+		return supply(t -> t.exists(selectionConditions));
+	}
+
+	/**
+	 * См. {@link Table#exists(List, SelectionType)}
+	 */
+	public CompletableFuture<Boolean> exists(List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
+		return supply(t -> t.exists(selectionConditions, selectionType));
+	}
+
+	/**
+	 * См. {@link Table#aggregate(List, List, Condition)}
+	 */
+	public CompletableFuture<List<Row>> aggregate(List<String> groupByColumnNames, List<Aggregate> aggregates, Condition condition) {
+		return supply(t -> t.aggregate(groupByColumnNames, aggregates, condition));
+	}
+
+	/**
+	 * См. {@link Table#aggregate(List, List, List, SelectionType)}
+	 */
+	public CompletableFuture<List<Row>> aggregate(List<String> groupByColumnNames, List<Aggregate> aggregates, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
+		return supply(t -> t.aggregate(groupByColumnNames, aggregates, selectionConditions, selectionType));
+	}
+
+	/**
+	 * См. {@link Table#readBinaryStream(Row, String, StreamHandler)}.
+	 * Поток доступен только во время работы обработчика, который выполняется в исполнителе фасада
+	 */
+	public <T> CompletableFuture<T> readBinaryStream(Row row, String columnName, StreamHandler<InputStream, T> handler) {
+		return supply(t -> t.readBinaryStream(row, columnName, handler));
+	}
+
+	/**
+	 * См. {@link Table#readCharacterStream(Row, String, StreamHandler)}.
+	 * Поток доступен только во время работы обработчика, который выполняется в исполнителе фасада
+	 */
+	public <T> CompletableFuture<T> readCharacterStream(Row row, String columnName, StreamHandler<Reader, T> handler) {
+		return supply(t -> t.readCharacterStream(row, columnName, handler));
+	}
+
+	/**
+	 * См. {@link Table#createElement(Row)}
+	 */
+	public CompletableFuture<Row> createElement(Row row) {
+		return supply(t -> t.createElement(row));
+	}
+
+	/**
+	 * См. {@link Table#createElements(Collection)}
+	 */
+	public CompletableFuture<List<Row>> createElements(Collection<Row> rows) {
+		return supply(t -> t.createElements(rows));
+	}
+
+	/**
+	 * См. {@link Table#updateElement(Row)}
+	 */
+	public CompletableFuture<Boolean> updateElement(Row row) {
+		return supply(t -> t.updateElement(row));
+	}
+
+	/**
+	 * См. {@link Table#updateElements(Row, Condition)}
+	 */
+	public CompletableFuture<Row> updateElements(Row row, Condition condition) {
+		return supply(t -> t.updateElements(row, condition));
+	}
+
+	/**
+	 * См. {@link Table#updateElements(Row, List, SelectionType)}
+	 */
+	public CompletableFuture<Row> updateElements(Row row, List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
+		return supply(t -> t.updateElements(row, selectionConditions, selectionType));
+	}
+
+	/**
+	 * См. {@link Table#updateElements(Row, Condition, ChunkedExecution)}
+	 */
+	public CompletableFuture<Long> updateElements(Row row, Condition condition, ChunkedExecution chunkedExecution) {
+		return supply(t -> t.updateElements(row, condition, chunkedExecution));
+	}
+
+	/**
+	 * См. {@link Table#updateElementsById(Collection)}
+	 */
+	public CompletableFuture<Integer> updateElementsById(Collection<Row> rows) {
+		return supply(t -> t.updateElementsById(rows));
+	}
+
+	/**
+	 * См. {@link Table#updateElementsById(Collection, String)}
+	 */
+	public CompletableFuture<Integer> updateElementsById(Collection<Row> rows, String versionColumnName) {
+		return supply(t -> t.updateElementsById(rows, versionColumnName));
+	}
+
+	/**
+	 * См. {@link Table#mergeElements(Iterable, List, boolean)}
+	 */
+	public CompletableFuture<Long> mergeElements(Iterable<Row> rows, List<String> columnNames, boolean deleteMissing) {
+		return supply(t -> t.mergeElements(rows, columnNames, deleteMissing));
+	}
+
+	/**
+	 * См. {@link Table#deleteElements(Condition)}
+	 */
+	public CompletableFuture<Void> deleteElements(Condition condition) {
+		return run(t -> t.deleteElements(condition));
+	}
+
+	/**
+	 * См. {@link Table#deleteElements(List, SelectionType)}
+	 */
+	public CompletableFuture<Void> deleteElements(List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
+		return run(t -> t.deleteElements(selectionConditions, selectionType));
+	}
+
+	/**
+	 * См. {@link Table#deleteElements(Condition, ChunkedExecution)}
+	 */
+	public CompletableFuture<Long> deleteElements(Condition condition, ChunkedExecution chunkedExecution) {
+		return supply(t -> t.deleteElements(condition, chunkedExecution));
+	}
+
+}
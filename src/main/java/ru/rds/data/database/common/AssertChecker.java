@@ -21,4 +21,16 @@ public abstract class AssertChecker {
 		}
 	}
 
+	/**
+	 * Проверка условия
+	 *
+	 * @param condition
+	 * @param message
+	 */
+	public static void isTrue(boolean condition, String message) {
+		if (!condition) {
+			throw new IllegalArgumentException(message);
+		}
+	}
+
 }
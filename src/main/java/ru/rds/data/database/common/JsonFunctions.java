@@ -0,0 +1,157 @@
+package ru.rds.data.database.common;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Вычисление JSON-условий на стороне Java - для СУБД без встроенной поддержки JSON-путей (например, H2, где методы
+ * регистрируются как функции через <code>CREATE ALIAS</code>). Семантика совпадает с JSONB в PostgreSQL:
+ * <ul>
+ * <li>{@link #contains(String, String)} - оператор <code>@&gt;</code>: объект содержит фрагмент, если содержит каждый его ключ
+ * с содержащимся значением, массив - если каждый элемент фрагмента содержится хотя бы в одном элементе массива;</li>
+ * <li>{@link #pathEqual(String, String, String)} - равенство значения по пути (порядок ключей объектов не учитывается);</li>
+ * <li>{@link #pathExists(String, String)} - наличие пути (<code>@?</code> со строгим JSON-путем).</li>
+ * </ul>
+ * Путь передается JSON-массивом ключей, например <code>["a","b"]</code>. Если JSON-значение равно NULL - результат равен NULL
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public final class JsonFunctions {
+
+	private JsonFunctions() {
+	}
+
+	/**
+	 * JSON-значение содержит JSON-фрагмент
+	 *
+	 * @param json     JSON-значение
+	 * @param fragment JSON-фрагмент
+	 * @return
+	 * @throws IllegalArgumentException если значение или фрагмент не являются корректным JSON
+	 */
+	public static Boolean contains(String json, String fragment) {
+		if (json == null || fragment == null) {
+			return null;
+		}
+		Object value = JsonReader.read(json);
+		Object part = JsonReader.read(fragment);
+		// Как и в PostgreSQL, массив верхнего уровня может содержать скалярное значение
+		if (value instanceof List && !(part instanceof Map) && !(part instanceof List)) {
+			return ((List<?>) value).stream().anyMatch(element -> isEqual(element, part));
+		}
+		return isContained(value, part);
+	}
+
+	/**
+	 * Значение по пути внутри JSON-значения равно заданному
+	 *
+	 * @param json  JSON-значение
+	 * @param path  путь (JSON-массив ключей)
+	 * @param value ожидаемое значение (JSON)
+	 * @return
+	 * @throws IllegalArgumentException если значение, путь или ожидаемое значение не являются корректным JSON
+	 */
+	public static Boolean pathEqual(String json, String path, String value) {
+		if (json == null || path == null || value == null) {
+			return null;
+		}
+		Object[] found = find(JsonReader.read(json), path);
+		return found != null && isEqual(found[0], JsonReader.read(value));
+	}
+
+	/**
+	 * Путь внутри JSON-значения существует (в том числе если значение по пути равно JSON null)
+	 *
+	 * @param json JSON-значение
+	 * @param path путь (JSON-массив ключей)
+	 * @return
+	 * @throws IllegalArgumentException если значение или путь не являются корректным JSON
+	 */
+	public static Boolean pathExists(String json, String path) {
+		if (json == null || path == null) {
+			return null;
+		}
+		return find(JsonReader.read(json), path) != null;
+	}
+
+	// Поиск значения по пути: массив из одного найденного значения (оно может быть равно NULL) или NULL, если пути нет
+	private static Object[] find(Object value, String path) {
+		Object keys = JsonReader.read(path);
+		if (!(keys instanceof List)) {
+			throw new IllegalArgumentException("JSON-путь должен быть массивом ключей");
+		}
+		Object current = value;
+		for (Object key : (List<?>) keys) {
+			if (!(current instanceof Map) || !((Map<?, ?>) current).containsKey(String.valueOf(key))) {
+				return null;
+			}
+			current = ((Map<?, ?>) current).get(String.valueOf(key));
+		}
+		return new Object[]{current};
+	}
+
+	private static boolean isContained(Object value, Object part) {
+		if (part instanceof Map) {
+			if (!(value instanceof Map)) {
+				return false;
+			}
+			Map<?, ?> map = (Map<?, ?>) value;
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) part).entrySet()) {
+				if (!map.containsKey(entry.getKey()) || !isContained(map.get(entry.getKey()), entry.getValue())) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (part instanceof List) {
+			if (!(value instanceof List)) {
+				return false;
+			}
+			List<?> list = (List<?>) value;
+			for (Object partElement : (List<?>) part) {
+				if (list.stream().noneMatch(element -> isContained(element, partElement))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		return isEqual(value, part);
+	}
+
+	private static boolean isEqual(Object value, Object other) {
+		if (value instanceof Map && other instanceof Map) {
+			Map<?, ?> map = (Map<?, ?>) value;
+			Map<?, ?> otherMap = (Map<?, ?>) other;
+			if (map.size() != otherMap.size()) {
+				return false;
+			}
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				if (!otherMap.containsKey(entry.getKey()) || !isEqual(entry.getValue(), otherMap.get(entry.getKey()))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (value instanceof List && other instanceof List) {
+			List<?> list = (List<?>) value;
+			List<?> otherList = (List<?>) other;
+			if (list.size() != otherList.size()) {
+				return false;
+			}
+			for (int i = 0; i < list.size(); i++) {
+				if (!isEqual(list.get(i), otherList.get(i))) {
+					return false;
+				}
+			}
+			return true;
+		}
+		if (value instanceof BigDecimal && other instanceof BigDecimal) {
+			return ((BigDecimal) value).compareTo((BigDecimal) other) == 0;
+		}
+		return value == null ? other == null : value.equals(other);
+	}
+
+}
@@ -0,0 +1,210 @@
+package ru.rds.data.database.common;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Простейший разбор JSON-текста в стандартные Java-объекты: объекты - в {@link Map}, массивы - в {@link List},
+ * числа - в {@link BigDecimal}, а также строки, логические значения и NULL. Используется для вычисления JSON-условий
+ * в СУБД без встроенной поддержки JSON (см. {@link JsonFunctions})
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public final class JsonReader {
+
+	private final String text;
+	private       int    position;
+
+	private JsonReader(String text) {
+		this.text = text;
+	}
+
+	/**
+	 * Разбор JSON-текста
+	 *
+	 * @param text JSON-текст
+	 * @return
+	 * @throws IllegalArgumentException если текст не является корректным JSON
+	 */
+	public static Object read(String text) {
+		AssertChecker.notNull(text, "JSON-текст не должен быть равен <NULL>");
+		JsonReader reader = new JsonReader(text);
+		Object value = reader.readValue();
+		reader.skipWhitespace();
+		if (reader.position != text.length()) {
+			throw reader.error("лишние символы после JSON-значения");
+		}
+		return value;
+	}
+
+	private Object readValue() {
+		skipWhitespace();
+		if (position >= text.length()) {
+			throw error("неожиданный конец текста");
+		}
+		char c = text.charAt(position);
+		switch (c) {
+			case '{':
+				return readObject();
+			case '[':
+				return readArray();
+			case '"':
+				return readString();
+			case 't':
+				readLiteral("true");
+				return Boolean.TRUE;
+			case 'f':
+				readLiteral("false");
+				return Boolean.FALSE;
+			case 'n':
+				readLiteral("null");
+				return null;
+			default:
+				if (c == '-' || (c >= '0' && c <= '9')) {
+					return readNumber();
+				}
+				throw error("неожиданный символ <" + c + ">");
+		}
+	}
+
+	private Map<String, Object> readObject() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		position++;
+		skipWhitespace();
+		if (consume('}')) {
+			return map;
+		}
+		do {
+			skipWhitespace();
+			if (position >= text.length() || text.charAt(position) != '"') {
+				throw error("ожидалось название ключа");
+			}
+			String key = readString();
+			skipWhitespace();
+			if (!consume(':')) {
+				throw error("ожидался символ <:>");
+			}
+			map.put(key, readValue());
+			skipWhitespace();
+		} while (consume(','));
+		if (!consume('}')) {
+			throw error("ожидался символ <}>");
+		}
+		return map;
+	}
+
+	private List<Object> readArray() {
+		List<Object> list = new ArrayList<>();
+		position++;
+		skipWhitespace();
+		if (consume(']')) {
+			return list;
+		}
+		do {
+			list.add(readValue());
+			skipWhitespace();
+		} while (consume(','));
+		if (!consume(']')) {
+			throw error("ожидался символ <]>");
+		}
+		return list;
+	}
+
+	private String readString() {
+		StringBuilder sb = new StringBuilder();
+		position++;
+		while (position < text.length()) {
+			char c = text.charAt(position++);
+			if (c == '"') {
+				return sb.toString();
+			}
+			if (c != '\\') {
+				sb.append(c);
+				continue;
+			}
+			if (position >= text.length()) {
+				break;
+			}
+			char escaped = text.charAt(position++);
+			switch (escaped) {
+				case '"':
+				case '\\':
+				case '/':
+					sb.append(escaped);
+					break;
+				case 'b':
+					sb.append('\b');
+					break;
+				case 'f':
+					sb.append('\f');
+					break;
+				case 'n':
+					sb.append('\n');
+					break;
+				case 'r':
+					sb.append('\r');
+					break;
+				case 't':
+					sb.append('\t');
+					break;
+				case 'u':
+					if (position + 4 > text.length()) {
+						throw error("неполная escape-последовательность");
+					}
+					try {
+						sb.append((char) Integer.parseInt(text.substring(position, position + 4), 16));
+					} catch (NumberFormatException e) {
+						throw error("некорректная escape-последовательность");
+					}
+					position += 4;
+					break;
+				default:
+					throw error("некорректная escape-последовательность");
+			}
+		}
+		throw error("незакрытая строка");
+	}
+
+	private BigDecimal readNumber() {
+		int start = position;
+		while (position < text.length() && "+-0123456789.eE".indexOf(text.charAt(position)) >= 0) {
+			position++;
+		}
+		try {
+			return new BigDecimal(text.substring(start, position));
+		} catch (NumberFormatException e) {
+			throw error("некорректное число");
+		}
+	}
+
+	private void readLiteral(String literal) {
+		if (!text.startsWith(literal, position)) {
+			throw error("неожиданный символ <" + text.charAt(position) + ">");
+		}
+		position += literal.length();
+	}
+
+	private boolean consume(char c) {
+		if (position < text.length() && text.charAt(position) == c) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	private void skipWhitespace() {
+		while (position < text.length() && Character.isWhitespace(text.charAt(position))) {
+			position++;
+		}
+	}
+
+	private IllegalArgumentException error(String message) {
+		return new IllegalArgumentException(String.format("Некорректный JSON (позиция %d): %s", position, message));
+	}
+
+}
@@ -0,0 +1,97 @@
+package ru.rds.data.database.common;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Простейшее формирование JSON-текста из стандартных Java-объектов ({@link Map}, {@link Collection}, массивы, строки, числа, логические значения и NULL).
+ * Используется для передачи JSON-значений в условиях отбора
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public abstract class JsonWriter {
+
+	/**
+	 * Преобразование объекта в JSON-текст
+	 *
+	 * @param value
+	 * @return
+	 */
+	public static String write(Object value) {
+		StringBuilder sb = new StringBuilder();
+		write(value, sb);
+		return sb.toString();
+	}
+
+	private static void write(Object value, StringBuilder sb) {
+		if (value == null) {
+			sb.append("null");
+		} else if (value instanceof Number || value instanceof Boolean) {
+			sb.append(value);
+		} else if (value instanceof Map) {
+			sb.append("{");
+			boolean first = true;
+			for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+				if (!first) {
+					sb.append(",");
+				}
+				first = false;
+				writeString(String.valueOf(entry.getKey()), sb);
+				sb.append(":");
+				write(entry.getValue(), sb);
+			}
+			sb.append("}");
+		} else if (value instanceof Collection) {
+			writeArray(((Collection<?>) value).toArray(), sb);
+		} else if (value instanceof Object[]) {
+			writeArray((Object[]) value, sb);
+		} else {
+			writeString(String.valueOf(value), sb);
+		}
+	}
+
+	private static void writeArray(Object[] values, StringBuilder sb) {
+		sb.append("[");
+		for (int i = 0; i < values.length; i++) {
+			if (i != 0) {
+				sb.append(",");
+			}
+			write(values[i], sb);
+		}
+		sb.append("]");
+	}
+
+	private static void writeString(String value, StringBuilder sb) {
+		sb.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			switch (c) {
+				case '"':
+					sb.append("\\\"");
+					break;
+				case '\\':
+					sb.append("\\\\");
+					break;
+				case '\n':
+					sb.append("\\n");
+					break;
+				case '\r':
+					sb.append("\\r");
+					break;
+				case '\t':
+					sb.append("\\t");
+					break;
+				default:
+					if (c < 0x20) {
+						sb.append(String.format("\\u%04x", (int) c));
+					} else {
+						sb.append(c);
+					}
+			}
+		}
+		sb.append('"');
+	}
+
+}
@@ -0,0 +1,20 @@
+package ru.rds.data.database.common;
+
+/**
+ * Получатель сведений о ходе выполнения длительной операции (создание индексов, пакетная обработка строк и т.п.).
+ * Может вызываться из разных потоков, поэтому реализация должна быть потокобезопасной
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface ProgressListener {
+
+	/**
+	 * @param done  количество выполненных шагов
+	 * @param total общее количество шагов (или -1, если оно заранее неизвестно)
+	 */
+	void onProgress(long done, long total);
+
+}
@@ -0,0 +1,19 @@
+package ru.rds.data.database.common;
+
+import ru.rds.data.database.RowCursor;
+
+/**
+ * Обработчик Строк при последовательном обходе Таблицы (см. {@link ru.rds.data.database.Table#scan(java.util.List, ru.rds.data.database.conditions.Condition, int, RowCursorHandler)}).
+ * <p>
+ * Курсор переиспользуется для всех Строк и доступен только во время вызова {@link #handle(RowCursor)}
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface RowCursorHandler {
+
+	void handle(RowCursor cursor) throws Exception;
+
+}
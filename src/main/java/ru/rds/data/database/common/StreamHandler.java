@@ -0,0 +1,17 @@
+package ru.rds.data.database.common;
+
+/**
+ * Обработчик потока данных. Поток доступен только во время вызова {@link #handle(Object)} и закрывается сразу после него
+ *
+ * @param <STREAM> тип потока ({@link java.io.InputStream} или {@link java.io.Reader})
+ * @param <RESULT> тип результата обработки
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface StreamHandler<STREAM, RESULT> {
+
+	RESULT handle(STREAM stream) throws Exception;
+
+}
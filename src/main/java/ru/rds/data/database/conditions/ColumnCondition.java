@@ -0,0 +1,53 @@
+package ru.rds.data.database.conditions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Условие на значение одной Колонки
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class ColumnCondition extends Condition {
+
+	// Название Колонки
+	private String            columnName;
+	// Оператор сравнения
+	private ConditionOperator operator;
+	// Значения для сравнения (их количество зависит от оператора)
+	private List<Object>      values;
+
+	public ColumnCondition(String columnName, ConditionOperator operator, Object value) {
+		this(columnName, operator, Collections.singletonList(value));
+	}
+
+	public ColumnCondition(String columnName, ConditionOperator operator, List<Object> values) {
+		this.columnName = columnName;
+		this.operator = operator;
+		this.values = values;
+	}
+
+	public String getColumnName() {
+		return columnName;
+	}
+
+	public ConditionOperator getOperator() {
+		return operator;
+	}
+
+	public List<Object> getValues() {
+		return values;
+	}
+
+	/**
+	 * Получение первого значения для сравнения
+	 *
+	 * @return
+	 */
+	public Object getValue() {
+		return values.isEmpty() ? null : values.get(0);
+	}
+
+}
@@ -0,0 +1,31 @@
+package ru.rds.data.database.conditions;
+
+/**
+ * Значение параметра запроса, которое сравнивается со значением Колонки (формируется из {@link ColumnCondition} и значений первичного ключа).
+ * Передается в БД с помощью кодека типа Колонки (см. {@link ru.rds.data.database.ColumnType#getCodec()}), как и значения при вставке и обновлении Строк
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class ColumnParameter {
+
+	// Название Колонки
+	private final String columnName;
+	// Значение параметра
+	private final Object value;
+
+	public ColumnParameter(String columnName, Object value) {
+		this.columnName = columnName;
+		this.value = value;
+	}
+
+	public String getColumnName() {
+		return columnName;
+	}
+
+	public Object getValue() {
+		return value;
+	}
+
+}
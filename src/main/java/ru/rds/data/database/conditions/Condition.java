@@ -0,0 +1,217 @@
+package ru.rds.data.database.conditions;
+
+import java.util.*;
+import ru.rds.data.database.Index;
+import ru.rds.data.storage.ElementsSelectionCondition;
+import ru.rds.data.storage.SelectionConditionExpression;
+import ru.rds.data.storage.SelectionType;
+
+/**
+ * Условие отбора Строк. Условия могут объединяться в дерево с помощью групп ({@link #and(Condition...)}, {@link #or(Condition...)}) и отрицания ({@link #not(Condition)}).
+ * <p>
+ * Например, условие <code>a = 1 AND (b = 2 OR c IS NULL)</code> описывается так:
+ * <p><code>
+ * Condition.and(Condition.equal("a", 1), Condition.or(Condition.equal("b", 2), Condition.isNull("c")))
+ * </code>
+ * <p>
+ * Все значения условий передаются в БД в виде параметров запроса
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public abstract class Condition {
+
+	public static ConditionGroup and(Condition... conditions) {
+		return new ConditionGroup(SelectionType.AND, Arrays.asList(conditions));
+	}
+
+	public static ConditionGroup or(Condition... conditions) {
+		return new ConditionGroup(SelectionType.OR, Arrays.asList(conditions));
+	}
+
+	public static NotCondition not(Condition condition) {
+		return new NotCondition(condition);
+	}
+
+	public static ColumnCondition equal(String columnName, Object value) {
+		return new ColumnCondition(columnName, ConditionOperator.EQUAL, value);
+	}
+
+	public static ColumnCondition notEqual(String columnName, Object value) {
+		return new ColumnCondition(columnName, ConditionOperator.NOT_EQUAL, value);
+	}
+
+	public static ColumnCondition greaterThan(String columnName, Object value) {
+		return new ColumnCondition(columnName, ConditionOperator.GREATER_THAN, value);
+	}
+
+	public static ColumnCondition greaterThanOrEqual(String columnName, Object value) {
+		return new ColumnCondition(columnName, ConditionOperator.GREATER_THAN_OR_EQUAL, value);
+	}
+
+	public static ColumnCondition lessThan(String columnName, Object value) {
+		return new ColumnCondition(columnName, ConditionOperator.LESS_THAN, value);
+	}
+
+	public static ColumnCondition lessThanOrEqual(String columnName, Object value) {
+		return new ColumnCondition(columnName, ConditionOperator.LESS_THAN_OR_EQUAL, value);
+	}
+
+	public static ColumnCondition in(String columnName, Collection<?> values) {
+		return new ColumnCondition(columnName, ConditionOperator.IN, new ArrayList<>(values));
+	}
+
+	public static ColumnCondition notIn(String columnName, Collection<?> values) {
+		return new ColumnCondition(columnName, ConditionOperator.NOT_IN, new ArrayList<>(values));
+	}
+
+	/**
+	 * Значение Колонки входит в перечень значений. В отличие от {@link #in(String, Collection)} перечень передается одним параметром-массивом
+	 * (<code>column = ANY(?)</code>), поэтому вид запроса не зависит от количества значений.
+	 * Для СУБД без поддержки массивов условие формируется как <code>column IN (?, ?, ...)</code>
+	 *
+	 * @param columnName название Колонки
+	 * @param values     перечень значений
+	 * @return
+	 */
+	public static ColumnCondition anyOf(String columnName, Collection<?> values) {
+		return new ColumnCondition(columnName, ConditionOperator.ANY, new ArrayList<>(values));
+	}
+
+	public static ColumnCondition isNull(String columnName) {
+		return new ColumnCondition(columnName, ConditionOperator.IS_NULL, Collections.emptyList());
+	}
+
+	public static ColumnCondition isNotNull(String columnName) {
+		return new ColumnCondition(columnName, ConditionOperator.IS_NOT_NULL, Collections.emptyList());
+	}
+
+	public static ColumnCondition between(String columnName, Object from, Object to) {
+		return new ColumnCondition(columnName, ConditionOperator.BETWEEN, Arrays.asList(from, to));
+	}
+
+	public static ColumnCondition contains(String columnName, String text) {
+		return new ColumnCondition(columnName, ConditionOperator.CONTAINS, text);
+	}
+
+	public static ColumnCondition notContains(String columnName, String text) {
+		return new ColumnCondition(columnName, ConditionOperator.NOT_CONTAINS, text);
+	}
+
+	public static ColumnCondition startsWith(String columnName, String prefix) {
+		return new ColumnCondition(columnName, ConditionOperator.STARTS_WITH, prefix);
+	}
+
+	/**
+	 * JSON-значение Колонки содержит JSON-фрагмент (аналог оператора <code>@&gt;</code> в PostgreSQL)
+	 *
+	 * @param columnName название JSON-Колонки
+	 * @param fragment   фрагмент в виде {@link Map} (значениями могут быть вложенные {@link Map}, {@link Collection}, строки, числа, логические значения)
+	 * @return
+	 */
+	public static JsonCondition jsonContains(String columnName, Map<String, ?> fragment) {
+		return new JsonCondition(columnName, ConditionOperator.JSON_CONTAINS, Collections.emptyList(), fragment);
+	}
+
+	/**
+	 * Значение по пути внутри JSON-значения Колонки равно заданному
+	 *
+	 * @param columnName название JSON-Колонки
+	 * @param path       путь (перечень ключей от корня)
+	 * @param value      ожидаемое значение
+	 * @return
+	 */
+	public static JsonCondition jsonPathEqual(String columnName, List<String> path, Object value) {
+		return new JsonCondition(columnName, ConditionOperator.JSON_PATH_EQUAL, path, value);
+	}
+
+	/**
+	 * Путь внутри JSON-значения Колонки существует
+	 *
+	 * @param columnName название JSON-Колонки
+	 * @param path       путь (перечень ключей от корня)
+	 * @return
+	 */
+	public static JsonCondition jsonPathExists(String columnName, List<String> path) {
+		return new JsonCondition(columnName, ConditionOperator.JSON_PATH_EXISTS, path, null);
+	}
+
+	/**
+	 * Полнотекстовый поиск по полнотекстовому Индексу
+	 *
+	 * @param index         полнотекстовый Индекс (см. {@link Index#isFullText()})
+	 * @param keyColumnName название Колонки первичного ключа Таблицы
+	 * @param text          искомый текст (слова, которые должны присутствовать в тексте)
+	 * @return
+	 * @throws IllegalArgumentException если текст пуст или состоит только из пробелов
+	 */
+	public static FullTextCondition fullText(Index index, String keyColumnName, String text) {
+		if (text == null || text.trim().isEmpty()) {
+			throw new IllegalArgumentException("Текст полнотекстового поиска не должен быть пустым");
+		}
+		return new FullTextCondition(index, keyColumnName, text);
+	}
+
+	/**
+	 * Преобразование плоского перечня условий {@link ElementsSelectionCondition} в условие
+	 *
+	 * @param selectionConditions перечень условий (если перечень пуст или равен NULL - будет возвращен NULL, т.е. отсутствие условия)
+	 * @param selectionType       способ комбинации условий (если равен NULL - будет использован {@link SelectionType#AND})
+	 * @return
+	 */
+	public static Condition of(List<ElementsSelectionCondition> selectionConditions, SelectionType selectionType) {
+		if (selectionConditions == null || selectionConditions.isEmpty()) {
+			return null;
+		}
+		List<Condition> conditions = new ArrayList<>(selectionConditions.size());
+		for (ElementsSelectionCondition selectionCondition : selectionConditions) {
+			conditions.add(of(selectionCondition));
+		}
+		if (conditions.size() == 1) {
+			return conditions.get(0);
+		}
+		return new ConditionGroup(selectionType != null ? selectionType : SelectionType.AND, conditions);
+	}
+
+	/**
+	 * Преобразование условия {@link ElementsSelectionCondition} в условие
+	 *
+	 * @param selectionCondition
+	 * @return
+	 */
+	public static ColumnCondition of(ElementsSelectionCondition selectionCondition) {
+		String columnName = selectionCondition.getSpacePropertyName();
+		Object value = selectionCondition.getSpacePropertyValue();
+		SelectionConditionExpression expression = selectionCondition.getSelectionConditionExpression();
+		if (expression == null) {
+			expression = SelectionConditionExpression.EQUAL;
+		}
+		switch (expression) {
+			case NOT_EQUAL:
+				return notEqual(columnName, value);
+			case LIKE:
+				return contains(columnName, String.valueOf(value));
+			case NOT_LIKE:
+				return notContains(columnName, String.valueOf(value));
+			case IN:
+				if (value instanceof Collection) {
+					return in(columnName, (Collection<?>) value);
+				} else if (value instanceof Object[]) {
+					return in(columnName, Arrays.asList((Object[]) value));
+				}
+				return in(columnName, Collections.singletonList(value));
+			case GREATER_THAN:
+				return greaterThan(columnName, value);
+			case GREATER_THAN_OR_EQUAL:
+				return greaterThanOrEqual(columnName, value);
+			case LESS_THEN:
+				return lessThan(columnName, value);
+			case LESS_THEN_OR_EQUAL:
+				return lessThanOrEqual(columnName, value);
+			default:
+				return equal(columnName, value);
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+package ru.rds.data.database.conditions;
+
+import java.util.ArrayList;
+import java.util.List;
+import ru.rds.data.storage.SelectionType;
+
+/**
+ * Группа условий, объединенных через AND или OR
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class ConditionGroup extends Condition {
+
+	// Способ объединения условий
+	private SelectionType   selectionType;
+	// Условия группы (могут быть в том числе группами)
+	private List<Condition> conditions;
+
+	public ConditionGroup(SelectionType selectionType, List<Condition> conditions) {
+		this.selectionType = selectionType != null ? selectionType : SelectionType.AND;
+		this.conditions = new ArrayList<>(conditions);
+	}
+
+	public SelectionType getSelectionType() {
+		return selectionType;
+	}
+
+	public List<Condition> getConditions() {
+		return conditions;
+	}
+
+	/**
+	 * Добавление условия в группу
+	 *
+	 * @param condition
+	 * @return эта же группа
+	 */
+	public ConditionGroup add(Condition condition) {
+		if (condition != null) {
+			conditions.add(condition);
+		}
+		return this;
+	}
+
+}
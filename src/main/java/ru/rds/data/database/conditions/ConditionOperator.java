@@ -0,0 +1,49 @@
+package ru.rds.data.database.conditions;
+
+/**
+ * Оператор сравнения значения Колонки в условии отбора ({@link ColumnCondition})
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public enum ConditionOperator {
+
+	// Равно
+	EQUAL,
+	// Не равно
+	NOT_EQUAL,
+	// Больше
+	GREATER_THAN,
+	// Больше или равно
+	GREATER_THAN_OR_EQUAL,
+	// Меньше
+	LESS_THAN,
+	// Меньше или равно
+	LESS_THAN_OR_EQUAL,
+	// Входит в перечень значений
+	IN,
+	// Не входит в перечень значений
+	NOT_IN,
+	// Входит в перечень значений, который передается одним параметром-массивом (<code>= ANY(?)</code>)
+	ANY,
+	// Значение отсутствует
+	IS_NULL,
+	// Значение присутствует
+	IS_NOT_NULL,
+	// Находится в диапазоне (включая границы)
+	BETWEEN,
+	// Содержит подстроку (LIKE '%...%')
+	CONTAINS,
+	// Не содержит подстроку (NOT LIKE '%...%')
+	NOT_CONTAINS,
+	// Начинается с подстроки (LIKE '...%') - может использовать индекс
+	STARTS_WITH,
+	// JSON-значение содержит JSON-фрагмент (для {@link JsonCondition})
+	JSON_CONTAINS,
+	// Значение по пути внутри JSON равно заданному (для {@link JsonCondition})
+	JSON_PATH_EQUAL,
+	// Путь внутри JSON существует (для {@link JsonCondition})
+	JSON_PATH_EXISTS
+
+}
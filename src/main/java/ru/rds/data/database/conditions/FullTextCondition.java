@@ -0,0 +1,42 @@
+package ru.rds.data.database.conditions;
+
+import ru.rds.data.database.Index;
+
+/**
+ * Условие полнотекстового поиска по полнотекстовому Индексу ({@link Index#isFullText()})
+ * <p>
+ * Способ поиска зависит от СУБД: в PostgreSQL используется <code>tsvector</code> и GIN-индекс, в H2 - встроенный полнотекстовый поиск (<code>FT_*</code>),
+ * в SQLite - виртуальная таблица FTS5
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class FullTextCondition extends Condition {
+
+	// Полнотекстовый Индекс, по которому выполняется поиск
+	private Index  index;
+	// Название Колонки первичного ключа Таблицы (нужно для СУБД, в которых индекс хранится отдельно от Таблицы)
+	private String keyColumnName;
+	// Искомый текст
+	private String text;
+
+	public FullTextCondition(Index index, String keyColumnName, String text) {
+		this.index = index;
+		this.keyColumnName = keyColumnName;
+		this.text = text;
+	}
+
+	public Index getIndex() {
+		return index;
+	}
+
+	public String getKeyColumnName() {
+		return keyColumnName;
+	}
+
+	public String getText() {
+		return text;
+	}
+
+}
@@ -0,0 +1,21 @@
+package ru.rds.data.database.conditions;
+
+/**
+ * Способ передачи в БД перечня значений условия IN (см. {@link ru.rds.data.database.DatabaseQueryBuilder#planInList(int)})
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public enum InListStrategy {
+
+	// Каждое значение - отдельным параметром (<code>column IN (?, ?, ...)</code>)
+	PARAMETERS,
+	// Все значения - одним параметром-массивом (<code>column = ANY(?)</code>)
+	ARRAY,
+	// Перечень разбивается на части, для каждой части выполняется отдельный запрос, результаты объединяются
+	CHUNKS,
+	// Значения загружаются во временную Таблицу, условие формируется через подзапрос к ней (см. {@link InTableCondition})
+	TEMPORARY_TABLE
+
+}
@@ -0,0 +1,43 @@
+package ru.rds.data.database.conditions;
+
+/**
+ * Условие вхождения значения Колонки в перечень значений, предварительно загруженный во временную Таблицу
+ * (<code>column IN (SELECT value FROM values_table)</code>).
+ * <p>
+ * Используется для очень больших перечней значений, которые нельзя передать параметрами одного запроса (см. {@link InListStrategy#TEMPORARY_TABLE})
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class InTableCondition extends Condition {
+
+	// Название Колонки временной Таблицы, в которой хранятся значения
+	public static final String VALUE_COLUMN_NAME = "item_value";
+
+	// Название Колонки
+	private String  columnName;
+	// Является ли условие отрицанием (NOT IN)
+	private boolean negative;
+	// Название временной Таблицы со значениями
+	private String  valuesTableName;
+
+	public InTableCondition(String columnName, boolean negative, String valuesTableName) {
+		this.columnName = columnName;
+		this.negative = negative;
+		this.valuesTableName = valuesTableName;
+	}
+
+	public String getColumnName() {
+		return columnName;
+	}
+
+	public boolean isNegative() {
+		return negative;
+	}
+
+	public String getValuesTableName() {
+		return valuesTableName;
+	}
+
+}
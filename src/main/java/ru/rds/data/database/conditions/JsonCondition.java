@@ -0,0 +1,32 @@
+package ru.rds.data.database.conditions;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Условие на значение JSON-Колонки (например, JSONB): вхождение JSON-фрагмента, равенство значения по пути или наличие пути
+ * <p>
+ * Для PostgreSQL условия формируются с помощью операторов, которые используют GIN-индекс (<code>@&gt;</code> и <code>@?</code>).
+ * Для SQLite используются функции <code>json_type</code>, <code>json_extract</code> и <code>json_each</code> (без индекса),
+ * для H2 - Java-функции {@link ru.rds.data.database.common.JsonFunctions}, которые регистрируются при создании {@link ru.rds.data.database.DatabaseStorage}.
+ * Результат отбора во всех этих СУБД совпадает с PostgreSQL. Для остальных СУБД при формировании запроса возникает {@link IllegalArgumentException}
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class JsonCondition extends ColumnCondition {
+
+	// Путь внутри JSON-значения (перечень ключей от корня)
+	private List<String> path;
+
+	public JsonCondition(String columnName, ConditionOperator operator, List<String> path, Object value) {
+		super(columnName, operator, value);
+		this.path = path != null ? path : Collections.emptyList();
+	}
+
+	public List<String> getPath() {
+		return path;
+	}
+
+}
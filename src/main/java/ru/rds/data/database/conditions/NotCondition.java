@@ -0,0 +1,23 @@
+package ru.rds.data.database.conditions;
+
+/**
+ * Отрицание условия (NOT)
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class NotCondition extends Condition {
+
+	// Отрицаемое условие
+	private Condition condition;
+
+	public NotCondition(Condition condition) {
+		this.condition = condition;
+	}
+
+	public Condition getCondition() {
+		return condition;
+	}
+
+}
@@ -0,0 +1,30 @@
+package ru.rds.data.database.exceptions;
+
+import ru.rds.data.storage.exceptions.StorageException;
+
+/**
+ * Исключение, которое может возникнуть при изменении структуры Таблицы ({@link ru.rds.data.database.Table})
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class MigrateTableException extends StorageException {
+
+	public MigrateTableException(String message) {
+		super(message);
+	}
+
+	public MigrateTableException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+	public MigrateTableException(Throwable cause) {
+		super(cause);
+	}
+
+	public MigrateTableException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+		super(message, cause, enableSuppression, writableStackTrace);
+	}
+
+}
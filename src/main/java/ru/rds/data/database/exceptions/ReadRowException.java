@@ -0,0 +1,30 @@
+package ru.rds.data.database.exceptions;
+
+import ru.rds.data.storage.exceptions.StorageException;
+
+/**
+ * Исключение, которое может возникнуть при получении значений Строки ({@link ru.rds.data.database.Row})
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class ReadRowException extends StorageException {
+
+	public ReadRowException(String message) {
+		super(message);
+	}
+
+	public ReadRowException(String message, Throwable cause) {
+		super(message, cause);
+	}
+
+	public ReadRowException(Throwable cause) {
+		super(cause);
+	}
+
+	public ReadRowException(String message, Throwable cause, boolean enableSuppression, boolean writableStackTrace) {
+		super(message, cause, enableSuppression, writableStackTrace);
+	}
+
+}
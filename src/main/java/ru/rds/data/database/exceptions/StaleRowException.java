@@ -0,0 +1,33 @@
+package ru.rds.data.database.exceptions;
+
+import java.util.Collections;
+import java.util.List;
+import ru.rds.data.database.Row;
+
+/**
+ * Исключение, которое возникает при обновлении Строк ({@link Row}) с проверкой версии, если часть Строк была изменена (или удалена) другим процессом
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class StaleRowException extends UpdateRowException {
+
+	// Строки, версия которых в БД отличается от ожидаемой
+	private final List<Row> staleRows;
+
+	public StaleRowException(String message, List<Row> staleRows) {
+		super(message);
+		this.staleRows = Collections.unmodifiableList(staleRows);
+	}
+
+	/**
+	 * Получение Строк, которые не были обновлены из-за несовпадения версии
+	 *
+	 * @return
+	 */
+	public List<Row> getStaleRows() {
+		return staleRows;
+	}
+
+}
@@ -0,0 +1,124 @@
+package ru.rds.data.database.generators;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.sql.DataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.rds.data.database.Column;
+import ru.rds.data.database.DatabaseQueryBuilder;
+import ru.rds.data.database.common.AssertChecker;
+
+/**
+ * Генератор числовых значений блоками (алгоритм hi-lo): одно обращение к последовательности БД резервирует диапазон
+ * <code>[hi * blockSize, (hi + 1) * blockSize)</code>, значения которого выдаются без обращения к БД.
+ * <p>
+ * Значения внутри блока выдаются без блокировок, блокировка используется только при получении следующего блока.
+ * Последовательность создается при первом обращении (если ее нет). Значения, не выданные до остановки приложения, теряются
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class HiLoGenerator implements IdGenerator {
+
+	private static final Logger logger = LoggerFactory.getLogger(HiLoGenerator.class);
+
+	// Любая нужная реализация DataSource
+	private final DataSource           dataSource;
+	// Нужен для генерации SQL-запросов к последовательности
+	private final DatabaseQueryBuilder queryBuilder;
+	// Название последовательности
+	private final String               sequenceName;
+	// Количество значений в одном блоке
+	private final int                  blockSize;
+	// Текущий блок
+	private volatile Block             block;
+	// Создана ли последовательность
+	private volatile boolean           sequenceCreated;
+
+	public HiLoGenerator(DataSource dataSource, DatabaseQueryBuilder queryBuilder, String sequenceName, int blockSize) {
+		AssertChecker.notNull(dataSource, "<DataSource> не должен быть равен <NULL>");
+		AssertChecker.notNull(queryBuilder, "<DatabaseQueryBuilder> не должен быть равен <NULL>");
+		AssertChecker.notNull(sequenceName, "Название последовательности не должно быть <NULL>");
+		if (blockSize <= 0) {
+			throw new IllegalArgumentException("Размер блока должен быть больше 0");
+		}
+		this.dataSource = dataSource;
+		this.queryBuilder = queryBuilder;
+		this.sequenceName = sequenceName;
+		this.blockSize = blockSize;
+	}
+
+	@Override
+	public Object nextId(Column column) {
+		return nextValue();
+	}
+
+	/**
+	 * Получение очередного значения
+	 *
+	 * @return
+	 */
+	public long nextValue() {
+		while (true) {
+			Block current = block;
+			if (current != null) {
+				long value = current.next.getAndIncrement();
+				if (value < current.end) {
+					return value;
+				}
+			}
+			synchronized (this) {
+				if (block == current) {
+					long hi = fetchNextHi();
+					block = new Block(hi * blockSize, (hi + 1) * blockSize);
+				}
+			}
+		}
+	}
+
+	/* Резервирование следующего блока: одно обращение к последовательности */
+	private long fetchNextHi() {
+		String query = queryBuilder.queryForNextSequenceValue(sequenceName);
+		if (query == null) {
+			throw new IllegalStateException(String.format("Последовательности не поддерживаются данной СУБД (последовательность <%s>)", sequenceName));
+		}
+		try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+			if (!sequenceCreated) {
+				String createQuery = queryBuilder.queryForCreateSequence(sequenceName);
+				logger.trace("SQL-query: " + createQuery);
+				statement.execute(createQuery);
+				sequenceCreated = true;
+			}
+			logger.trace("SQL-query: " + query);
+			try (ResultSet resultSet = statement.executeQuery(query)) {
+				if (resultSet.next()) {
+					return resultSet.getLong(1);
+				}
+			}
+			throw new IllegalStateException(String.format("Последовательность <%s> не вернула значение", sequenceName));
+		} catch (IllegalStateException e) {
+			throw e;
+		} catch (Exception e) {
+			logger.error(e.getMessage(), e);
+			throw new IllegalStateException(String.format("Не удалось получить значение последовательности <%s>", sequenceName), e);
+		}
+	}
+
+	/* Диапазон значений [next, end) */
+	private static final class Block {
+
+		private final AtomicLong next;
+		private final long       end;
+
+		private Block(long start, long end) {
+			this.next = new AtomicLong(start);
+			this.end = end;
+		}
+
+	}
+
+}
@@ -0,0 +1,26 @@
+package ru.rds.data.database.generators;
+
+import ru.rds.data.database.Column;
+
+/**
+ * Генератор значений первичного ключа на стороне приложения.
+ * <p>
+ * Генератор назначается Колонке Таблицы через {@link ru.rds.data.database.Table#setIdGenerator(String, IdGenerator)} и вызывается при создании Строки,
+ * если значение Колонки не задано. Реализации должны быть потокобезопасными
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+@FunctionalInterface
+public interface IdGenerator {
+
+	/**
+	 * Получение очередного значения
+	 *
+	 * @param column Колонка, для которой формируется значение (позволяет выбрать представление значения в зависимости от типа Колонки)
+	 * @return
+	 */
+	Object nextId(Column column);
+
+}
@@ -0,0 +1,63 @@
+package ru.rds.data.database.generators;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import ru.rds.data.database.Column;
+
+/**
+ * Генератор UUID версии 7 (RFC 9562): старшие 48 бит - время в миллисекундах, поэтому значения упорядочены по времени создания
+ * и вставляются в конец B-tree индекса (в отличие от случайных UUID версии 4).
+ * <p>
+ * В пределах одной миллисекунды значения монотонно возрастают за счет 12-битного счетчика (поле rand_a).
+ * Генератор не использует блокировок: состояние (время и счетчик) хранится в одном {@link AtomicLong}.
+ * Для символьных Колонок значение возвращается строкой, для остальных - как {@link UUID}
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class UuidV7Generator implements IdGenerator {
+
+	// Время (в миллисекундах), сдвинутое на 12 бит, плюс значение счетчика
+	private final AtomicLong state = new AtomicLong();
+
+	@Override
+	public Object nextId(Column column) {
+		UUID uuid = nextUuid();
+		if (column != null && column.getType() != null && column.getType().isCharacters()) {
+			return uuid.toString();
+		}
+		return uuid;
+	}
+
+	/**
+	 * Получение очередного UUID
+	 *
+	 * @return
+	 */
+	public UUID nextUuid() {
+		long timestampAndCounter = nextTimestampAndCounter();
+		long mostSigBits = ((timestampAndCounter >>> 12) << 16) | 0x7000L | (timestampAndCounter & 0xFFFL);
+		long leastSigBits = (ThreadLocalRandom.current().nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+		return new UUID(mostSigBits, leastSigBits);
+	}
+
+	/*
+	Если время не изменилось (или часы сдвинулись назад), то увеличивается счетчик;
+	при переполнении счетчика значение переходит в следующую миллисекунду, сохраняя монотонность
+	 */
+	private long nextTimestampAndCounter() {
+		while (true) {
+			long previous = state.get();
+			long candidate = System.currentTimeMillis() << 12;
+			if (candidate <= previous) {
+				candidate = previous + 1;
+			}
+			if (state.compareAndSet(previous, candidate)) {
+				return candidate;
+			}
+		}
+	}
+
+}
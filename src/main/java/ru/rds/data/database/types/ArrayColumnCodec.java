@@ -0,0 +1,69 @@
+package ru.rds.data.database.types;
+
+import java.sql.*;
+import ru.rds.data.database.ColumnType;
+
+/**
+ * Реализация {@link ColumnCodec} для SQL-массивов ({@link ArrayColumnType})
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class ArrayColumnCodec implements ColumnCodec {
+
+	// Тип элементов массива
+	private final ColumnType elementType;
+	// Название типа элементов, используемое при создании массива
+	private final String     elementTypeName;
+	// Тип элементов массива Java, который возвращается при чтении
+	private final Class<?>   componentType;
+
+	public ArrayColumnCodec(ColumnType elementType, String elementTypeName, Class<?> componentType) {
+		this.elementType = elementType;
+		this.elementTypeName = elementTypeName;
+		this.componentType = componentType;
+	}
+
+	@Override
+	public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+		if (value == null) {
+			preparedStatement.setNull(index, Types.ARRAY);
+		} else if (value instanceof Array) {
+			preparedStatement.setArray(index, (Array) value);
+		} else if (value instanceof SqlArray) {
+			SqlArray sqlArray = (SqlArray) value;
+			preparedStatement.setArray(index, preparedStatement.getConnection().createArrayOf(sqlArray.getElementTypeName(), sqlArray.getElements()));
+		} else {
+			Object[] elements = SqlArray.toObjectArray(value);
+			if (elements != null) {
+				preparedStatement.setArray(index, preparedStatement.getConnection().createArrayOf(elementTypeName, elements));
+			} else {
+				preparedStatement.setObject(index, value);
+			}
+		}
+	}
+
+	@Override
+	public Object read(ResultSet resultSet, int index) throws SQLException {
+		Array array = resultSet.getArray(index);
+		if (array == null) {
+			return null;
+		}
+		try {
+			Object[] elements = SqlArray.toObjectArray(array.getArray());
+			if (elements == null) {
+				return null;
+			}
+			Object[] result = (Object[]) java.lang.reflect.Array.newInstance(componentType, elements.length);
+			for (int i = 0; i < elements.length; i++) {
+				Object element = elements[i];
+				result[i] = element != null && elementType != null ? elementType.convertFromDatabase(element) : element;
+			}
+			return result;
+		} finally {
+			array.free();
+		}
+	}
+
+}
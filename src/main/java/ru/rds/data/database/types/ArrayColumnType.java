@@ -0,0 +1,41 @@
+package ru.rds.data.database.types;
+
+import java.sql.Types;
+import ru.rds.data.database.ColumnType;
+
+/**
+ * Описание типа SQL-массива. Значения передаются в БД как массивы Java (массивы объектов, массивы примитивов или {@link java.util.Collection})
+ * и получаются из БД как массивы объектов (например, <code>Long[]</code>)
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class ArrayColumnType extends ColumnType {
+
+	// Тип элементов массива
+	private final ColumnType elementType;
+
+	/**
+	 * @param typeName        название типа в БД (например, int8[])
+	 * @param elementType     тип элементов массива
+	 * @param elementTypeName название типа элементов, используемое при создании массива (см. {@link java.sql.Connection#createArrayOf(String, Object[])})
+	 * @param componentType   тип элементов массива Java, который возвращается при чтении
+	 */
+	public ArrayColumnType(String typeName, ColumnType elementType, String elementTypeName, Class<?> componentType) {
+		this.elementType = elementType;
+		setTypeCode(Types.ARRAY);
+		setTypeName(typeName);
+		setCodec(new ArrayColumnCodec(elementType, elementTypeName, componentType));
+	}
+
+	/**
+	 * Получение типа элементов массива
+	 *
+	 * @return
+	 */
+	public ColumnType getElementType() {
+		return elementType;
+	}
+
+}
@@ -16,6 +16,7 @@ public class BigIntColumnType extends ColumnType {
 		setTypeCode(Types.BIGINT);
 		setTypeName("bigint");
 		setNumeric(true);
+		setCodec(ColumnCodecs.BIGINT);
 	}
 
 }
@@ -16,6 +16,7 @@ public class BoolColumnType extends ColumnType {
 		setTypeCode(Types.BIT);
 		setTypeName("bool");
 		setBoollable(true);
+		setCodec(ColumnCodecs.BOOLEAN);
 	}
 
 }
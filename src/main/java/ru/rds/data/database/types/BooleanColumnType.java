@@ -16,6 +16,7 @@ public class BooleanColumnType extends ColumnType {
 		setTypeCode(Types.BOOLEAN);
 		setTypeName("boolean");
 		setBoollable(true);
+		setCodec(ColumnCodecs.BOOLEAN);
 	}
 
 }
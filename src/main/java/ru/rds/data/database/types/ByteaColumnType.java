@@ -15,7 +15,9 @@ public class ByteaColumnType extends ColumnType {
 	public ByteaColumnType() {
 		setTypeCode(Types.BINARY);
 		setTypeName("bytea");
+		setLarge(true);
 		setBinary(true);
+		setCodec(ColumnCodecs.BYTES);
 	}
 
 }
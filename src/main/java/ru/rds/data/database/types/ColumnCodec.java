@@ -0,0 +1,39 @@
+package ru.rds.data.database.types;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Способ передачи значений Колонки определенного типа в БД и получения их из БД.
+ * <p>
+ * Позволяет использовать типизированные методы JDBC ({@link PreparedStatement#setLong(int, long)}, {@link ResultSet#getLong(int)} и т.п.)
+ * вместо {@link PreparedStatement#setObject(int, Object)} и {@link ResultSet#getObject(int)}. Стандартные реализации - в {@link ColumnCodecs}
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public interface ColumnCodec {
+
+	/**
+	 * Установление значения параметра запроса
+	 *
+	 * @param preparedStatement запрос
+	 * @param index             номер параметра (начиная с 1)
+	 * @param value             значение (может быть NULL)
+	 * @throws SQLException
+	 */
+	void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException;
+
+	/**
+	 * Получение значения из текущей Строки результата запроса
+	 *
+	 * @param resultSet результат запроса
+	 * @param index     номер Колонки в результате запроса (начиная с 1)
+	 * @return значение или NULL
+	 * @throws SQLException
+	 */
+	Object read(ResultSet resultSet, int index) throws SQLException;
+
+}
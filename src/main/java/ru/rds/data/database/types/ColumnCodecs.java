@@ -0,0 +1,209 @@
+package ru.rds.data.database.types;
+
+import java.math.BigDecimal;
+import java.sql.*;
+
+/**
+ * Стандартные реализации {@link ColumnCodec}.
+ * <p>
+ * Типизированные реализации используют специализированные методы JDBC только для значений ожидаемого Java-типа,
+ * значения других типов передаются через {@link PreparedStatement#setObject(int, Object)} (преобразование выполняет драйвер БД)
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public final class ColumnCodecs {
+
+	// Универсальная реализация через setObject/getObject
+	public static final ColumnCodec OBJECT = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			preparedStatement.setObject(index, value);
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			return resultSet.getObject(index);
+		}
+	};
+
+	public static final ColumnCodec SMALLINT = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof Short) {
+				preparedStatement.setShort(index, (Short) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.SMALLINT);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			// По спецификации JDBC значения SMALLINT возвращаются как Integer
+			int value = resultSet.getInt(index);
+			return resultSet.wasNull() ? null : value;
+		}
+	};
+
+	public static final ColumnCodec INTEGER = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof Integer) {
+				preparedStatement.setInt(index, (Integer) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.INTEGER);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			int value = resultSet.getInt(index);
+			return resultSet.wasNull() ? null : value;
+		}
+	};
+
+	public static final ColumnCodec BIGINT = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof Long) {
+				preparedStatement.setLong(index, (Long) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.BIGINT);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			long value = resultSet.getLong(index);
+			return resultSet.wasNull() ? null : value;
+		}
+	};
+
+	public static final ColumnCodec DOUBLE = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof Double) {
+				preparedStatement.setDouble(index, (Double) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.DOUBLE);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			double value = resultSet.getDouble(index);
+			return resultSet.wasNull() ? null : value;
+		}
+	};
+
+	public static final ColumnCodec DECIMAL = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof BigDecimal) {
+				preparedStatement.setBigDecimal(index, (BigDecimal) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.NUMERIC);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			return resultSet.getBigDecimal(index);
+		}
+	};
+
+	public static final ColumnCodec BOOLEAN = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof Boolean) {
+				preparedStatement.setBoolean(index, (Boolean) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.BOOLEAN);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			boolean value = resultSet.getBoolean(index);
+			return resultSet.wasNull() ? null : value;
+		}
+	};
+
+	public static final ColumnCodec STRING = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof String) {
+				preparedStatement.setString(index, (String) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.VARCHAR);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			return resultSet.getString(index);
+		}
+	};
+
+	public static final ColumnCodec TIMESTAMP = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof Timestamp) {
+				preparedStatement.setTimestamp(index, (Timestamp) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.TIMESTAMP);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			return resultSet.getTimestamp(index);
+		}
+	};
+
+	public static final ColumnCodec DATE = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof Date) {
+				preparedStatement.setDate(index, (Date) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.DATE);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			return resultSet.getDate(index);
+		}
+	};
+
+	public static final ColumnCodec BYTES = new ColumnCodec() {
+		@Override
+		public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+			if (value instanceof byte[]) {
+				preparedStatement.setBytes(index, (byte[]) value);
+			} else {
+				bindObject(preparedStatement, index, value, Types.BINARY);
+			}
+		}
+
+		@Override
+		public Object read(ResultSet resultSet, int index) throws SQLException {
+			return resultSet.getBytes(index);
+		}
+	};
+
+	private ColumnCodecs() {
+	}
+
+	/* NULL передается с указанием SQL-типа, остальные значения - через setObject */
+	private static void bindObject(PreparedStatement preparedStatement, int index, Object value, int sqlType) throws SQLException {
+		if (value == null) {
+			preparedStatement.setNull(index, sqlType);
+		} else {
+			preparedStatement.setObject(index, value);
+		}
+	}
+
+}
@@ -0,0 +1,22 @@
+package ru.rds.data.database.types;
+
+import java.sql.Types;
+import ru.rds.data.database.ColumnType;
+
+/**
+ * Описание типа DATE
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class DateColumnType extends ColumnType {
+
+	public DateColumnType() {
+		setTypeCode(Types.DATE);
+		setTypeName("date");
+		setDateTime(true);
+		setCodec(ColumnCodecs.DATE);
+	}
+
+}
@@ -16,6 +16,7 @@ public class FloatColumnType extends ColumnType {
 		setTypeCode(Types.FLOAT);
 		setTypeName("float");
 		setNumeric(true);
+		setCodec(ColumnCodecs.DOUBLE);
 	}
 
 }
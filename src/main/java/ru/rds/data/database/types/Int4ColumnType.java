@@ -16,6 +16,7 @@ public class Int4ColumnType extends ColumnType {
 		setTypeCode(Types.INTEGER);
 		setTypeName("int4");
 		setNumeric(true);
+		setCodec(ColumnCodecs.INTEGER);
 	}
 
 }
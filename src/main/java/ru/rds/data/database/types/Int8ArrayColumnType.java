@@ -0,0 +1,18 @@
+package ru.rds.data.database.types;
+
+import ru.rds.data.database.ColumnType;
+
+/**
+ * Описание типа BIGINT ARRAY (int8[]). Значения получаются из БД как <code>Long[]</code>
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class Int8ArrayColumnType extends ArrayColumnType {
+
+	public Int8ArrayColumnType() {
+		super("int8[]", ColumnType.BIGINT, "int8", Long.class);
+	}
+
+}
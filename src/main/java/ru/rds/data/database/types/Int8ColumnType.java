@@ -16,6 +16,7 @@ public class Int8ColumnType extends ColumnType {
 		setTypeCode(Types.BIGINT);
 		setTypeName("int8");
 		setNumeric(true);
+		setCodec(ColumnCodecs.BIGINT);
 	}
 
 }
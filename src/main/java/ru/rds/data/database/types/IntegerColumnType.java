@@ -16,6 +16,7 @@ public class IntegerColumnType extends ColumnType {
 		setTypeCode(Types.INTEGER);
 		setTypeName("integer");
 		setNumeric(true);
+		setCodec(ColumnCodecs.INTEGER);
 	}
 
 }
@@ -15,6 +15,7 @@ public class JsonbColumnType extends ColumnType {
 	public JsonbColumnType() {
 		setTypeCode(Types.OTHER);
 		setTypeName("jsonb");
+		setLarge(true);
 		setBinary(true);
 	}
 
@@ -0,0 +1,25 @@
+package ru.rds.data.database.types;
+
+import java.sql.Types;
+import ru.rds.data.database.ColumnType;
+
+/**
+ * Описание типа NUMERIC. Точность задается размером Колонки, количество знаков после запятой - масштабом ({@link ru.rds.data.database.Column#setScale(int)}).
+ * Если точность не задана, то тип указывается без ограничений (в этом случае количество знаков определяется СУБД)
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class NumericColumnType extends ColumnType {
+
+	public NumericColumnType() {
+		setTypeCode(Types.NUMERIC);
+		setTypeName("numeric");
+		setNumeric(true);
+		setSizeable(true);
+		setScalable(true);
+		setCodec(ColumnCodecs.DECIMAL);
+	}
+
+}
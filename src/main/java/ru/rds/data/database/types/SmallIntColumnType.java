@@ -16,6 +16,7 @@ public class SmallIntColumnType extends ColumnType {
 		setTypeCode(Types.SMALLINT);
 		setTypeName("smallint");
 		setNumeric(true);
+		setCodec(ColumnCodecs.SMALLINT);
 	}
 
 }
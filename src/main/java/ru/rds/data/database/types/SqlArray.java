@@ -0,0 +1,114 @@
+package ru.rds.data.database.types;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.Collection;
+
+/**
+ * Значение параметра запроса в виде SQL-массива (например, для условия <code>column = ANY(?)</code>).
+ * <p>
+ * При установлении параметра массив создается через {@link java.sql.Connection#createArrayOf(String, Object[])}
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class SqlArray {
+
+	// Название типа элементов массива в БД (например, int8)
+	private final String   elementTypeName;
+	// Элементы массива
+	private final Object[] elements;
+
+	public SqlArray(String elementTypeName, Object[] elements) {
+		this.elementTypeName = elementTypeName;
+		this.elements = elements;
+	}
+
+	/**
+	 * Формирование массива из перечня значений. Тип элементов определяется по первому значению, отличному от NULL
+	 *
+	 * @param values перечень значений
+	 * @return
+	 */
+	public static SqlArray of(Collection<?> values) {
+		Object[] elements = values.toArray();
+		String elementTypeName = "varchar";
+		for (Object element : elements) {
+			if (element != null) {
+				elementTypeName = elementTypeName(element.getClass());
+				break;
+			}
+		}
+		return new SqlArray(elementTypeName, elements);
+	}
+
+	/**
+	 * Название типа элементов массива в БД
+	 *
+	 * @return
+	 */
+	public String getElementTypeName() {
+		return elementTypeName;
+	}
+
+	/**
+	 * Элементы массива
+	 *
+	 * @return
+	 */
+	public Object[] getElements() {
+		return elements;
+	}
+
+	/**
+	 * Преобразование значения в массив объектов. Поддерживаются массивы объектов, массивы примитивов и {@link Collection}
+	 *
+	 * @param value значение
+	 * @return массив объектов или NULL, если значение не является массивом или коллекцией
+	 */
+	public static Object[] toObjectArray(Object value) {
+		if (value instanceof Object[]) {
+			return (Object[]) value;
+		}
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).toArray();
+		}
+		if (value != null && value.getClass().isArray()) {
+			int length = Array.getLength(value);
+			Object[] elements = new Object[length];
+			for (int i = 0; i < length; i++) {
+				elements[i] = Array.get(value, i);
+			}
+			return elements;
+		}
+		return null;
+	}
+
+	// Названия типов в PostgreSQL (H2 не использует название типа при создании массива)
+	private static String elementTypeName(Class<?> elementClass) {
+		if (elementClass == Long.class) {
+			return "int8";
+		} else if (elementClass == Integer.class) {
+			return "int4";
+		} else if (elementClass == Short.class) {
+			return "int2";
+		} else if (elementClass == Double.class) {
+			return "float8";
+		} else if (elementClass == BigDecimal.class) {
+			return "numeric";
+		} else if (elementClass == Boolean.class) {
+			return "bool";
+		} else if (elementClass == java.util.UUID.class) {
+			return "uuid";
+		} else if (elementClass == Timestamp.class) {
+			return "timestamp";
+		} else if (elementClass == Date.class) {
+			return "date";
+		}
+		return "varchar";
+	}
+
+}
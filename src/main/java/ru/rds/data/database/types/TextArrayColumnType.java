@@ -0,0 +1,18 @@
+package ru.rds.data.database.types;
+
+import ru.rds.data.database.ColumnType;
+
+/**
+ * Описание типа TEXT ARRAY (text[]). Значения получаются из БД как <code>String[]</code>
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class TextArrayColumnType extends ArrayColumnType {
+
+	public TextArrayColumnType() {
+		super("text[]", ColumnType.CHARACTER_VARYING, "text", String.class);
+	}
+
+}
@@ -15,7 +15,9 @@ public class TextColumnType extends ColumnType {
 	public TextColumnType() {
 		setTypeCode(Types.VARCHAR);
 		setTypeName("text");
+		setLarge(true);
 		setCharacters(true);
+		setCodec(ColumnCodecs.STRING);
 	}
 
 }
@@ -16,6 +16,7 @@ public class TimestampColumnType extends ColumnType {
 		setTypeCode(Types.TIMESTAMP);
 		setTypeName("timestamp");
 		setDateTime(true);
+		setCodec(ColumnCodecs.TIMESTAMP);
 	}
 
 }
@@ -0,0 +1,18 @@
+package ru.rds.data.database.types;
+
+import ru.rds.data.database.ColumnType;
+
+/**
+ * Описание типа UUID ARRAY (uuid[]). Значения получаются из БД как <code>UUID[]</code>
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class UuidArrayColumnType extends ArrayColumnType {
+
+	public UuidArrayColumnType() {
+		super("uuid[]", ColumnType.UUID, "uuid", java.util.UUID.class);
+	}
+
+}
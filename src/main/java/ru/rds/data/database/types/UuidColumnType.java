@@ -0,0 +1,59 @@
+package ru.rds.data.database.types;
+
+import java.nio.ByteBuffer;
+import java.sql.Types;
+import ru.rds.data.database.ColumnType;
+
+/**
+ * Описание типа UUID. Значения хранятся в 16 байтах (uuid в PostgreSQL и H2, BLOB(16) в SQLite) и передаются как {@link java.util.UUID}
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public class UuidColumnType extends ColumnType {
+
+	public UuidColumnType() {
+		setTypeCode(Types.OTHER);
+		setTypeName("uuid");
+	}
+
+	/*
+	Драйверы PostgreSQL и H2 возвращают UUID, SQLite - 16 байт
+	 */
+	@Override
+	public Object convertFromDatabase(Object value) {
+		if (value instanceof byte[] && ((byte[]) value).length == 16) {
+			return fromBytes((byte[]) value);
+		}
+		if (value instanceof String) {
+			return java.util.UUID.fromString((String) value);
+		}
+		return value;
+	}
+
+	/**
+	 * Преобразование UUID в 16 байт (старшие байты - первыми)
+	 *
+	 * @param uuid
+	 * @return
+	 */
+	public static byte[] toBytes(java.util.UUID uuid) {
+		return ByteBuffer.allocate(16)
+		                 .putLong(uuid.getMostSignificantBits())
+		                 .putLong(uuid.getLeastSignificantBits())
+		                 .array();
+	}
+
+	/**
+	 * Преобразование 16 байт в UUID
+	 *
+	 * @param bytes
+	 * @return
+	 */
+	public static java.util.UUID fromBytes(byte[] bytes) {
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		return new java.util.UUID(buffer.getLong(), buffer.getLong());
+	}
+
+}
@@ -18,6 +18,7 @@ public class VarcharColumnType extends ColumnType {
 		setCharacters(true);
 		setSizeable(true);
 		setDefaultSize(255);
+		setCodec(ColumnCodecs.STRING);
 	}
 
 }
@@ -0,0 +1,81 @@
+package ru.rds.data.database.async;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Исполнители для асинхронных операций ({@link AsyncTable}, {@link AsyncDatabaseStorage}).
+ * <p>
+ * Реализация для Java 21 и выше: операции выполняются в виртуальных потоках (общий исполнитель и {@link #newExecutor()}
+ * создают отдельный поток для каждой операции, {@link #newExecutor(int)} ограничивает количество потоков)
+ *
+ * @author RDS
+ * @version 1
+ * @since 1.0.0
+ */
+public final class AsyncExecutors {
+
+	// Ограничение количества одновременных операций по-умолчанию (размер пула соединений HikariCP по-умолчанию)
+	public static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+	private static final String THREAD_NAME_PREFIX = "database-storage-async-";
+
+	private AsyncExecutors() {
+	}
+
+	/**
+	 * Получение общего исполнителя по-умолчанию
+	 *
+	 * @return
+	 */
+	public static ExecutorService defaultExecutor() {
+		return DefaultExecutorHolder.EXECUTOR;
+	}
+
+	/**
+	 * Создание нового исполнителя: отдельный виртуальный поток для каждой операции
+	 *
+	 * @return
+	 */
+	public static ExecutorService newExecutor() {
+		return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME_PREFIX, 1).factory());
+	}
+
+	/**
+	 * Создание нового исполнителя с ограниченным количеством виртуальных потоков: одновременно выполняется
+	 * не больше заданного количества операций, остальные ожидают в очереди (как и в реализации для Java 8)
+	 *
+	 * @param threads количество потоков (не меньше одного)
+	 * @return
+	 */
+	public static ExecutorService newExecutor(int threads) {
+		return Executors.newFixedThreadPool(Math.max(1, threads), Thread.ofVirtual().name(THREAD_NAME_PREFIX, 1).factory());
+	}
+
+	/**
+	 * Выполняется ли текущий поток в общем исполнителе по-умолчанию ({@link #defaultExecutor()}).
+	 * Виртуальные потоки не занимают пул, поэтому ожидание других задач исполнителя не блокирует его
+	 *
+	 * @return всегда false
+	 */
+	public static boolean isDefaultExecutorThread() {
+		return false;
+	}
+
+	/**
+	 * Используются ли виртуальные потоки
+	 *
+	 * @return
+	 */
+	public static boolean isVirtualThreads() {
+		return true;
+	}
+
+	// Общий исполнитель создается при первом обращении
+	private static final class DefaultExecutorHolder {
+
+		private static final ExecutorService EXECUTOR = newExecutor();
+
+	}
+
+}
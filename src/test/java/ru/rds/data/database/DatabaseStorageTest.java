@@ -1,10 +1,19 @@
 package ru.rds.data.database;
 
 import com.zaxxer.hikari.HikariDataSource;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 import org.junit.jupiter.api.*;
+import ru.rds.data.database.conditions.Condition;
+import ru.rds.data.database.exceptions.CreateRowException;
+import ru.rds.data.database.exceptions.CreateTableException;
 
 @DisplayName("Тестирование DatabaseStorage")
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -97,4 +106,468 @@ public class DatabaseStorageTest {
 		Assertions.assertNull(tasksTable.orElseGet(() -> null));
 	}
 
+	@Test
+	@DisplayName("Создание Таблицы с Колонкой типа UUID")
+	@Order(6)
+	void createTableWithUuid() {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.UUID);
+		id.setNullable(false);
+
+		Column name = new Column();
+		name.setName("name");
+		name.setType(ColumnType.VARCHAR);
+		name.setNullable(true);
+
+		databaseStorage.createSpace("documents", null, Arrays.asList(id, name));
+		Table documentsTable = databaseStorage.getSpace("documents").orElseGet(() -> null);
+		Assertions.assertNotNull(documentsTable);
+		Assertions.assertEquals(ColumnType.UUID, documentsTable.getIdColumns().get(0).getType());
+
+		UUID documentId = UUID.randomUUID();
+		Row row = new Row(documentsTable.getProperties());
+		row.setValue("id", documentId);
+		row.setValue("name", "Document");
+		documentsTable.createElement(row);
+
+		List<Row> rows = documentsTable.getElements(Condition.equal("id", documentId));
+		Assertions.assertEquals(1, rows.size());
+		Assertions.assertEquals(documentId, rows.get(0).getValue("id").orElseGet(() -> null));
+
+		databaseStorage.deleteSpace("documents");
+	}
+
+	@Test
+	@Order(7)
+	void createTableWithRegisteredTypes() {
+		ColumnType tinyint = new ColumnType();
+		tinyint.setTypeCode(Types.TINYINT);
+		tinyint.setTypeName("tinyint");
+		tinyint.setNumeric(true);
+		ColumnType.register(tinyint);
+		Assertions.assertEquals(tinyint, ColumnType.of(Types.TINYINT, "TINYINT").orElseGet(() -> null));
+		Assertions.assertEquals(tinyint, ColumnType.of("tinyint").orElseGet(() -> null));
+
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.BIGINT);
+		id.setNullable(false);
+
+		Column amount = new Column();
+		amount.setName("amount");
+		amount.setType(ColumnType.NUMERIC);
+		amount.setSize(12);
+		amount.setScale(2);
+		amount.setNullable(true);
+
+		Column paidOn = new Column();
+		paidOn.setName("paid_on");
+		paidOn.setType(ColumnType.DATE);
+		paidOn.setNullable(true);
+
+		databaseStorage.createSpace("payments", null, Arrays.asList(id, amount, paidOn));
+		Table paymentsTable = databaseStorage.getSpace("payments").orElseGet(() -> null);
+		Assertions.assertNotNull(paymentsTable);
+		Column amountColumn = paymentsTable.getColumns().stream().filter(column -> column.getName().equalsIgnoreCase("amount")).findFirst().get();
+		Assertions.assertEquals(ColumnType.NUMERIC, amountColumn.getType());
+		Assertions.assertEquals(12, amountColumn.getSize());
+		Assertions.assertEquals(2, amountColumn.getScale());
+		Assertions.assertEquals(ColumnType.DATE, paymentsTable.getColumns().stream().filter(column -> column.getName().equalsIgnoreCase("paid_on")).findFirst().get().getType());
+
+		Row row = new Row(paymentsTable.getProperties());
+		row.setValue("id", 1L);
+		row.setValue("amount", new BigDecimal("10.25"));
+		row.setValue("paid_on", Date.valueOf("2024-01-31"));
+		paymentsTable.createElement(row);
+
+		List<Row> rows = paymentsTable.getElements(Condition.equal("id", 1L));
+		Assertions.assertEquals(1, rows.size());
+		Assertions.assertEquals(new BigDecimal("10.25"), rows.get(0).getValue("amount").orElseGet(() -> null));
+		Assertions.assertEquals(Date.valueOf("2024-01-31"), rows.get(0).getValue("paid_on").orElseGet(() -> null));
+
+		databaseStorage.deleteSpace("payments");
+
+		// Точность и масштаб указываются в описании типа, без них тип не ограничивается
+		Assertions.assertEquals("ALTER TABLE payments ADD COLUMN amount numeric(12, 2)", new PostgreSQLDatabaseQueryBuilder().queryForAddSpaceProperty("payments", amount));
+		Column unboundedAmount = new Column();
+		unboundedAmount.setName("amount");
+		unboundedAmount.setType(ColumnType.NUMERIC);
+		Assertions.assertEquals("ALTER TABLE payments ADD COLUMN amount numeric", new PostgreSQLDatabaseQueryBuilder().queryForAddSpaceProperty("payments", unboundedAmount));
+	}
+
+	@Test
+	@Order(8)
+	void createTableWithArrays() {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.BIGINT);
+		id.setNullable(false);
+
+		Column tags = new Column();
+		tags.setName("tags");
+		tags.setType(ColumnType.TEXT_ARRAY);
+		tags.setNullable(true);
+
+		Column related = new Column();
+		related.setName("related");
+		related.setType(ColumnType.INT8_ARRAY);
+		related.setNullable(true);
+
+		databaseStorage.createSpace("articles", null, Arrays.asList(id, tags, related));
+		Table articlesTable = databaseStorage.getSpace("articles").orElseGet(() -> null);
+		Assertions.assertNotNull(articlesTable);
+
+		for (long articleId = 1; articleId <= 3; articleId++) {
+			Row row = new Row(articlesTable.getProperties());
+			row.setValue("id", articleId);
+			row.setValue("tags", Arrays.asList("news", "tag" + articleId));
+			row.setValue("related", new long[]{articleId + 10, articleId + 20});
+			articlesTable.createElement(row);
+		}
+
+		List<Row> rows = articlesTable.getElements(Condition.anyOf("id", Arrays.asList(1L, 3L)));
+		Assertions.assertEquals(2, rows.size());
+		Row first = rows.stream().filter(row -> Long.valueOf(1L).equals(row.getValue("id").orElseGet(() -> null))).findFirst().orElseGet(() -> null);
+		Assertions.assertNotNull(first);
+		Assertions.assertArrayEquals(new String[]{"news", "tag1"}, (Object[]) first.getValue("tags").orElseGet(() -> null));
+		Assertions.assertArrayEquals(new Long[]{11L, 21L}, (Object[]) first.getValue("related").orElseGet(() -> null));
+		Assertions.assertEquals(0, articlesTable.getElements(Condition.anyOf("id", Collections.emptyList())).size());
+
+		databaseStorage.deleteSpace("articles");
+	}
+
+	@Test
+	@Order(9)
+	void createTableWithFullTextIndex() {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.VARCHAR);
+		id.setSize(36);
+		id.setNullable(false);
+
+		Column title = new Column();
+		title.setName("title");
+		title.setType(ColumnType.VARCHAR);
+		title.setNullable(true);
+
+		Column body = new Column();
+		body.setName("body");
+		body.setType(ColumnType.VARCHAR);
+		body.setNullable(true);
+
+		databaseStorage.createSpace("posts", null, Arrays.asList(id, title, body));
+		Table postsTable = databaseStorage.getSpace("posts").orElseGet(() -> null);
+		Assertions.assertNotNull(postsTable);
+		try {
+			Index index = new Index();
+			index.setName("index_ft_posts");
+			index.setFullText(true);
+			index.setColumns(Arrays.asList(title, body));
+			databaseStorage.createIndex("posts", index);
+
+			String[][] posts = {{"first", "Storage engines", "Pages and buffers"}, {"second", "Query planning", "Indexes and statistics"}};
+			for (String[] post : posts) {
+				Row row = new Row(postsTable.getProperties());
+				row.setValue("id", post[0]);
+				row.setValue("title", post[1]);
+				row.setValue("body", post[2]);
+				postsTable.createElement(row);
+			}
+
+			List<Row> rows = postsTable.getElements(postsTable.fullTextCondition(index, "statistics"));
+			Assertions.assertEquals(1, rows.size());
+			Assertions.assertEquals("second", rows.get(0).getValue("id").orElse(null));
+
+			// Пустой текст не отбрасывает условие, а считается ошибкой
+			Assertions.assertThrows(IllegalArgumentException.class, () -> postsTable.fullTextCondition(index, "  "));
+
+			// H2 допускает только один полнотекстовый индекс на Таблицу: второй индекс заменил бы первый
+			Index titleIndex = new Index();
+			titleIndex.setName("index_ft_posts_title");
+			titleIndex.setFullText(true);
+			titleIndex.setColumns(Collections.singletonList(title));
+			Assertions.assertThrows(CreateTableException.class, () -> databaseStorage.createIndex("posts", titleIndex));
+			Assertions.assertEquals(1, postsTable.getElements(postsTable.fullTextCondition(index, "Storage")).size());
+		} finally {
+			databaseStorage.deleteSpace("posts");
+		}
+
+		// Для составного первичного ключа полнотекстовый поиск не поддерживается
+		Column authorId = new Column();
+		authorId.setName("author_id");
+		authorId.setPrimaryKey(true);
+		authorId.setType(ColumnType.BIGINT);
+		authorId.setNullable(false);
+
+		Column number = new Column();
+		number.setName("number");
+		number.setPrimaryKey(true);
+		number.setType(ColumnType.BIGINT);
+		number.setNullable(false);
+
+		databaseStorage.createSpace("drafts", null, Arrays.asList(authorId, number, title));
+		Table draftsTable = databaseStorage.getSpace("drafts").orElseGet(() -> null);
+		Assertions.assertNotNull(draftsTable);
+		try {
+			Index index = new Index();
+			index.setName("index_ft_drafts");
+			index.setFullText(true);
+			index.setColumns(Collections.singletonList(title));
+			Assertions.assertThrows(IllegalArgumentException.class, () -> draftsTable.fullTextCondition(index, "text"));
+		} finally {
+			databaseStorage.deleteSpace("drafts");
+		}
+	}
+
+	@Test
+	@Order(10)
+	void createCompositeAndPartialIndexes() {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.BIGINT);
+		id.setNullable(false);
+
+		Column customer = new Column();
+		customer.setName("customer");
+		customer.setType(ColumnType.VARCHAR);
+		customer.setNullable(true);
+
+		Column number = new Column();
+		number.setName("number");
+		number.setType(ColumnType.INTEGER);
+		number.setNullable(true);
+
+		Column status = new Column();
+		status.setName("status");
+		status.setType(ColumnType.VARCHAR);
+		status.setNullable(true);
+
+		databaseStorage.createSpace("invoices", null, Arrays.asList(id, customer, number, status));
+		Table invoicesTable = databaseStorage.getSpace("invoices").orElseGet(() -> null);
+		Assertions.assertNotNull(invoicesTable);
+		try {
+			// Составной уникальный индекс с обратным порядком сортировки второй колонки
+			Index uniqueIndex = new Index();
+			uniqueIndex.setName("index_invoices_customer_number");
+			uniqueIndex.setUnique(true);
+			uniqueIndex.addColumn(customer);
+			uniqueIndex.addColumn(number, true);
+			databaseStorage.createIndex("invoices", uniqueIndex);
+
+			Row row = new Row(invoicesTable.getProperties());
+			row.setValue("id", 1L);
+			row.setValue("customer", "ACME");
+			row.setValue("number", 1);
+			invoicesTable.createElement(row);
+			Row duplicate = new Row(invoicesTable.getProperties());
+			duplicate.setValue("id", 2L);
+			duplicate.setValue("customer", "ACME");
+			duplicate.setValue("number", 1);
+			Assertions.assertThrows(CreateRowException.class, () -> invoicesTable.createElement(duplicate));
+
+			// H2 не поддерживает частичные индексы: уникальный частичный индекс не создается молча без ограничения
+			Index partialUniqueIndex = new Index();
+			partialUniqueIndex.setName("index_invoices_open_number");
+			partialUniqueIndex.setUnique(true);
+			partialUniqueIndex.addColumn(number);
+			partialUniqueIndex.setPredicate("status = 'open'");
+			Assertions.assertThrows(CreateTableException.class, () -> databaseStorage.createIndex("invoices", partialUniqueIndex));
+
+			// Неуникальный частичный индекс строится по всем строкам (с предупреждением)
+			Index partialIndex = new Index();
+			partialIndex.setName("index_invoices_open_customer");
+			partialIndex.addColumn(customer);
+			partialIndex.setPredicate("status = 'open'");
+			partialIndex.setIncludedColumns(Collections.singletonList(status));
+			databaseStorage.createIndex("invoices", partialIndex);
+
+			// PostgreSQL поддерживает частичные и покрывающие индексы
+			Assertions.assertEquals("CREATE UNIQUE INDEX IF NOT EXISTS index_invoices_open_number ON invoices (number) WHERE status = 'open'",
+			                        new PostgreSQLDatabaseQueryBuilder().queryForCreateSpaceIndex("invoices", partialUniqueIndex));
+			Assertions.assertEquals("CREATE INDEX IF NOT EXISTS index_invoices_open_customer ON invoices (customer) INCLUDE (status) WHERE status = 'open'",
+			                        new PostgreSQLDatabaseQueryBuilder().queryForCreateSpaceIndex("invoices", partialIndex));
+		} finally {
+			databaseStorage.deleteSpace("invoices");
+		}
+	}
+
+	@Test
+	@Order(11)
+	void createTableWithIndexesInParallel() {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.BIGINT);
+		id.setNullable(false);
+
+		Column code = new Column();
+		code.setName("code");
+		code.setType(ColumnType.VARCHAR);
+		code.setNullable(true);
+
+		Column amount = new Column();
+		amount.setName("amount");
+		amount.setType(ColumnType.INTEGER);
+		amount.setNullable(true);
+
+		Index codeIndex = new Index();
+		codeIndex.setName("index_payments_code");
+		codeIndex.setUnique(true);
+		codeIndex.addColumn(code);
+
+		Index amountIndex = new Index();
+		amountIndex.setName("index_payments_amount");
+		amountIndex.addColumn(amount);
+
+		Table table = new Table(databaseStorage.getDataSource(), databaseStorage.getQueryBuilder(), "payments",
+		                        Arrays.asList(id, code, amount), Arrays.asList(codeIndex, amountIndex));
+		List<long[]> progress = new ArrayList<>();
+		// H2 не поддерживает неблокирующее создание Индексов - DDL выполняется через одно соединение, прогресс сообщается один раз
+		databaseStorage.createSpace(table, 2, (done, total) -> progress.add(new long[]{done, total}));
+		try {
+			Assertions.assertEquals(1, progress.size());
+			Assertions.assertArrayEquals(new long[]{2, 2}, progress.get(0));
+
+			Table paymentsTable = databaseStorage.getSpace("payments").orElse(null);
+			Assertions.assertNotNull(paymentsTable);
+			Row row = new Row(paymentsTable.getProperties());
+			row.setValue("id", 1L);
+			row.setValue("code", "P-1");
+			paymentsTable.createElement(row);
+			Row duplicate = new Row(paymentsTable.getProperties());
+			duplicate.setValue("id", 2L);
+			duplicate.setValue("code", "P-1");
+			Assertions.assertThrows(CreateRowException.class, () -> paymentsTable.createElement(duplicate));
+		} finally {
+			databaseStorage.deleteSpace("payments");
+		}
+
+		// PostgreSQL создает и удаляет Индексы без блокировки записи
+		PostgreSQLDatabaseQueryBuilder postgreSQLQueryBuilder = new PostgreSQLDatabaseQueryBuilder();
+		Assertions.assertEquals("CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS index_payments_code ON payments (code)",
+		                        postgreSQLQueryBuilder.queryForCreateSpaceIndexConcurrently(postgreSQLQueryBuilder.queryForCreateSpaceIndex("payments", codeIndex)));
+		Assertions.assertEquals("DROP INDEX CONCURRENTLY IF EXISTS index_payments_code",
+		                        postgreSQLQueryBuilder.queryForDeleteSpaceIndexConcurrently(postgreSQLQueryBuilder.queryForDeleteSpaceIndex("payments", "index_payments_code")));
+		Assertions.assertNull(databaseStorage.getQueryBuilder().queryForCreateSpaceIndexConcurrently("CREATE INDEX index_payments_amount ON payments (amount)"));
+		Assertions.assertNull(databaseStorage.getQueryBuilder().queryForDeleteSpaceIndexConcurrently("DROP INDEX IF EXISTS index_payments_amount"));
+	}
+
+	@Test
+	@Order(12)
+	void migrateTable() {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.BIGINT);
+		id.setNullable(false);
+
+		Column name = new Column();
+		name.setName("name");
+		name.setType(ColumnType.VARCHAR);
+		name.setSize(50);
+		name.setNullable(true);
+
+		Column code = new Column();
+		code.setName("code");
+		code.setType(ColumnType.VARCHAR);
+		code.setSize(100);
+		code.setNullable(true);
+
+		Column score = new Column();
+		score.setName("score");
+		score.setType(ColumnType.INTEGER);
+		score.setNullable(true);
+
+		databaseStorage.createSpace("customers", null, Arrays.asList(id, name, code, score));
+		Table customersTable = databaseStorage.getSpace("customers").orElse(null);
+		Assertions.assertNotNull(customersTable);
+		try {
+			for (long i = 1; i <= 5; i++) {
+				Row row = new Row(customersTable.getProperties());
+				row.setValue("id", i);
+				row.setValue("name", "Customer " + i);
+				customersTable.createElement(row);
+			}
+
+			// Требуемое описание: расширение VARCHAR и INTEGER, сужение VARCHAR, две новые Колонки NOT NULL (со значением по-умолчанию и без него)
+			Column widerName = new Column();
+			widerName.setName("name");
+			widerName.setType(ColumnType.VARCHAR);
+			widerName.setSize(100);
+			widerName.setNullable(true);
+
+			Column narrowerCode = new Column();
+			narrowerCode.setName("code");
+			narrowerCode.setType(ColumnType.VARCHAR);
+			narrowerCode.setSize(50);
+			narrowerCode.setNullable(true);
+
+			Column widerScore = new Column();
+			widerScore.setName("score");
+			widerScore.setType(ColumnType.BIGINT);
+			widerScore.setNullable(true);
+
+			Column tier = new Column();
+			tier.setName("tier");
+			tier.setType(ColumnType.INTEGER);
+			tier.setNullable(false);
+			tier.setDefaultValue(1);
+
+			Column note = new Column();
+			note.setName("note");
+			note.setType(ColumnType.VARCHAR);
+			note.setNullable(false);
+
+			Index nameIndex = new Index();
+			nameIndex.setName("index_customers_name");
+			nameIndex.addColumn(widerName);
+
+			Table desiredTable = new Table(databaseStorage.getDataSource(), databaseStorage.getQueryBuilder(), "customers",
+			                               Arrays.asList(id, widerName, narrowerCode, widerScore, tier, note), Collections.singletonList(nameIndex));
+			MigrationPlan plan = databaseStorage.planMigration(desiredTable);
+			Assertions.assertFalse(plan.isCreateTable());
+			Assertions.assertTrue(plan.getWarnings().stream().anyMatch(warning -> warning.contains("<code>") && warning.contains("сужение")));
+			Assertions.assertTrue(plan.getWarnings().stream().anyMatch(warning -> warning.contains("<score>") && warning.contains("перезаписи")));
+			Assertions.assertTrue(plan.getWarnings().stream().anyMatch(warning -> warning.contains("<note>") && warning.contains("NOT NULL")));
+			Assertions.assertEquals(Collections.singletonList(tier), plan.getBackfillColumns());
+			Assertions.assertEquals(1, plan.getNotNullQueries().size());
+			Assertions.assertEquals(Collections.singletonList(nameIndex), plan.getIndexes());
+
+			List<long[]> progress = new ArrayList<>();
+			databaseStorage.migrate(plan, 2, 0, 1, (done, total) -> progress.add(new long[]{done, total}));
+			Assertions.assertArrayEquals(new long[]{plan.getStepCount(), plan.getStepCount()}, progress.get(progress.size() - 1));
+
+			Table migratedTable = databaseStorage.getSpace("customers").orElse(null);
+			Assertions.assertNotNull(migratedTable);
+			List<Row> rows = migratedTable.getElements();
+			Assertions.assertEquals(5, rows.size());
+			rows.forEach(row -> Assertions.assertEquals(1, ((Number) row.getValue("tier").orElse(null)).intValue()));
+			// Колонка без значения по-умолчанию добавлена, но ограничение NOT NULL для нее не установлено
+			Assertions.assertTrue(migratedTable.getColumns().stream().anyMatch(column -> column.getName().equalsIgnoreCase("note") && column.isNullable()));
+			Assertions.assertTrue(migratedTable.getColumns().stream().anyMatch(column -> column.getName().equalsIgnoreCase("tier") && !column.isNullable()));
+			// Перечень Индексов содержит и неуникальные Индексы
+			Assertions.assertTrue(migratedTable.getIndexes().stream().anyMatch(index -> index.getName().equalsIgnoreCase("index_customers_name") && !index.isUnique()));
+
+			// Повторное планирование не находит изменений, кроме тех, что не устраняются автоматически
+			MigrationPlan repeatedPlan = databaseStorage.planMigration(desiredTable);
+			Assertions.assertTrue(repeatedPlan.isEmpty());
+		} finally {
+			databaseStorage.deleteSpace("customers");
+		}
+
+		// PostgreSQL устанавливает NOT NULL через предварительно проверенное ограничение CHECK
+		Assertions.assertEquals(Arrays.asList("ALTER TABLE customers DROP CONSTRAINT IF EXISTS customers_tier_not_null",
+		                                      "ALTER TABLE customers ADD CONSTRAINT customers_tier_not_null CHECK (tier IS NOT NULL) NOT VALID",
+		                                      "ALTER TABLE customers VALIDATE CONSTRAINT customers_tier_not_null",
+		                                      "ALTER TABLE customers ALTER COLUMN tier SET NOT NULL",
+		                                      "ALTER TABLE customers DROP CONSTRAINT customers_tier_not_null"),
+		                        new PostgreSQLDatabaseQueryBuilder().queryForSetSpacePropertyNotNull("customers", "tier"));
+	}
+
 }
@@ -1,8 +1,46 @@
 package ru.rds.data.database;
 
+import com.sun.management.ThreadMXBean;
 import com.zaxxer.hikari.HikariDataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.junit.jupiter.api.*;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import ru.rds.data.database.async.AsyncExecutors;
+import ru.rds.data.database.async.AsyncTable;
+import ru.rds.data.database.common.Pair;
+import ru.rds.data.database.conditions.ColumnCondition;
+import ru.rds.data.database.conditions.Condition;
+import ru.rds.data.database.conditions.ConditionOperator;
+import ru.rds.data.database.conditions.InListStrategy;
+import ru.rds.data.database.conditions.JsonCondition;
+import ru.rds.data.database.exceptions.DeleteRowException;
+import ru.rds.data.database.exceptions.ReadRowException;
+import ru.rds.data.database.exceptions.StaleRowException;
+import ru.rds.data.database.exceptions.UpdateRowException;
+import ru.rds.data.database.generators.HiLoGenerator;
+import ru.rds.data.database.generators.UuidV7Generator;
+import ru.rds.data.database.types.ColumnCodec;
+import ru.rds.data.database.types.SqlArray;
 import ru.rds.data.storage.ElementsSelectionCondition;
 import ru.rds.data.storage.SelectionConditionExpression;
 import ru.rds.data.storage.SelectionType;
@@ -11,7 +49,8 @@ import ru.rds.data.storage.SelectionType;
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
 public class TableTest {
 
-	private static Table table;
+	private static DatabaseStorage databaseStorage;
+	private static Table           table;
 
 	@BeforeAll
 	static void init() {
@@ -23,7 +62,7 @@ public class TableTest {
 
 		DatabaseQueryBuilder databaseQueryBuilder = new H2DatabaseQueryBuilder();
 
-		DatabaseStorage databaseStorage = new DatabaseStorage(dataSource, databaseQueryBuilder);
+		databaseStorage = new DatabaseStorage(dataSource, databaseQueryBuilder);
 		createTable(databaseStorage);
 		table = databaseStorage.getSpace("tasks").orElseGet(() -> null);
 		Assertions.assertNotNull(table);
@@ -156,8 +195,21 @@ public class TableTest {
 	}
 
 	@Test
-	@DisplayName("Удаление строки")
+	@DisplayName("Получение строк с проекцией на часть колонок")
 	@Order(7)
+	void getRowsProjection() {
+		List<Row> rows = table.getElements(Arrays.asList("id", "name"), null, null, null, 0, 0);
+		Assertions.assertEquals(1, rows.size());
+
+		Row firstRow = rows.get(0);
+		Assertions.assertEquals(2, firstRow.getSpaceProperties().size());
+		Assertions.assertEquals("Updated task name", firstRow.getValue("name").orElseGet(() -> null));
+		Assertions.assertFalse(firstRow.getValues().containsKey("description"));
+	}
+
+	@Test
+	@DisplayName("Удаление строки")
+	@Order(8)
 	void deleteRow() {
 		ElementsSelectionCondition condition = new ElementsSelectionCondition();
 		condition.setSpacePropertyName("id");
@@ -172,4 +224,1063 @@ public class TableTest {
 		Assertions.assertEquals(0, rows.size());
 	}
 
+	@Test
+	@DisplayName("Проверка наличия строк (в соответствии с условиями)")
+	@Order(9)
+	void existsRows() {
+		Row row = new Row(table.getProperties());
+		row.setValue("id", "f1b3c6a2-5d0e-4e7a-9c1b-2a4d6e8f0a1c");
+		row.setValue("name", "Existing task");
+		row.setValue("version", 1);
+		table.createElement(row);
+
+		ElementsSelectionCondition condition = new ElementsSelectionCondition();
+		condition.setSpacePropertyName("id");
+		condition.setSpacePropertyValue("f1b3c6a2-5d0e-4e7a-9c1b-2a4d6e8f0a1c");
+		condition.setSelectionConditionExpression(SelectionConditionExpression.EQUAL);
+
+		Assertions.assertTrue(table.exists(Collections.singletonList(condition)));
+
+		table.deleteElements(Collections.singletonList(condition));
+
+		Assertions.assertFalse(table.exists(Collections.singletonList(condition)));
+	}
+
+	@Test
+	@DisplayName("Вычисление агрегатов с группировкой")
+	@Order(10)
+	void aggregateRows() {
+		for (int version = 1; version <= 3; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Aggregated task");
+			row.setValue("version", version);
+			table.createElement(row);
+		}
+
+		ElementsSelectionCondition condition = new ElementsSelectionCondition();
+		condition.setSpacePropertyName("name");
+		condition.setSpacePropertyValue("Aggregated task");
+		condition.setSelectionConditionExpression(SelectionConditionExpression.EQUAL);
+
+		List<Row> rows = table.aggregate(Collections.singletonList("name"), Arrays.asList(Aggregate.count("total"), Aggregate.sum("version", null), Aggregate.max("version", "last_version")),
+		                                 Collections.singletonList(condition), SelectionType.AND);
+		Assertions.assertEquals(1, rows.size());
+
+		Row firstRow = rows.get(0);
+		Assertions.assertEquals("Aggregated task", firstRow.getValue("name").orElseGet(() -> null));
+		Assertions.assertEquals(3L, ((Number) firstRow.getValue("total").orElseGet(() -> 0)).longValue());
+		Assertions.assertEquals(6L, ((Number) firstRow.getValue("sum_version").orElseGet(() -> 0)).longValue());
+		Assertions.assertEquals(3L, ((Number) firstRow.getValue("last_version").orElseGet(() -> 0)).longValue());
+
+		table.deleteElements(Collections.singletonList(condition));
+	}
+
+	@Test
+	@DisplayName("Получение строк по дереву условий")
+	@Order(11)
+	void getRowsByConditionTree() {
+		for (int version = 1; version <= 3; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Tree task " + version);
+			row.setValue("description", version == 2 ? null : "Tree description");
+			row.setValue("version", version);
+			table.createElement(row);
+		}
+
+		Condition condition = Condition.and(Condition.startsWith("name", "Tree"), Condition.or(Condition.equal("version", 1), Condition.isNull("description")));
+
+		List<Row> rows = table.getElements(condition);
+		Assertions.assertEquals(2, rows.size());
+		Assertions.assertEquals(1, table.getElementsCount(Condition.and(Condition.startsWith("name", "Tree"), Condition.not(Condition.between("version", 1, 2)))));
+
+		table.deleteElements(Condition.startsWith("name", "Tree"));
+		Assertions.assertFalse(table.exists(Condition.startsWith("name", "Tree")));
+	}
+
+	@Test
+	@DisplayName("Порционное обновление и удаление строк")
+	@Order(12)
+	void updateAndDeleteRowsInChunks() {
+		for (int version = 1; version <= 5; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Chunked task");
+			row.setValue("version", version);
+			table.createElement(row);
+		}
+
+		Row values = new Row(Collections.emptyList());
+		values.setValue("description", "Chunked description");
+		ChunkedExecution execution = new ChunkedExecution(2, 0);
+		Assertions.assertEquals(5, table.updateElements(values, Condition.equal("name", "Chunked task"), execution));
+		Assertions.assertNotNull(execution.getLastKey());
+		Assertions.assertEquals(5, table.getElementsCount(Condition.equal("description", "Chunked description")));
+
+		Assertions.assertEquals(5, table.deleteElements(Condition.equal("name", "Chunked task"), new ChunkedExecution(2, 0)));
+		Assertions.assertFalse(table.exists(Condition.equal("name", "Chunked task")));
+
+		// Без положительного размера диапазона обработка одним запросом не допускается
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new ChunkedExecution(0, 0));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new H2DatabaseQueryBuilder().queryForSelectChunkBoundary("tasks", Collections.singletonList("id"), null, 0));
+	}
+
+	@Test
+	@DisplayName("Пакетное обновление строк по первичному ключу с проверкой версии")
+	@Order(13)
+	void updateRowsById() {
+		List<Row> rows = new ArrayList<>();
+		for (int number = 1; number <= 3; number++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Batch task");
+			row.setValue("version", 1);
+			table.createElement(row);
+
+			Row changes = new Row(table.getProperties());
+			changes.setValue("id", row.getValue("id").orElseGet(() -> null));
+			changes.setValue("description", "Batch description " + number);
+			changes.setValue("version", 1);
+			rows.add(changes);
+		}
+
+		Assertions.assertEquals(3, table.updateElementsById(rows, "version"));
+		Assertions.assertEquals(2, rows.get(0).getValue("version").orElseGet(() -> null));
+		Assertions.assertEquals(1, table.getElementsCount(Condition.and(Condition.equal("description", "Batch description 2"), Condition.equal("version", 2))));
+
+		Row stale = new Row(table.getProperties());
+		stale.setValue("id", rows.get(0).getValue("id").orElseGet(() -> null));
+		stale.setValue("description", "Stale description");
+		stale.setValue("version", 1);
+		Assertions.assertThrows(StaleRowException.class, () -> table.updateElementsById(Collections.singletonList(stale), "version"));
+
+		table.deleteElements(Condition.equal("name", "Batch task"));
+	}
+
+	@Test
+	@DisplayName("Массовое применение изменений через промежуточную таблицу")
+	@Order(14)
+	void mergeRows() {
+		Row unchanged = new Row(table.getProperties());
+		unchanged.setValue("id", UUID.randomUUID().toString());
+		unchanged.setValue("name", "Merged task");
+		unchanged.setValue("version", 1);
+		table.createElement(unchanged);
+
+		Row changed = new Row(table.getProperties());
+		changed.setValue("id", UUID.randomUUID().toString());
+		changed.setValue("name", "Merged task");
+		changed.setValue("version", 1);
+		table.createElement(changed);
+
+		Row changedValues = new Row(table.getProperties());
+		changedValues.setValue("id", changed.getValue("id").orElseGet(() -> null));
+		changedValues.setValue("name", "Merged task");
+		changedValues.setValue("version", 2);
+
+		Row created = new Row(table.getProperties());
+		created.setValue("id", UUID.randomUUID().toString());
+		created.setValue("name", "Merged task");
+		created.setValue("version", 1);
+
+		List<String> columnNames = Arrays.asList("id", "name", "version");
+		Assertions.assertEquals(2, table.mergeElements(Arrays.asList(unchanged, changedValues, created), columnNames, false));
+		Assertions.assertEquals(3, table.getElementsCount(Condition.equal("name", "Merged task")));
+		Assertions.assertEquals(1, table.getElementsCount(Condition.and(Condition.equal("name", "Merged task"), Condition.equal("version", 2))));
+
+		table.deleteElements(Condition.equal("name", "Merged task"));
+	}
+
+	@Test
+	@DisplayName("Обновление только изменившихся значений строки")
+	@Order(15)
+	void updateChangedValues() {
+		Row row = new Row(table.getProperties());
+		row.setValue("id", UUID.randomUUID().toString());
+		row.setValue("name", "Tracked task");
+		row.setValue("version", 1);
+		table.createElement(row);
+
+		Row loadedRow = table.getElements(Condition.equal("name", "Tracked task")).get(0);
+		Assertions.assertTrue(loadedRow.isTracked());
+		Assertions.assertFalse(loadedRow.isChanged());
+		Assertions.assertFalse(table.updateElement(loadedRow));
+
+		loadedRow.setValue("version", 1);
+		loadedRow.setValue("description", "Tracked description");
+		Assertions.assertEquals(Collections.singleton("description"), loadedRow.getChangedColumnNames());
+		Assertions.assertTrue(table.updateElement(loadedRow));
+		Assertions.assertFalse(loadedRow.isChanged());
+		Assertions.assertTrue(table.exists(Condition.equal("description", "Tracked description")));
+
+		table.deleteElements(Condition.equal("name", "Tracked task"));
+	}
+
+	@Test
+	@DisplayName("Пакетное создание строк")
+	@Order(16)
+	void createRows() {
+		List<Row> rows = new ArrayList<>();
+		for (int version = 1; version <= 3; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Batch created task");
+			row.setValue("version", version);
+			rows.add(row);
+		}
+
+		List<Row> createdRows = table.createElements(rows);
+		Assertions.assertEquals(3, createdRows.size());
+		Assertions.assertTrue(createdRows.stream().allMatch(row -> row.isTracked() && !row.isChanged()));
+		Assertions.assertEquals(3, table.getElementsCount(Condition.equal("name", "Batch created task")));
+
+		table.deleteElements(Condition.equal("name", "Batch created task"));
+
+		// Обновление отсутствующей Строки не сбрасывает отметки об изменениях
+		Row missingRow = createdRows.get(0);
+		missingRow.setValue("description", "Not saved");
+		Assertions.assertFalse(table.updateElement(missingRow));
+		Assertions.assertTrue(missingRow.isChanged());
+
+		// Значения, сформированные БД (IDENTITY), устанавливаются в созданные Строки
+		try (Connection connection = databaseStorage.getDataSource().getConnection(); Statement statement = connection.createStatement()) {
+			statement.execute("CREATE TABLE counters (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, name VARCHAR(50))");
+		} catch (SQLException e) {
+			Assertions.fail(e);
+		}
+		try {
+			Table countersTable = databaseStorage.getSpace("counters").orElse(null);
+			Assertions.assertNotNull(countersTable);
+			List<Row> counterRows = new ArrayList<>();
+			for (int i = 1; i <= 3; i++) {
+				Row row = new Row(countersTable.getProperties());
+				row.setValue("name", "Counter " + i);
+				counterRows.add(row);
+			}
+			countersTable.createElements(counterRows);
+			Set<Long> generatedIds = new HashSet<>();
+			counterRows.forEach(row -> generatedIds.add(((Number) row.getValue("id").orElseThrow(AssertionError::new)).longValue()));
+			Assertions.assertEquals(3, generatedIds.size());
+
+			Row row = new Row(countersTable.getProperties());
+			row.setValue("name", "Counter 4");
+			countersTable.createElement(row);
+			long id = ((Number) row.getValue("id").orElseThrow(AssertionError::new)).longValue();
+			Assertions.assertFalse(generatedIds.contains(id));
+			Assertions.assertEquals("Counter 4", countersTable.getElements(Condition.equal("id", id)).get(0).getValue("name").orElse(null));
+		} finally {
+			databaseStorage.deleteSpace("counters");
+		}
+	}
+
+	@Test
+	@DisplayName("Генерация упорядоченных по времени идентификаторов")
+	@Order(17)
+	void createRowsWithGeneratedIds() {
+		table.setIdGenerator("id", new UuidV7Generator());
+		try {
+			List<String> ids = new ArrayList<>();
+			for (int version = 1; version <= 3; version++) {
+				Row row = new Row(table.getProperties());
+				row.setValue("name", "Generated task");
+				row.setValue("version", version);
+				table.createElement(row);
+				ids.add((String) row.getValue("id").orElseGet(() -> null));
+			}
+
+			Assertions.assertEquals(3, table.getElementsCount(Condition.in("id", ids)));
+			List<String> sortedIds = new ArrayList<>(ids);
+			Collections.sort(sortedIds);
+			Assertions.assertEquals(sortedIds, ids);
+		} finally {
+			table.setIdGenerator("id", null);
+			table.deleteElements(Condition.equal("name", "Generated task"));
+		}
+	}
+
+	@Test
+	@DisplayName("Отбор по большому перечню значений IN")
+	@Order(18)
+	void selectRowsByLargeInList() {
+		List<Row> rows = new ArrayList<>();
+		List<Object> ids = new ArrayList<>();
+		for (int version = 1; version <= 25; version++) {
+			Row row = new Row(table.getProperties());
+			String id = UUID.randomUUID().toString();
+			row.setValue("id", id);
+			row.setValue("name", "Listed task");
+			row.setValue("version", version);
+			rows.add(row);
+			ids.add(id);
+		}
+		table.createElements(rows);
+		ids.add(UUID.randomUUID().toString());
+
+		try {
+			// Без параметров-массивов: 26 значений при ограничении в 10 параметров - выполнение по частям
+			Table chunkedTable = new DatabaseStorage(table.getDataSource(), new H2DatabaseQueryBuilder() {
+				@Override
+				public int getMaxParameterCount() {
+					return 10;
+				}
+
+				@Override
+				protected boolean isArrayParameterSupported() {
+					return false;
+				}
+			}).getSpace("tasks").orElseGet(() -> null);
+			Assertions.assertNotNull(chunkedTable);
+			Assertions.assertEquals(InListStrategy.CHUNKS, chunkedTable.getQueryBuilder().planInList(ids.size()));
+			Assertions.assertEquals(25, chunkedTable.getElements(Condition.in("id", ids)).size());
+			Assertions.assertEquals(25, chunkedTable.getElementsCount(Condition.and(Condition.equal("name", "Listed task"), Condition.in("id", ids))));
+
+			// 26 значений при ограничении в 2 параметра - через временную Таблицу
+			Table valuesTable = new DatabaseStorage(table.getDataSource(), new H2DatabaseQueryBuilder() {
+				@Override
+				public int getMaxParameterCount() {
+					return 2;
+				}
+
+				@Override
+				protected boolean isArrayParameterSupported() {
+					return false;
+				}
+			}).getSpace("tasks").orElseGet(() -> null);
+			Assertions.assertNotNull(valuesTable);
+			Assertions.assertEquals(InListStrategy.TEMPORARY_TABLE, valuesTable.getQueryBuilder().planInList(ids.size()));
+			Assertions.assertEquals(25, valuesTable.getElementsCount(Condition.in("id", ids)));
+			Assertions.assertEquals(0, valuesTable.getElementsCount(Condition.and(Condition.equal("name", "Listed task"), Condition.notIn("id", ids))));
+
+			// Проверка наличия завершается на первой части, в которой найдены Строки; сбой в любой части изменения отменяет все части
+			AtomicInteger existsQueries = new AtomicInteger();
+			AtomicInteger updateQueries = new AtomicInteger();
+			Table failingTable = new DatabaseStorage(table.getDataSource(), new H2DatabaseQueryBuilder() {
+				@Override
+				public int getMaxParameterCount() {
+					return 10;
+				}
+
+				@Override
+				protected boolean isArrayParameterSupported() {
+					return false;
+				}
+
+				@Override
+				public Pair<String, List<Object>> queryForExistsRows(String tableName, Condition condition) {
+					existsQueries.incrementAndGet();
+					return super.queryForExistsRows(tableName, condition);
+				}
+
+				@Override
+				public Pair<String, List<Object>> queryForUpdateRow(String tableName, List<String> columnNames, Condition condition) {
+					Pair<String, List<Object>> query = super.queryForUpdateRow(tableName, columnNames, condition);
+					// Первым формируется запрос по всему перечню, затем по частям - вторая часть завершается ошибкой
+					return updateQueries.incrementAndGet() == 3 ? new Pair<>(query.getFirst().replace("UPDATE tasks", "UPDATE missing_tasks"), query.getSecond()) : query;
+				}
+			}).getSpace("tasks").orElseGet(() -> null);
+			Assertions.assertNotNull(failingTable);
+			Assertions.assertTrue(failingTable.exists(Condition.in("id", ids)));
+			// Запрос по всему перечню (превышает ограничение и не выполняется) и запрос по первой части
+			Assertions.assertEquals(2, existsQueries.get());
+
+			Row values = new Row(Collections.emptyList());
+			values.setValue("description", "Partially updated");
+			Assertions.assertThrows(UpdateRowException.class, () -> failingTable.updateElements(values, Condition.in("id", ids)));
+			Assertions.assertEquals(3, updateQueries.get());
+			Assertions.assertFalse(table.exists(Condition.equal("description", "Partially updated")));
+
+			// С параметрами-массивами перечень передается одним параметром
+			Assertions.assertEquals(InListStrategy.ARRAY, table.getQueryBuilder().planInList(ids.size()));
+			Assertions.assertEquals(25, table.getElementsCount(Condition.in("id", ids)));
+		} finally {
+			table.deleteElements(Condition.equal("name", "Listed task"));
+		}
+	}
+
+	@Test
+	@DisplayName("Асинхронные операции")
+	@Order(19)
+	void asyncOperations() {
+		AsyncTable asyncTable = new AsyncTable(table, 2);
+		List<CompletableFuture<Row>> creations = new ArrayList<>();
+		for (int version = 1; version <= 5; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Async task");
+			row.setValue("version", version);
+			creations.add(asyncTable.createElement(row));
+		}
+		CompletableFuture.allOf(creations.toArray(new CompletableFuture[0])).join();
+
+		Assertions.assertEquals(5L, asyncTable.getElementsCount(Condition.equal("name", "Async task")).join());
+		Assertions.assertTrue(asyncTable.exists(Condition.equal("name", "Async task")).join());
+
+		asyncTable.deleteElements(Condition.equal("name", "Async task")).join();
+		Assertions.assertFalse(asyncTable.exists(Condition.equal("name", "Async task")).join());
+	}
+
+	@Test
+	@DisplayName("Получение строк через Reactive Streams")
+	@Order(20)
+	void publishRows() throws Exception {
+		for (int version = 1; version <= 5; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Published task");
+			row.setValue("version", version);
+			table.createElement(row);
+		}
+
+		try {
+			// Строки запрашиваются по две
+			CompletableFuture<List<Row>> received = new CompletableFuture<>();
+			table.publish(Collections.singletonList("id"), null, Condition.equal("name", "Published task"), 2, AsyncExecutors.defaultExecutor())
+			     .subscribe(new Subscriber<Row>() {
+				     private final List<Row> rows = new ArrayList<>();
+				     private Subscription subscription;
+
+				     @Override
+				     public void onSubscribe(Subscription subscription) {
+					     this.subscription = subscription;
+					     subscription.request(2);
+				     }
+
+				     @Override
+				     public void onNext(Row row) {
+					     rows.add(row);
+					     if (rows.size() % 2 == 0) {
+						     subscription.request(2);
+					     }
+				     }
+
+				     @Override
+				     public void onError(Throwable throwable) {
+					     received.completeExceptionally(throwable);
+				     }
+
+				     @Override
+				     public void onComplete() {
+					     received.complete(rows);
+				     }
+			     });
+			List<Row> rows = received.get(10, TimeUnit.SECONDS);
+			Assertions.assertEquals(5, rows.size());
+			Assertions.assertTrue(rows.get(0).getValue("id").isPresent());
+
+			// Отмена подписки после первой Строки
+			CompletableFuture<Row> first = new CompletableFuture<>();
+			table.publish(Condition.equal("name", "Published task")).subscribe(new Subscriber<Row>() {
+				private Subscription subscription;
+
+				@Override
+				public void onSubscribe(Subscription subscription) {
+					this.subscription = subscription;
+					subscription.request(1);
+				}
+
+				@Override
+				public void onNext(Row row) {
+					subscription.cancel();
+					first.complete(row);
+				}
+
+				@Override
+				public void onError(Throwable throwable) {
+					first.completeExceptionally(throwable);
+				}
+
+				@Override
+				public void onComplete() {
+					first.completeExceptionally(new IllegalStateException("Подписка должна быть отменена"));
+				}
+			});
+			Assertions.assertNotNull(first.get(10, TimeUnit.SECONDS));
+		} finally {
+			table.deleteElements(Condition.equal("name", "Published task"));
+		}
+	}
+
+	@Test
+	@DisplayName("Обход строк через переиспользуемый курсор")
+	@Order(21)
+	void scanRows() {
+		for (int version = 1; version <= 4; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Scanned task");
+			row.setValue("version", version);
+			table.createElement(row);
+		}
+
+		try {
+			long[] sum = new long[1];
+			RowCursor[] cursors = new RowCursor[2];
+			long count = table.scan(Arrays.asList("name", "version"), Condition.equal("name", "Scanned task"), 2, cursor -> {
+				Assertions.assertEquals("Scanned task", cursor.getString(0));
+				sum[0] += cursor.getLong(1);
+				cursors[cursor.getRowNumber() == 0 ? 0 : 1] = cursor;
+			});
+			Assertions.assertEquals(4, count);
+			Assertions.assertEquals(10, sum[0]);
+			Assertions.assertSame(cursors[0], cursors[1]);
+
+			// Прекращение обхода после второй Строки
+			List<Row> rows = new ArrayList<>();
+			count = table.scan(Condition.equal("name", "Scanned task"), cursor -> {
+				rows.add(cursor.toRow());
+				if (cursor.getRowNumber() == 1) {
+					cursor.stop();
+				}
+			});
+			Assertions.assertEquals(2, count);
+			Assertions.assertTrue(rows.get(1).getValue("id").isPresent());
+		} finally {
+			table.deleteElements(Condition.equal("name", "Scanned task"));
+		}
+	}
+
+	@Test
+	@DisplayName("Параллельный обход строк по частям первичного ключа")
+	@Order(22)
+	void parallelScanRows() {
+		for (int version = 1; version <= 20; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Parallel task");
+			row.setValue("version", version);
+			table.createElement(row);
+		}
+
+		try {
+			AtomicLong sum = new AtomicLong();
+			Set<Integer> partitions = ConcurrentHashMap.newKeySet();
+			long count = table.parallelScan(Collections.singletonList("version"), Condition.equal("name", "Parallel task"), 4, 5, AsyncExecutors.defaultExecutor(), cursor -> {
+				sum.addAndGet(cursor.getLong(0));
+				partitions.add(cursor.getPartition());
+			});
+			Assertions.assertEquals(20, count);
+			Assertions.assertEquals(210, sum.get());
+			Assertions.assertEquals(4, partitions.size());
+
+			// Вызов из задачи общего исполнителя: части обходятся в отдельном исполнителе, без взаимной блокировки
+			long defaultCount = CompletableFuture.supplyAsync(() -> table.parallelScan(Condition.equal("name", "Parallel task"), 4, cursor -> {
+			}), AsyncExecutors.defaultExecutor()).join();
+			Assertions.assertEquals(20, defaultCount);
+
+			if (!AsyncExecutors.isVirtualThreads()) {
+				// Общий исполнитель из его же потока отклоняется
+				CompletionException error = Assertions.assertThrows(CompletionException.class, () -> CompletableFuture.runAsync(() -> table.parallelScan(null, null, 4, 5, AsyncExecutors.defaultExecutor(), cursor -> {
+				}), AsyncExecutors.defaultExecutor()).join());
+				Assertions.assertTrue(error.getCause() instanceof IllegalArgumentException);
+			}
+		} finally {
+			table.deleteElements(Condition.equal("name", "Parallel task"));
+		}
+	}
+
+	@Test
+	@DisplayName("Отложенная загрузка объемных колонок")
+	@Order(23)
+	void loadLargeColumnsLazily() {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.VARCHAR);
+		id.setSize(36);
+		id.setNullable(false);
+
+		Column body = new Column();
+		body.setName("body");
+		body.setType(ColumnType.TEXT);
+		body.setNullable(true);
+
+		databaseStorage.createSpace("notes", null, Arrays.asList(id, body));
+		Table notesTable = databaseStorage.getSpace("notes").orElseGet(() -> null);
+		Assertions.assertNotNull(notesTable);
+		try {
+			for (int number = 1; number <= 3; number++) {
+				Row row = new Row(notesTable.getProperties());
+				row.setValue("id", "note-" + number);
+				row.setValue("body", "Body of note " + number);
+				notesTable.createElement(row);
+			}
+
+			notesTable.setLazyLargeColumns(true);
+			List<Row> rows = notesTable.getElements((Condition) null);
+			Assertions.assertEquals(3, rows.size());
+			rows.forEach(row -> Assertions.assertFalse(row.isLoaded("body")));
+
+			// Значения загружаются при первом обращении сразу для всех Строк
+			Assertions.assertTrue(rows.get(0).getValue("body").isPresent());
+			rows.forEach(row -> Assertions.assertTrue(row.isLoaded("body")));
+			// Отложенные значения читаются так же, как и обычные (строкой, а не объектом Clob) и сопоставляются своим Строкам
+			rows.forEach(row -> Assertions.assertEquals("Body of note " + ((String) row.getValue("id").orElse("")).substring("note-".length()),
+			                                            row.getValue("body").orElse(null)));
+		} finally {
+			databaseStorage.deleteSpace("notes");
+		}
+	}
+
+	@Test
+	@DisplayName("Запись и чтение объемных значений потоками")
+	@Order(24)
+	void streamLargeValues() {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.VARCHAR);
+		id.setSize(36);
+		id.setNullable(false);
+
+		Column content = new Column();
+		content.setName("content");
+		content.setType(ColumnType.BYTEA);
+		content.setNullable(true);
+
+		Column text = new Column();
+		text.setName("text");
+		text.setType(ColumnType.TEXT);
+		text.setNullable(true);
+
+		databaseStorage.createSpace("attachments", null, Arrays.asList(id, content, text));
+		Table attachmentsTable = databaseStorage.getSpace("attachments").orElseGet(() -> null);
+		Assertions.assertNotNull(attachmentsTable);
+		try {
+			byte[] bytes = new byte[64 * 1024];
+			new Random(42).nextBytes(bytes);
+			StringBuilder sb = new StringBuilder();
+			while (sb.length() < 64 * 1024) {
+				sb.append("Streamed text ");
+			}
+			String string = sb.toString();
+
+			Row row = new Row(attachmentsTable.getProperties());
+			row.setValue("id", "attachment");
+			row.setValue("content", new ByteArrayInputStream(bytes));
+			row.setValue("text", new StringReader(string));
+			attachmentsTable.createElement(row);
+
+			Row key = new Row(attachmentsTable.getProperties());
+			key.setValue("id", "attachment");
+			byte[] readBytes = attachmentsTable.readBinaryStream(key, "content", stream -> {
+				ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+				byte[] buffer = new byte[4096];
+				int length;
+				while ((length = stream.read(buffer)) != -1) {
+					outputStream.write(buffer, 0, length);
+				}
+				return outputStream.toByteArray();
+			});
+			Assertions.assertArrayEquals(bytes, readBytes);
+
+			String readString = attachmentsTable.readCharacterStream(key, "text", reader -> {
+				StringBuilder result = new StringBuilder();
+				char[] buffer = new char[4096];
+				int length;
+				while ((length = reader.read(buffer)) != -1) {
+					result.append(buffer, 0, length);
+				}
+				return result.toString();
+			});
+			Assertions.assertEquals(string, readString);
+
+			// Исключение обработчика передается вызывающему в качестве причины ReadRowException
+			IOException failure = new IOException("Stream handler failure");
+			ReadRowException error = Assertions.assertThrows(ReadRowException.class, () -> attachmentsTable.readBinaryStream(key, "content", stream -> {
+				throw failure;
+			}));
+			Assertions.assertSame(failure, error.getCause());
+		} finally {
+			databaseStorage.deleteSpace("attachments");
+		}
+	}
+
+	@Test
+	@DisplayName("Удаление по пустым группам условий")
+	@Order(25)
+	void deleteRowsByEmptyGroups() {
+		for (int version = 1; version <= 2; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Guarded task");
+			row.setValue("version", version);
+			table.createElement(row);
+		}
+
+		try {
+			long count = table.getElementsCount((Condition) null);
+
+			// Пустая группа OR не совпадает ни с одной Строкой
+			table.deleteElements(Condition.or());
+			Assertions.assertEquals(count, table.getElementsCount((Condition) null));
+
+			// Пустая группа AND и отрицание пустой группы не преобразуются в SQL и не удаляют все Строки
+			Assertions.assertThrows(DeleteRowException.class, () -> table.deleteElements(Condition.and()));
+			Assertions.assertThrows(DeleteRowException.class, () -> table.deleteElements(Condition.not(Condition.or())));
+			Assertions.assertThrows(DeleteRowException.class, () -> table.deleteElements(Condition.and(Condition.equal("name", "Guarded task"), Condition.not(Condition.and()))));
+			Assertions.assertEquals(count, table.getElementsCount((Condition) null));
+
+			// Условие BETWEEN должно содержать ровно 2 значения
+			ColumnCondition between = new ColumnCondition("version", ConditionOperator.BETWEEN, Collections.<Object>singletonList(1));
+			Assertions.assertThrows(DeleteRowException.class, () -> table.deleteElements(between));
+			Assertions.assertEquals(count, table.getElementsCount((Condition) null));
+		} finally {
+			table.deleteElements(Condition.equal("name", "Guarded task"));
+		}
+	}
+
+	@Test
+	@DisplayName("Формирование JSON-условий для разных СУБД")
+	@Order(26)
+	void buildJsonConditions() {
+		Condition pathEqual = Condition.jsonPathEqual("description", Arrays.asList("a", "b"), Collections.singletonMap("c", 1));
+
+		// PostgreSQL: равенство по пути через #>, вхождение фрагмента - для использования GIN-индекса
+		Pair<String, List<Object>> query = new PostgreSQLDatabaseQueryBuilder().queryForSelectRows("tasks", table.getProperties(), null, pathEqual, 0, 0);
+		Assertions.assertTrue(query.getFirst().endsWith("WHERE (description @> CAST(? AS jsonb) AND description #> ? = CAST(? AS jsonb))"), query.getFirst());
+		Assertions.assertEquals(3, query.getSecond().size());
+		Assertions.assertArrayEquals(new Object[]{"a", "b"}, ((SqlArray) query.getSecond().get(1)).getElements());
+
+		// SQLite: объект сравнивается по количеству и значениям ключей, а не по тексту
+		query = new SQLiteDatabaseQueryBuilder().queryForSelectRows("tasks", table.getProperties(), null, pathEqual, 0, 0);
+		Assertions.assertTrue(query.getFirst().contains("json_type(description, ?) = 'object' AND (SELECT COUNT(*) FROM json_each(description, ?)) = ?"), query.getFirst());
+		Assertions.assertEquals("$.\"a\".\"b\"", query.getSecond().get(0));
+
+		// H2: условие вычисляется Java-функцией, путь и значение передаются JSON-текстом
+		query = new H2DatabaseQueryBuilder().queryForSelectRows("tasks", table.getProperties(), null, pathEqual, 0, 0);
+		Assertions.assertTrue(query.getFirst().endsWith("WHERE RDS_JSON_PATH_EQUAL(description, ?, ?)"), query.getFirst());
+		Assertions.assertEquals(Arrays.asList("[\"a\",\"b\"]", "{\"c\":1}"), query.getSecond());
+
+		// Общая реализация не умеет вычислять JSON-пути: условие не отбрасывается и не заменяется поиском по тексту
+		Assertions.assertThrows(IllegalArgumentException.class,
+		                        () -> new DefaultDatabaseQueryBuilder().queryForSelectRows("tasks", table.getProperties(), null, pathEqual, 0, 0));
+	}
+
+	// JSON-документы для проверки JSON-условий (номер документа - его идентификатор, начиная с 1)
+	private static final List<String> JSON_DOCUMENTS = Arrays.asList(
+			"{\"name\":\"a\",\"tags\":[\"x\",\"y\"],\"meta\":{\"level\":1,\"flags\":{\"hot\":true}}}",
+			"{\"name\":\"b\",\"tags\":[\"x\"],\"meta\":{\"flags\":{\"hot\":false},\"level\":2}}",
+			"{\"name\":\"c\",\"tags\":[],\"items\":[{\"k\":1,\"v\":\"p\"},{\"k\":2}]}",
+			"[1,2]",
+			"{\"name\":\"d\",\"meta\":null}");
+
+	// JSON-условия и идентификаторы документов, которые им соответствуют в PostgreSQL (операторы @>, #> и @? со строгим путем)
+	private static List<Pair<JsonCondition, List<Integer>>> jsonConditionCases() {
+		Map<String, Object> level2 = new LinkedHashMap<>();
+		level2.put("level", 2);
+		level2.put("flags", Collections.emptyMap());
+		Map<String, Object> meta2 = new LinkedHashMap<>();
+		meta2.put("level", 2);
+		meta2.put("flags", Collections.singletonMap("hot", false));
+		Map<String, Object> nameAndTags = new LinkedHashMap<>();
+		nameAndTags.put("name", "a");
+		nameAndTags.put("tags", Collections.singletonList("y"));
+		Map<String, Object> item = new LinkedHashMap<>();
+		item.put("k", 2);
+		item.put("v", "p");
+
+		List<Pair<JsonCondition, List<Integer>>> cases = new ArrayList<>();
+		// Массив содержит фрагмент-массив, если содержит каждый его элемент (порядок и количество не важны)
+		cases.add(new Pair<>(Condition.jsonContains("body", Collections.singletonMap("tags", Collections.singletonList("x"))), Arrays.asList(1, 2)));
+		cases.add(new Pair<>(Condition.jsonContains("body", Collections.singletonMap("tags", Arrays.asList("y", "x"))), Collections.singletonList(1)));
+		cases.add(new Pair<>(Condition.jsonContains("body", Collections.singletonMap("tags", Collections.emptyList())), Arrays.asList(1, 2, 3)));
+		// Пустой объект содержится в любом объекте
+		cases.add(new Pair<>(Condition.jsonContains("body", Collections.emptyMap()), Arrays.asList(1, 2, 3, 5)));
+		// Вложенные объекты сравниваются по ключам, а не по тексту
+		cases.add(new Pair<>(Condition.jsonContains("body", Collections.singletonMap("meta", Collections.singletonMap("flags", Collections.singletonMap("hot", true)))), Collections.singletonList(1)));
+		cases.add(new Pair<>(Condition.jsonContains("body", Collections.singletonMap("meta", level2)), Collections.singletonList(2)));
+		cases.add(new Pair<>(Condition.jsonContains("body", Collections.singletonMap("items", Collections.singletonList(Collections.singletonMap("k", 1)))), Collections.singletonList(3)));
+		cases.add(new Pair<>(Condition.jsonContains("body", Collections.singletonMap("items", Collections.singletonList(item))), Collections.emptyList()));
+		cases.add(new Pair<>(Condition.jsonContains("body", Collections.singletonMap("meta", null)), Collections.singletonList(5)));
+		cases.add(new Pair<>(Condition.jsonContains("body", nameAndTags), Collections.singletonList(1)));
+		// Фрагмент верхнего уровня - массив или скалярное значение
+		cases.add(new Pair<>(new JsonCondition("body", ConditionOperator.JSON_CONTAINS, null, Collections.singletonList(2)), Collections.singletonList(4)));
+		cases.add(new Pair<>(new JsonCondition("body", ConditionOperator.JSON_CONTAINS, null, 2), Collections.singletonList(4)));
+		// Равенство по пути: порядок ключей не важен, массивы сравниваются целиком
+		cases.add(new Pair<>(Condition.jsonPathEqual("body", Arrays.asList("meta", "level"), 1), Collections.singletonList(1)));
+		cases.add(new Pair<>(Condition.jsonPathEqual("body", Collections.singletonList("meta"), meta2), Collections.singletonList(2)));
+		cases.add(new Pair<>(Condition.jsonPathEqual("body", Collections.singletonList("tags"), Collections.singletonList("x")), Collections.singletonList(2)));
+		cases.add(new Pair<>(Condition.jsonPathEqual("body", Collections.singletonList("meta"), null), Collections.singletonList(5)));
+		cases.add(new Pair<>(Condition.jsonPathEqual("body", Collections.singletonList("name"), "a"), Collections.singletonList(1)));
+		// Наличие пути (в том числе со значением null)
+		cases.add(new Pair<>(Condition.jsonPathExists("body", Arrays.asList("meta", "flags")), Arrays.asList(1, 2)));
+		cases.add(new Pair<>(Condition.jsonPathExists("body", Collections.singletonList("meta")), Arrays.asList(1, 2, 5)));
+		cases.add(new Pair<>(Condition.jsonPathExists("body", Collections.singletonList("items")), Collections.singletonList(3)));
+		return cases;
+	}
+
+	@Test
+	@DisplayName("Отбор строк по JSON-условиям в H2 и SQLite")
+	@Order(29)
+	void selectRowsByJsonConditions() throws SQLException {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.INTEGER);
+		id.setNullable(false);
+
+		Column body = new Column();
+		body.setName("body");
+		body.setType(ColumnType.VARCHAR);
+		body.setSize(1000);
+		body.setNullable(true);
+
+		databaseStorage.createSpace("json_documents", null, Arrays.asList(id, body));
+		Table documentsTable = databaseStorage.getSpace("json_documents").orElseGet(() -> null);
+		Assertions.assertNotNull(documentsTable);
+		try (Connection connection = DriverManager.getConnection("jdbc:sqlite::memory:")) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("CREATE TABLE json_documents (id INTEGER PRIMARY KEY, body TEXT)");
+			}
+			for (int number = 1; number <= JSON_DOCUMENTS.size(); number++) {
+				Row row = new Row(documentsTable.getProperties());
+				row.setValue("id", number);
+				row.setValue("body", JSON_DOCUMENTS.get(number - 1));
+				documentsTable.createElement(row);
+				try (PreparedStatement preparedStatement = connection.prepareStatement("INSERT INTO json_documents (id, body) VALUES (?, ?)")) {
+					preparedStatement.setInt(1, number);
+					preparedStatement.setString(2, JSON_DOCUMENTS.get(number - 1));
+					preparedStatement.executeUpdate();
+				}
+			}
+
+			SQLiteDatabaseQueryBuilder sqliteQueryBuilder = new SQLiteDatabaseQueryBuilder();
+			for (Pair<JsonCondition, List<Integer>> jsonCase : jsonConditionCases()) {
+				JsonCondition condition = jsonCase.getFirst();
+				String description = condition.getOperator() + " " + condition.getPath() + " " + condition.getValue();
+
+				// H2: условие вычисляется зарегистрированными Java-функциями
+				List<Integer> h2Ids = documentsTable.getElements(condition).stream()
+				                                    .map(row -> ((Number) row.getValue("id").orElse(null)).intValue())
+				                                    .sorted()
+				                                    .collect(Collectors.toList());
+				Assertions.assertEquals(jsonCase.getSecond(), h2Ids, "H2: " + description);
+
+				// SQLite: условие вычисляется функциями json_type, json_extract и json_each
+				Pair<String, List<Object>> query = sqliteQueryBuilder.queryForSelectRows("json_documents", documentsTable.getProperties(), null, condition, 0, 0);
+				List<Integer> sqliteIds = new ArrayList<>();
+				try (PreparedStatement preparedStatement = connection.prepareStatement(query.getFirst() + " ORDER BY id")) {
+					for (int i = 0; i < query.getSecond().size(); i++) {
+						preparedStatement.setObject(i + 1, query.getSecond().get(i));
+					}
+					try (ResultSet resultSet = preparedStatement.executeQuery()) {
+						while (resultSet.next()) {
+							sqliteIds.add(resultSet.getInt("id"));
+						}
+					}
+				}
+				Assertions.assertEquals(jsonCase.getSecond(), sqliteIds, "SQLite: " + description);
+			}
+		} finally {
+			databaseStorage.deleteSpace("json_documents");
+		}
+	}
+
+	@Test
+	@DisplayName("Генерация числовых идентификаторов блоками")
+	@Order(27)
+	void generateIdsByBlocks() {
+		// Два генератора на одной последовательности (например, два экземпляра приложения) получают непересекающиеся блоки
+		HiLoGenerator firstGenerator = new HiLoGenerator(databaseStorage.getDataSource(), databaseStorage.getQueryBuilder(), "tasks_hilo_seq", 10);
+		HiLoGenerator secondGenerator = new HiLoGenerator(databaseStorage.getDataSource(), databaseStorage.getQueryBuilder(), "tasks_hilo_seq", 10);
+		List<Long> firstValues = new ArrayList<>();
+		List<Long> secondValues = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			firstValues.add(firstGenerator.nextValue());
+			secondValues.add(secondGenerator.nextValue());
+		}
+		Set<Long> allValues = new HashSet<>(firstValues);
+		allValues.addAll(secondValues);
+		Assertions.assertEquals(50, allValues.size());
+		for (List<Long> values : Arrays.asList(firstValues, secondValues)) {
+			// Внутри блока значения идут подряд, блок начинается с кратного размеру блока значения
+			for (int from = 0; from < values.size(); from += 10) {
+				Assertions.assertEquals(0, values.get(from) % 10);
+				for (int i = from + 1; i < Math.min(from + 10, values.size()); i++) {
+					Assertions.assertEquals(values.get(i - 1) + 1, (long) values.get(i));
+				}
+			}
+		}
+
+		// Название последовательности подставляется в текст запроса, поэтому проверяется
+		Assertions.assertEquals("SELECT nextval('public.tasks_hilo_seq')", new PostgreSQLDatabaseQueryBuilder().queryForNextSequenceValue("public.tasks_hilo_seq"));
+		Assertions.assertThrows(IllegalArgumentException.class, () -> new PostgreSQLDatabaseQueryBuilder().queryForNextSequenceValue("tasks_hilo_seq'); DROP TABLE tasks; --"));
+		HiLoGenerator invalidGenerator = new HiLoGenerator(databaseStorage.getDataSource(), databaseStorage.getQueryBuilder(), "tasks hilo seq", 10);
+		Assertions.assertThrows(IllegalArgumentException.class, invalidGenerator::nextValue);
+	}
+
+	@Test
+	@DisplayName("Объем памяти, выделяемой при обходе строк через курсор")
+	@Order(28)
+	void scanRowsAllocation() throws Exception {
+		ThreadMXBean threadMXBean = ManagementFactory.getPlatformMXBean(ThreadMXBean.class);
+		Assumptions.assumeTrue(threadMXBean != null && threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled(),
+		                       "Измерение выделяемой памяти не поддерживается JVM");
+
+		int rowCount = 10000;
+		List<Row> rows = new ArrayList<>();
+		for (int version = 1; version <= rowCount; version++) {
+			Row row = new Row(table.getProperties());
+			row.setValue("id", UUID.randomUUID().toString());
+			row.setValue("name", "Measured task");
+			row.setValue("version", version);
+			rows.add(row);
+		}
+		table.createElements(rows);
+
+		try {
+			Condition condition = Condition.equal("name", "Measured task");
+			List<String> columnNames = Collections.singletonList("version");
+			long expectedSum = (long) rowCount * (rowCount + 1) / 2;
+			long threadId = Thread.currentThread().getId();
+			long scanBytes = Long.MAX_VALUE;
+			long jdbcBytes = Long.MAX_VALUE;
+			// Первые проходы прогревают JIT, учитывается наименьший объем из нескольких проходов
+			for (int pass = 0; pass < 5; pass++) {
+				long[] sum = new long[1];
+				long before = threadMXBean.getThreadAllocatedBytes(threadId);
+				table.scan(columnNames, condition, 500, cursor -> sum[0] += cursor.getLong(0));
+				scanBytes = Math.min(scanBytes, threadMXBean.getThreadAllocatedBytes(threadId) - before);
+				Assertions.assertEquals(expectedSum, sum[0]);
+
+				// Тот же запрос напрямую через JDBC: память, которую выделяет сам драйвер (H2 создает объекты значений для каждой Строки)
+				before = threadMXBean.getThreadAllocatedBytes(threadId);
+				sum[0] = 0;
+				try (Connection connection = table.getDataSource().getConnection()) {
+					connection.setAutoCommit(false);
+					try (PreparedStatement preparedStatement = connection.prepareStatement("SELECT version FROM " + table.getName() + " WHERE name = ?")) {
+						preparedStatement.setFetchSize(500);
+						preparedStatement.setString(1, "Measured task");
+						try (ResultSet resultSet = preparedStatement.executeQuery()) {
+							while (resultSet.next()) {
+								sum[0] += resultSet.getLong(1);
+							}
+						}
+					} finally {
+						connection.rollback();
+						connection.setAutoCommit(true);
+					}
+				}
+				jdbcBytes = Math.min(jdbcBytes, threadMXBean.getThreadAllocatedBytes(threadId) - before);
+				Assertions.assertEquals(expectedSum, sum[0]);
+			}
+			// Сверх драйвера курсор выделяет в среднем меньше одного объекта на Строку (Строка со словарем значений - сотни байт)
+			long bytesPerRow = Math.max(0, scanBytes - jdbcBytes) / rowCount;
+			Assertions.assertTrue(bytesPerRow < 16,
+			                      String.format("Обход курсором: %d байт, JDBC: %d байт, %d байт на Строку сверх драйвера", scanBytes, jdbcBytes, bytesPerRow));
+		} finally {
+			table.deleteElements(Condition.equal("name", "Measured task"));
+		}
+	}
+
+
+	// Статус задачи: хранится в БД строкой в нижнем регистре, в Строке - значением перечисления
+	enum TaskStatus {
+		NEW,
+		DONE
+	}
+
+	// Тип Колонки с собственным кодеком: значения перечисления передаются в БД и получаются из БД через кодек
+	private static ColumnType taskStatusType() {
+		ColumnType type = new ColumnType();
+		type.setTypeCode(Types.VARCHAR);
+		type.setTypeName("VARCHAR");
+		type.setSizeable(true);
+		type.setCodec(new ColumnCodec() {
+			@Override
+			public void bind(PreparedStatement preparedStatement, int index, Object value) throws SQLException {
+				if (value == null) {
+					preparedStatement.setNull(index, Types.VARCHAR);
+				} else {
+					preparedStatement.setString(index, ((TaskStatus) value).name().toLowerCase());
+				}
+			}
+
+			@Override
+			public Object read(ResultSet resultSet, int index) throws SQLException {
+				String value = resultSet.getString(index);
+				return value != null ? TaskStatus.valueOf(value.toUpperCase()) : null;
+			}
+		});
+		return type;
+	}
+
+	@Test
+	@DisplayName("Обновление, отбор и группировка строк через кодек типа колонки")
+	@Order(30)
+	void bindAndReadThroughColumnCodec() throws SQLException {
+		Column id = new Column();
+		id.setName("id");
+		id.setPrimaryKey(true);
+		id.setType(ColumnType.VARCHAR);
+		id.setSize(36);
+		id.setNullable(false);
+
+		Column status = new Column();
+		status.setName("status");
+		status.setType(ColumnType.VARCHAR);
+		status.setSize(16);
+		status.setNullable(true);
+
+		databaseStorage.createSpace("status_tasks", null, Arrays.asList(id, status));
+		status.setType(taskStatusType());
+		Table statusTable = new Table(databaseStorage.getDataSource(), databaseStorage.getQueryBuilder(), "status_tasks", Arrays.asList(id, status));
+		try {
+			for (int number = 1; number <= 3; number++) {
+				Row row = new Row(statusTable.getProperties());
+				row.setValue("id", "status-" + number);
+				row.setValue("status", TaskStatus.NEW);
+				statusTable.createElement(row);
+			}
+			Assertions.assertEquals("new", readStatus("status-1"));
+
+			// Обновление по условию: и новое значение, и значение условия передаются через кодек
+			Row changes = new Row(statusTable.getProperties());
+			changes.setValue("status", TaskStatus.DONE);
+			statusTable.updateElements(changes, Condition.equal("status", TaskStatus.NEW));
+			Assertions.assertEquals("done", readStatus("status-1"));
+
+			// Обновление одной Строки по первичному ключу
+			Row row = statusTable.getElements(Condition.equal("id", "status-2")).get(0);
+			Assertions.assertEquals(TaskStatus.DONE, row.getValue("status").orElse(null));
+			row.setValue("status", TaskStatus.NEW);
+			Assertions.assertTrue(statusTable.updateElement(row));
+			Assertions.assertEquals("new", readStatus("status-2"));
+
+			// Пакетное обновление по первичному ключу
+			Row batchRow = new Row(statusTable.getProperties());
+			batchRow.setValue("id", "status-3");
+			batchRow.setValue("status", TaskStatus.NEW);
+			Assertions.assertEquals(1, statusTable.updateElementsById(Collections.singletonList(batchRow)));
+			Assertions.assertEquals("new", readStatus("status-3"));
+
+			// Отбор по значениям перечисления (равенство и IN)
+			List<Row> newRows = statusTable.getElements(Condition.equal("status", TaskStatus.NEW));
+			Assertions.assertEquals(2, newRows.size());
+			Assertions.assertEquals(3, statusTable.getElements(Condition.in("status", Arrays.asList(TaskStatus.NEW, TaskStatus.DONE))).size());
+
+			// Значения Колонок группировки получаются через кодек
+			List<Row> groups = statusTable.aggregate(Collections.singletonList("status"), Collections.singletonList(Aggregate.count("total")),
+			                                         Condition.notEqual("status", TaskStatus.DONE));
+			Assertions.assertEquals(1, groups.size());
+			Assertions.assertEquals(TaskStatus.NEW, groups.get(0).getValue("status").orElse(null));
+			Assertions.assertEquals(2L, ((Number) groups.get(0).getValue("total").orElse(null)).longValue());
+		} finally {
+			databaseStorage.deleteSpace("status_tasks");
+		}
+	}
+
+	// Значение статуса в том виде, в котором оно хранится в БД
+	private static String readStatus(String id) throws SQLException {
+		try (Connection connection = databaseStorage.getDataSource().getConnection();
+		     PreparedStatement preparedStatement = connection.prepareStatement("SELECT status FROM status_tasks WHERE id = ?")) {
+			preparedStatement.setString(1, id);
+			try (ResultSet resultSet = preparedStatement.executeQuery()) {
+				Assertions.assertTrue(resultSet.next());
+				return resultSet.getString(1);
+			}
+		}
+	}
+
 }
@@ -0,0 +1,78 @@
+package ru.rds.data.database.async;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.*;
+
+/**
+ * Проверка исполнителей в собранном multi-release JAR: при запуске на Java 21 и выше
+ * должна использоваться реализация из <code>META-INF/versions/21</code>
+ */
+@DisplayName("Тестирование AsyncExecutors в multi-release JAR")
+public class AsyncExecutorsIT {
+
+	@Test
+	@DisplayName("Выбор реализации по версии Java")
+	void virtualThreadsByJavaVersion() throws Exception {
+		boolean java21 = !System.getProperty("java.specification.version").startsWith("1.")
+				&& Integer.parseInt(System.getProperty("java.specification.version")) >= 21;
+		Assertions.assertEquals(java21, AsyncExecutors.isVirtualThreads());
+
+		if (java21) {
+			Method isVirtual = Thread.class.getMethod("isVirtual");
+			Assertions.assertTrue((Boolean) CompletableFuture.supplyAsync(() -> invoke(isVirtual), AsyncExecutors.defaultExecutor()).get(10, TimeUnit.SECONDS));
+			ExecutorService executor = AsyncExecutors.newExecutor(2);
+			try {
+				Assertions.assertTrue((Boolean) CompletableFuture.supplyAsync(() -> invoke(isVirtual), executor).get(10, TimeUnit.SECONDS));
+			} finally {
+				executor.shutdown();
+			}
+		}
+	}
+
+	@Test
+	@DisplayName("Ограничение количества одновременных операций исполнителя")
+	void newExecutorHonoursThreads() throws Exception {
+		ExecutorService executor = AsyncExecutors.newExecutor(2);
+		AtomicInteger running = new AtomicInteger();
+		AtomicInteger maxRunning = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(2);
+		List<CompletableFuture<Void>> futures = new ArrayList<>();
+		try {
+			for (int i = 0; i < 8; i++) {
+				futures.add(CompletableFuture.runAsync(() -> {
+					maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+					started.countDown();
+					try {
+						// Задачи удерживают поток, пока не запустятся хотя бы две, чтобы превышение ограничения было заметно
+						started.await(10, TimeUnit.SECONDS);
+						Thread.sleep(20);
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					} finally {
+						running.decrementAndGet();
+					}
+				}, executor));
+			}
+			CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(30, TimeUnit.SECONDS);
+		} finally {
+			executor.shutdown();
+		}
+		Assertions.assertEquals(2, maxRunning.get());
+	}
+
+	private static Object invoke(Method method) {
+		try {
+			return method.invoke(Thread.currentThread());
+		} catch (ReflectiveOperationException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+}